@@ -0,0 +1,86 @@
+package com.resumebuddy.config;
+
+import com.resumebuddy.service.AdmissionControlService;
+import com.resumebuddy.service.AdmissionControlService.Rejection;
+import com.resumebuddy.service.AdmissionControlService.WorkClass;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.regex.Pattern;
+
+/**
+ * Applies admission control to upload, parse and analyze requests.
+ * Rejected requests get 429 (queue full) or 503 (timed out / DB pool saturated) with Retry-After.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String WORK_CLASS_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".workClass";
+
+    private static final Pattern UPLOAD_PATH = Pattern.compile("^/api/resumes/upload$");
+    private static final Pattern PARSE_PATH = Pattern.compile("^/api/resumes/[^/]+/parse$");
+    private static final Pattern ANALYZE_PATH = Pattern.compile("^/api/resumes/[^/]+/analyze$");
+
+    private final AdmissionControlService admissionControlService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // Parse and analyze finish asynchronously: the dispatch that writes their result keeps the
+        // slot taken by the original one, and its afterCompletion releases it
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        WorkClass workClass = classify(request);
+        if (workClass == null) {
+            return true;
+        }
+
+        Rejection rejection = admissionControlService.tryAdmit(workClass);
+        if (rejection == null) {
+            request.setAttribute(WORK_CLASS_ATTRIBUTE, workClass);
+            return true;
+        }
+
+        HttpStatus status = rejection == Rejection.QUEUE_FULL ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(admissionControlService.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"success\":false,\"message\":\"" + workClass + " rejected: " + rejection + "\"}");
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object workClass = request.getAttribute(WORK_CLASS_ATTRIBUTE);
+        if (workClass != null) {
+            request.removeAttribute(WORK_CLASS_ATTRIBUTE);
+            admissionControlService.release((WorkClass) workClass);
+        }
+    }
+
+    private WorkClass classify(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (UPLOAD_PATH.matcher(path).matches()) {
+            return WorkClass.UPLOAD;
+        }
+        if (PARSE_PATH.matcher(path).matches()) {
+            return WorkClass.PARSE;
+        }
+        if (ANALYZE_PATH.matcher(path).matches()) {
+            return WorkClass.ANALYZE;
+        }
+        return null;
+    }
+}
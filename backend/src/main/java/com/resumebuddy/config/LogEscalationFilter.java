@@ -0,0 +1,79 @@
+package com.resumebuddy.config;
+
+import com.resumebuddy.service.logging.RequestLogTurboFilter;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses the log mode for a request: "debug" when the caller asks for it with the
+ * X-Log-Level header or a log-level=debug baggage entry on the trace, otherwise "sql"
+ * for a sampled fraction of requests. Runs after the tracing filter so baggage is available.
+ * Both come from the caller, so escalation is honoured only with app.logging.escalation-enabled,
+ * which is off in production unless the service is reachable from trusted clients only.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LogEscalationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Log-Level";
+    public static final String BAGGAGE_FIELD = "log-level";
+
+    private final ObjectProvider<Tracer> tracer;
+    private final double sqlSampleRate;
+    private final boolean escalationEnabled;
+
+    public LogEscalationFilter(ObjectProvider<Tracer> tracer,
+                               @Value("${app.logging.sql-sample-rate:0}") double sqlSampleRate,
+                               @Value("${app.logging.escalation-enabled:false}") boolean escalationEnabled) {
+        this.tracer = tracer;
+        this.sqlSampleRate = sqlSampleRate;
+        this.escalationEnabled = escalationEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String mode = resolveMode(request);
+        if (mode == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MDC.put(RequestLogTurboFilter.MDC_KEY, mode);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(RequestLogTurboFilter.MDC_KEY);
+        }
+    }
+
+    private String resolveMode(HttpServletRequest request) {
+        if (escalationEnabled
+            && (RequestLogTurboFilter.MODE_DEBUG.equalsIgnoreCase(request.getHeader(HEADER))
+                || RequestLogTurboFilter.MODE_DEBUG.equalsIgnoreCase(baggageLogLevel()))) {
+            return RequestLogTurboFilter.MODE_DEBUG;
+        }
+        if (sqlSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sqlSampleRate) {
+            return RequestLogTurboFilter.MODE_SQL;
+        }
+        return null;
+    }
+
+    private String baggageLogLevel() {
+        Tracer current = tracer.getIfAvailable();
+        return current != null ? current.getBaggage(BAGGAGE_FIELD).get() : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.resumebuddy.config;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.PromptResourceHints.class)
+public class NativeHintsConfig {
+
+    // Prompt templates are read from the classpath; a native image only contains registered resources
+    static class PromptResourceHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("prompts/*.txt");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.resumebuddy.config;
+
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import com.resumebuddy.service.statements.StatementBudget;
+import com.resumebuddy.service.statements.StatementBudgetInterceptor;
+import com.resumebuddy.service.statements.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * SQL statement counting: the Hibernate statement inspector behind per-request counts and
+ * the advisor that enforces {@link StatementBudget} on service and controller methods.
+ */
+@Configuration
+public class StatementBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        StatementCounter statementCounter = new StatementCounter();
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor statementBudgetAdvisor(ObjectProvider<PipelineMetrics> pipelineMetrics,
+                                          @Value("${app.statements.budget-mode:warn}") String budgetMode) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            AnnotationMatchingPointcut.forMethodAnnotation(StatementBudget.class),
+            new StatementBudgetInterceptor(pipelineMetrics, "fail".equalsIgnoreCase(budgetMode)));
+        // Outside @Transactional, so the flush at commit is counted; fail mode therefore throws after commit
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,69 @@
+package com.resumebuddy.config;
+
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import com.resumebuddy.service.statements.StatementCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Records the number of SQL statements each API request prepares, per endpoint, and warns when
+ * one statement repeats often enough within a request to suggest an N+1 lazy load.
+ */
+@Slf4j
+@Component
+public class StatementCountInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = StatementCountInterceptor.class.getName() + ".start";
+
+    private final PipelineMetrics pipelineMetrics;
+    private final int repeatedStatementThreshold;
+
+    public StatementCountInterceptor(PipelineMetrics pipelineMetrics,
+                                     @Value("${app.statements.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        this.pipelineMetrics = pipelineMetrics;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, StatementCounter.current());
+        StatementCounter.startTracking();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The rest of the request runs on another thread, where this thread's count means nothing
+        request.removeAttribute(START_ATTRIBUTE);
+        StatementCounter.stopTracking();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        Map<String, Integer> bySql = StatementCounter.stopTracking();
+        if (start == null) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        long statements = StatementCounter.current() - (Long) start;
+        pipelineMetrics.recordRequestStatements(request.getMethod(), uri, statements);
+
+        bySql.forEach((sql, count) -> {
+            if (count >= repeatedStatementThreshold) {
+                log.warn("Possible N+1 in {} {}: statement ran {} times: {}", request.getMethod(), uri, count, sql);
+                pipelineMetrics.countRepeatedStatement(request.getMethod(), uri);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.resumebuddy.config;
+
+import com.resumebuddy.service.tracing.FileSpanExporter;
+import com.resumebuddy.service.tracing.RepositoryTracingInterceptor;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Tracing beyond what Spring Boot instruments out of the box (HTTP server and WebClient calls):
+ * a span per repository method, and an optional span file next to the OTLP exporter.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    static BeanPostProcessor repositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            new RepositoryTracingInterceptor(repositoryInformation.getRepositoryInterface(), tracer))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Picked up by Spring Boot's span processor together with the OTLP exporter, if one is configured
+    @Bean
+    @ConditionalOnExpression("!'${app.tracing.file:}'.isEmpty()")
+    public SpanExporter fileSpanExporter(@Value("${app.tracing.file}") String file) throws IOException {
+        return new FileSpanExporter(Path.of(file));
+    }
+}
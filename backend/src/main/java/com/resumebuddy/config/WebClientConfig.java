@@ -0,0 +1,48 @@
+package com.resumebuddy.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    @Value("${app.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${app.http.read-timeout:120s}")
+    private Duration readTimeout;
+
+    @Value("${app.http.max-connections:500}")
+    private int maxConnections;
+
+    @Value("${app.http.max-idle-time:4s}")
+    private Duration maxIdleTime;
+
+    // Built from the auto-configured builder so outgoing calls are recorded as http.client.requests
+    // and carry the trace context. Reactor Netty waits for responses on a few event loop threads,
+    // so hundreds of slow LLM calls in flight hold connections but no threads
+    @Bean
+    public WebClient webClient(WebClient.Builder webClientBuilder) {
+        ConnectionProvider connections = ConnectionProvider.builder("outgoing")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(-1)
+            .pendingAcquireTimeout(readTimeout)
+            // Closed before the server drops them, or a request can go out on a connection already closed
+            .maxIdleTime(maxIdleTime)
+            .evictInBackground(maxIdleTime)
+            .build();
+        HttpClient httpClient = HttpClient.create(connections)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            // Longest gap between reads of a response, not a limit on the whole exchange
+            .responseTimeout(readTimeout);
+        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+}
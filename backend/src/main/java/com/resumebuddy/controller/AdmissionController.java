@@ -0,0 +1,29 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.service.AdmissionControlService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admission")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "Admission Control", description = "Limits and current occupancy for upload, parse and analyze work")
+public class AdmissionController {
+
+    private final AdmissionControlService admissionControlService;
+
+    @GetMapping
+    @Operation(summary = "Admission stats", description = "Configured limits, in-flight and queued work per class, and DB pool usage")
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() {
+        return ResponseEntity.ok(Map.of(
+            "workClasses", admissionControlService.getStats(),
+            "dbPool", admissionControlService.getDbPoolStats()
+        ));
+    }
+}
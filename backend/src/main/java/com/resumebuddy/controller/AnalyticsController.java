@@ -0,0 +1,67 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.model.dto.AnalyticsSummaryDto;
+import com.resumebuddy.model.dto.CountDto;
+import com.resumebuddy.service.analytics.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Aggregates across all resumes, maintained incrementally")
+public class AnalyticsController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/summary")
+    @Operation(summary = "Corpus summary", description = "Resume totals, status counts and skills-per-resume histogram")
+    public ResponseEntity<AnalyticsSummaryDto> getSummary() {
+        return ResponseEntity.ok(analyticsService.getSummary());
+    }
+
+    @GetMapping("/statuses")
+    @Operation(summary = "Resumes per status", description = "Number of resumes in each ResumeStatus")
+    public ResponseEntity<Map<String, Long>> getStatusCounts() {
+        return ResponseEntity.ok(analyticsService.getStatusCounts());
+    }
+
+    @GetMapping("/skills/top")
+    @Operation(summary = "Top skills", description = "Skills listed by the most analyzed resumes")
+    public ResponseEntity<List<CountDto>> getTopSkills(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(analyticsService.getTopSkills(limit));
+    }
+
+    @GetMapping("/skills/categories")
+    @Operation(summary = "Skill categories", description = "Number of analyzed resumes per skill category")
+    public ResponseEntity<List<CountDto>> getSkillCategories(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(analyticsService.getSkillCategories(limit));
+    }
+
+    @GetMapping("/certifications")
+    @Operation(summary = "Certification distribution", description = "Number of analyzed resumes per certification and per issuing organization")
+    public ResponseEntity<Map<String, List<CountDto>>> getCertifications(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(Map.of(
+            "certifications", analyticsService.getTopCertifications(limit),
+            "issuers", analyticsService.getTopCertificationIssuers(limit)
+        ));
+    }
+}
@@ -0,0 +1,58 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.service.classifier.LineClassifierService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/classifier")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "Line Classifier", description = "Local line classifier trained from past LLM labels")
+public class ClassifierController {
+
+    private final LineClassifierService lineClassifierService;
+
+    @PostMapping("/train")
+    @Operation(summary = "Train line classifier", description = "Train from all analyzed lines, save the model file and start using it")
+    public ResponseEntity<Map<String, Object>> train() {
+        try {
+            return ResponseEntity.ok(lineClassifierService.train());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error training line classifier", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                "success", false,
+                "message", "Error training classifier: " + e.getMessage()
+            ));
+        }
+    }
+
+    @PostMapping("/reload")
+    @Operation(summary = "Reload line classifier", description = "Load the model file again, e.g. after offline training")
+    public ResponseEntity<Map<String, Object>> reload() {
+        try {
+            return ResponseEntity.ok(lineClassifierService.reload());
+        } catch (Exception e) {
+            log.error("Error reloading line classifier", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                "success", false,
+                "message", "Error reloading classifier: " + e.getMessage()
+            ));
+        }
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Line classifier stats", description = "Mode, model info and agreement with the LLM since the model was loaded")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(lineClassifierService.getStats());
+    }
+}
@@ -0,0 +1,35 @@
+package com.resumebuddy.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Hands a Mono to Spring MVC as an async result, so the request thread goes back to Tomcat
+ * while the work is in flight. Past the timeout the request is answered 503 and the subscription
+ * cancelled, aborting any outgoing LLM or Docling call. It is also cancelled when the container
+ * reports an error on the request; Tomcat does not notice an idle client disconnecting, so the
+ * timeout is what bounds work nobody is waiting for.
+ */
+@Component
+class DeferredResults {
+
+    private final long timeoutMillis;
+
+    DeferredResults(@Value("${app.async.request-timeout:5m}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    <T> DeferredResult<T> of(Mono<T> work) {
+        DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+        // Capture the request's trace context, which is restored on the threads that continue the work
+        Disposable subscription = work.contextCapture().subscribe(result::setResult, result::setErrorResult);
+        result.onTimeout(subscription::dispose);
+        result.onError(error -> subscription.dispose());
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.model.dto.DoclingEndpointStatsDto;
+import com.resumebuddy.service.DoclingEndpointPool;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/docling")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "Docling", description = "Docling parser instance routing and health")
+public class DoclingController {
+
+    private final DoclingEndpointPool doclingEndpointPool;
+
+    @GetMapping("/endpoints")
+    @Operation(summary = "Docling endpoint stats", description = "Health, queue depth and latency for each configured Docling instance")
+    public ResponseEntity<List<DoclingEndpointStatsDto>> getEndpointStats() {
+        return ResponseEntity.ok(doclingEndpointPool.getStats());
+    }
+}
@@ -0,0 +1,41 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.model.dto.DuplicateClusterDto;
+import com.resumebuddy.model.dto.DuplicateMatchDto;
+import com.resumebuddy.service.dedup.NearDuplicateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/duplicates")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "Duplicates", description = "Near-duplicate resume detection")
+public class DuplicateController {
+
+    private final NearDuplicateService nearDuplicateService;
+
+    @GetMapping("/clusters")
+    @Operation(summary = "List duplicate clusters", description = "Groups of resumes whose content is near-identical, largest first")
+    public ResponseEntity<List<DuplicateClusterDto>> getClusters() {
+        return ResponseEntity.ok(nearDuplicateService.getClusters());
+    }
+
+    @GetMapping("/{resumeId}")
+    @Operation(summary = "Near-duplicates of a resume", description = "Resumes above the similarity threshold, most similar first")
+    public ResponseEntity<List<DuplicateMatchDto>> getNearDuplicates(@PathVariable String resumeId) {
+        return ResponseEntity.ok(nearDuplicateService.findNearDuplicates(resumeId));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Near-duplicate index stats", description = "Size and LSH parameters of the near-duplicate index")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(nearDuplicateService.getStats());
+    }
+}
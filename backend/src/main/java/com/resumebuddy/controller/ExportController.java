@@ -0,0 +1,70 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.service.export.ExportDataset;
+import com.resumebuddy.service.export.ExportFormat;
+import com.resumebuddy.service.export.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = "X-Export-Until")
+@RequiredArgsConstructor
+@Tag(name = "Export", description = "Bulk export of resumes, lines and structured analysis")
+public class ExportController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ExportService exportService;
+
+    @GetMapping
+    @Operation(summary = "List export datasets", description = "Names accepted by GET /api/export/{dataset}")
+    public ResponseEntity<List<String>> listDatasets() {
+        return ResponseEntity.ok(Arrays.stream(ExportDataset.values()).map(ExportDataset::fileName).toList());
+    }
+
+    @GetMapping("/{dataset}")
+    @Operation(summary = "Stream a dataset",
+        description = "NDJSON or CSV, optionally gzipped. Pass the X-Export-Until header of the previous export as since for an incremental pull")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        ExportDataset exportDataset = ExportDataset.fromName(dataset);
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        if (exportDataset == null || exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocalDateTime until = exportService.exportUntil();
+        if (since != null && !since.isBefore(until)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String fileName = exportDataset.fileName() + "-" + until.format(FILE_TIMESTAMP) + "." + exportFormat.getExtension()
+            + (gzip ? ".gz" : "");
+        log.info("Starting export of {} as {} (since={}, until={})", exportDataset.fileName(), fileName, since, until);
+
+        StreamingResponseBody body = out -> exportService.export(exportDataset, exportFormat, since, until, gzip, out);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .header("X-Export-Until", until.toString())
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+            .body(body);
+    }
+}
@@ -0,0 +1,69 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.model.dto.ImportEntryDto;
+import com.resumebuddy.model.dto.ImportJobDto;
+import com.resumebuddy.service.importer.BulkImportService;
+import com.resumebuddy.service.importer.ImportArchiveTooLargeException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/imports")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "Bulk Import", description = "Import a ZIP archive of resumes")
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping(consumes = {"application/zip", "application/octet-stream"})
+    @Operation(summary = "Start bulk import",
+        description = "Send the ZIP archive as the raw request body. Each PDF, DOCX, TXT or MD entry is uploaded, parsed and split into lines. Archives over app.import.max-archive-size are rejected with 413")
+    public ResponseEntity<ImportJobDto> startImport(
+            InputStream archive,
+            @RequestParam(defaultValue = "import.zip") String filename) {
+        log.info("Received bulk import request: {}", filename);
+
+        try {
+            return ResponseEntity.accepted().body(bulkImportService.submit(archive, filename));
+        } catch (ImportArchiveTooLargeException e) {
+            log.warn("Rejected import archive {}: {}", filename, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        } catch (Exception e) {
+            log.error("Error storing import archive {}", filename, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "List import jobs", description = "All import jobs with progress, newest first")
+    public ResponseEntity<List<ImportJobDto>> listImports() {
+        return ResponseEntity.ok(bulkImportService.listJobs());
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Import progress", description = "Status and entry counts of an import job")
+    public ResponseEntity<ImportJobDto> getImport(@PathVariable String jobId) {
+        return bulkImportService.getJob(jobId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{jobId}/manifest")
+    @Operation(summary = "Import manifest", description = "Per-file result of an import job: status, resume id and error message")
+    public ResponseEntity<List<ImportEntryDto>> getManifest(@PathVariable String jobId) {
+        if (bulkImportService.getJob(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(bulkImportService.getManifest(jobId));
+    }
+}
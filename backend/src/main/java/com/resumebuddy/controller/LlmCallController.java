@@ -0,0 +1,51 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.model.LlmCall;
+import com.resumebuddy.model.dto.LlmUsageReportDto;
+import com.resumebuddy.service.ledger.LlmCallLedger;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/llm-calls")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "LLM Usage", description = "Per-call ledger of LLM latency, tokens and cost")
+public class LlmCallController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final LlmCallLedger llmCallLedger;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Usage per model",
+        description = "p50/p95/p99 latency, tokens per line and estimated cost per model for calls in [from, to). Defaults to the last 24 hours")
+    public ResponseEntity<LlmUsageReportDto> getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+        if (!start.isBefore(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(llmCallLedger.getUsageReport(start, end));
+    }
+
+    @GetMapping("/resume/{resumeId}")
+    @Operation(summary = "Calls for a resume", description = "Most recent LLM calls made while analyzing a resume")
+    public ResponseEntity<List<LlmCall>> getCallsForResume(
+            @PathVariable String resumeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(llmCallLedger.getCallsForResume(resumeId, limit));
+    }
+}
@@ -4,6 +4,7 @@ import com.resumebuddy.model.dto.AnalysisResultDto;
 import com.resumebuddy.model.dto.LineAnalysisDto;
 import com.resumebuddy.model.dto.ResumeAnalysisDto;
 import com.resumebuddy.service.AIAnalysisService;
+import com.resumebuddy.service.AnalysisPipelineService;
 import com.resumebuddy.service.ResumeAnalysisService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,9 +12,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @RestController
@@ -23,41 +25,45 @@ import java.util.List;
 @Tag(name = "Resume Analysis", description = "AI-powered resume analysis and structured data extraction")
 public class ResumeAnalysisController {
 
-    private final AIAnalysisService aiAnalysisService;
+    private final AnalysisPipelineService analysisPipelineService;
     private final ResumeAnalysisService resumeAnalysisService;
+    private final DeferredResults deferredResults;
 
     @PostMapping("/{id}/analyze")
     @Operation(summary = "Analyze resume with AI", description = "Perform line-by-line AI analysis and extract structured data in a single operation")
-    public ResponseEntity<AnalysisResultDto> analyzeResume(@PathVariable String id) {
+    public DeferredResult<ResponseEntity<AnalysisResultDto>> analyzeResume(@PathVariable String id) {
         log.info("Received request to analyze resume ID: {}", id);
 
-        try {
-            List<LineAnalysisDto> analyses = aiAnalysisService.analyzeResume(id);
+        // The request thread is released while the LLM works
+        return deferredResults.of(analysisPipelineService.analyzeResume(id)
+            .map(analyses -> {
+                if (analyses.isEmpty()) {
+                    return ResponseEntity.badRequest().<AnalysisResultDto>build();
+                }
 
-            if (analyses.isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
+                AnalysisResultDto result = new AnalysisResultDto();
+                result.setResumeId(id);
+                result.setAnalyzedAt(LocalDateTime.now());
+                result.setTotalLines(analyses.size());
+                result.setAnalyzedLines(analyses.size());
+                result.setPreclassifiedLines((int) analyses.stream()
+                    .filter(analysis -> !AIAnalysisService.SOURCE_LLM.equals(analysis.getSource()))
+                    .count());
+                result.setLineAnalyses(analyses);
 
-            AnalysisResultDto result = new AnalysisResultDto();
-            result.setResumeId(id);
-            result.setAnalyzedAt(LocalDateTime.now());
-            result.setTotalLines(analyses.size());
-            result.setAnalyzedLines(analyses.size());
-            result.setLineAnalyses(analyses);
-
-            log.info("Successfully analyzed resume ID: {} with {} lines", id, analyses.size());
-            return ResponseEntity.ok(result);
-
-        } catch (Exception e) {
-            log.error("Error analyzing resume ID: {}", id, e);
-            return ResponseEntity.internalServerError().build();
-        }
+                log.info("Successfully analyzed resume ID: {} with {} lines", id, analyses.size());
+                return ResponseEntity.ok(result);
+            })
+            .onErrorResume(e -> {
+                log.error("Error analyzing resume ID: {}", id, e);
+                return Mono.just(ResponseEntity.internalServerError().build());
+            }));
     }
 
     @GetMapping("/{id}/structured-analysis")
     @Operation(summary = "Get structured analysis for a resume", description = "Returns structured resume analysis including contact info, experiences, skills, education, certifications, and projects")
     public ResponseEntity<ResumeAnalysisDto> getStructuredAnalysis(@PathVariable String id) {
-        log.info("Getting structured analysis for resume ID: {}", id);
+        log.debug("Getting structured analysis for resume ID: {}", id);
 
         ResumeAnalysisDto analysis = resumeAnalysisService.getStructuredAnalysis(id);
 
@@ -2,23 +2,26 @@ package com.resumebuddy.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumebuddy.model.Resume;
-import com.resumebuddy.model.ResumeStatus;
 import com.resumebuddy.model.dto.ParsedResume;
 import com.resumebuddy.repository.ResumeRepository;
-import com.resumebuddy.service.DoclingHttpService;
 import com.resumebuddy.service.FileStorageService;
-import com.resumebuddy.service.ResumeLineService;
+import com.resumebuddy.service.ResumeIngestionService;
+import com.resumebuddy.service.event.ResumeDeletedEvent;
+import com.resumebuddy.service.statements.StatementBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,9 +34,10 @@ import java.util.Optional;
 public class ResumeController {
 
     private final ResumeRepository resumeRepository;
-    private final DoclingHttpService doclingHttpService;
     private final FileStorageService fileStorageService;
-    private final ResumeLineService resumeLineService;
+    private final ResumeIngestionService resumeIngestionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeferredResults deferredResults;
 
     @GetMapping("/health")
     @Operation(summary = "Health check", description = "Check if the service is running")
@@ -46,7 +50,7 @@ public class ResumeController {
     public ResponseEntity<Resume> uploadResume(
             @RequestParam("file")
             @io.swagger.v3.oas.annotations.Parameter(
-                description = "Resume file to upload (PDF, DOCX, TXT)",
+                description = "Resume file to upload (PDF, DOCX, TXT, MD)",
                 content = @io.swagger.v3.oas.annotations.media.Content(
                     mediaType = "multipart/form-data"
                 )
@@ -63,30 +67,19 @@ public class ResumeController {
         String contentType = file.getContentType();
         if (contentType == null || (!contentType.equals("application/pdf")
                 && !contentType.equals("application/vnd.openxmlformats-officedocument.wordprocessingml.document")
-                && !contentType.equals("text/plain"))) {
+                && !contentType.equals("text/plain")
+                && !contentType.equals("text/markdown")
+                && !contentType.equals("text/x-markdown"))) {
             log.warn("Unsupported file type: {}", contentType);
             return ResponseEntity.badRequest().build();
         }
 
         try {
-            // Generate temporary ID for file storage
-            String tempId = java.util.UUID.randomUUID().toString();
-
-            // Store file first using temp ID
-            String filePath = fileStorageService.storeFile(file, tempId);
-
-            // Create resume entity with file path
-            Resume resume = new Resume();
-            resume.setFilename(file.getOriginalFilename());
-            resume.setContentType(file.getContentType());
-            resume.setFileSize(file.getSize());
-            resume.setFilePath(filePath);
-            resume.setStatus(ResumeStatus.UPLOADED.name());
-            // createdAt and updatedAt will be set automatically by JPA
-
-            // Save resume with file path
-            Resume savedResume = resumeRepository.save(resume);
-            log.info("Resume uploaded with ID: {} and status: {}", savedResume.getId(), savedResume.getStatus());
+            Resume savedResume;
+            try (InputStream content = file.getInputStream()) {
+                savedResume = resumeIngestionService.createResume(
+                    file.getOriginalFilename(), file.getContentType(), file.getSize(), content);
+            }
 
             // Create response without file path for security
             Resume responseResume = new Resume();
@@ -109,7 +102,7 @@ public class ResumeController {
     @GetMapping("/{id}")
     @Operation(summary = "Get resume", description = "Get resume by ID")
     public ResponseEntity<Resume> getResume(@PathVariable String id) {
-        log.info("Getting resume with ID: {}", id);
+        log.debug("Getting resume with ID: {}", id);
 
         Optional<Resume> resume = resumeRepository.findById(id);
         return resume.map(ResponseEntity::ok)
@@ -119,7 +112,7 @@ public class ResumeController {
     @GetMapping("/{id}/parsed")
     @Operation(summary = "Get parsed resume", description = "Get structured resume data by ID")
     public ResponseEntity<ParsedResume> getParsedResume(@PathVariable String id) {
-        log.info("Getting parsed resume with ID: {}", id);
+        log.debug("Getting parsed resume with ID: {}", id);
 
         Optional<Resume> resume = resumeRepository.findById(id);
         if (resume.isPresent() && resume.get().getParsedContent() != null) {
@@ -140,7 +133,7 @@ public class ResumeController {
     @GetMapping("/{id}/file")
     @Operation(summary = "Get resume file", description = "Download the original resume file")
     public ResponseEntity<byte[]> getResumeFile(@PathVariable String id) {
-        log.info("Getting file for resume ID: {}", id);
+        log.debug("Getting file for resume ID: {}", id);
 
         Optional<Resume> resume = resumeRepository.findById(id);
         if (resume.isPresent()) {
@@ -170,12 +163,12 @@ public class ResumeController {
 
     @PostMapping("/{id}/parse")
     @Operation(summary = "Parse resume", description = "Start parsing an uploaded resume")
-    public ResponseEntity<Resume> parseResume(@PathVariable String id) {
+    public DeferredResult<ResponseEntity<Resume>> parseResume(@PathVariable String id) {
         log.info("Starting parsing for resume ID: {}", id);
 
         Optional<Resume> resumeOpt = resumeRepository.findById(id);
         if (resumeOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
+            return deferredResults.of(Mono.just(ResponseEntity.notFound().build()));
         }
 
         Resume resume = resumeOpt.get();
@@ -186,52 +179,19 @@ public class ResumeController {
         //     return ResponseEntity.badRequest().build();
         // }
 
-        try {
-            // Set status to PARSING
-            resume.setStatus(ResumeStatus.PARSING.name());
-            // updatedAt will be set automatically by JPA
-            resumeRepository.save(resume);
-
-            // Create file URL for Docling service to fetch
-            String fileUrl = "http://localhost:8080/api/resumes/" + id + "/file";
-
-            // Parse with Docling HTTP service using URL
-            ParsedResume parsedResume = doclingHttpService.parseResumeFromUrl(fileUrl, resume.getId());
-
-            // Store the parsed content as JSON and update status
-            resume.setParsedContent(doclingHttpService.convertToJson(parsedResume));
-            resume.setStatus(ResumeStatus.PARSED.name());
-            // updatedAt will be set automatically by JPA
-
-            Resume savedResume = resumeRepository.save(resume);
-            log.info("Resume parsing completed for ID: {} with status: {}", savedResume.getId(), savedResume.getStatus());
-
-            // Process resume lines for TipTap integration
-            try {
-                resumeLineService.processResumeLines(savedResume.getId());
-                log.info("Successfully processed resume lines for ID: {}", savedResume.getId());
-            } catch (Exception lineProcessingError) {
-                log.error("Error processing resume lines for ID: {}", savedResume.getId(), lineProcessingError);
-                // Don't fail the whole parsing process if line processing fails
-            }
-
-            return ResponseEntity.ok(savedResume);
-        } catch (Exception e) {
-            log.error("Error parsing resume: ", e);
-
-            // Set status to FAILED
-            resume.setStatus(ResumeStatus.FAILED.name());
-            // updatedAt will be set automatically by JPA
-            resumeRepository.save(resume);
-
-            return ResponseEntity.internalServerError().build();
-        }
+        // The request thread is released while the document is parsed
+        return deferredResults.of(resumeIngestionService.parseAsync(resume)
+            .map(ResponseEntity::ok)
+            .onErrorResume(e -> {
+                log.error("Error parsing resume: ", e);
+                return Mono.just(ResponseEntity.internalServerError().build());
+            }));
     }
 
     @GetMapping
     @Operation(summary = "List resumes", description = "Get all resumes")
     public ResponseEntity<List<Resume>> listResumes() {
-        log.info("Listing all resumes");
+        log.debug("Listing all resumes");
 
         List<Resume> resumes = resumeRepository.findAll();
         return ResponseEntity.ok(resumes);
@@ -239,6 +199,7 @@ public class ResumeController {
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete resume", description = "Delete resume by ID")
+    @StatementBudget(11)  // Resume with its analysis, then the cascade loads its collections and the analysis' child lists
     public ResponseEntity<Void> deleteResume(@PathVariable String id) {
         log.info("Deleting resume with ID: {}", id);
 
@@ -258,6 +219,9 @@ public class ResumeController {
             resumeRepository.deleteById(id);
             log.info("Successfully deleted resume {} and associated file", id);
 
+            // Drop the resume from in-memory indexes
+            eventPublisher.publishEvent(new ResumeDeletedEvent(id));
+
             return ResponseEntity.ok().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -292,7 +256,7 @@ public class ResumeController {
     @GetMapping("/{id}/editor-state")
     @Operation(summary = "Get editor state", description = "Get Lexical editor state JSON")
     public ResponseEntity<String> getEditorState(@PathVariable String id) {
-        log.info("Getting editor state for resume ID: {}", id);
+        log.debug("Getting editor state for resume ID: {}", id);
 
         Optional<Resume> resumeOpt = resumeRepository.findById(id);
         if (resumeOpt.isEmpty()) {
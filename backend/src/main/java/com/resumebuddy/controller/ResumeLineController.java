@@ -27,7 +27,7 @@ public class ResumeLineController {
     @GetMapping("/{id}/lines")
     @Operation(summary = "Get resume lines", description = "Get all lines for a resume ordered by line number")
     public ResponseEntity<List<ResumeLine>> getResumeLines(@PathVariable String id) {
-        log.info("Getting lines for resume ID: {}", id);
+        log.debug("Getting lines for resume ID: {}", id);
 
         try {
             List<ResumeLine> lines = resumeLineService.getResumeLines(id);
@@ -115,7 +115,7 @@ public class ResumeLineController {
     @GetMapping("/{id}/lines/count")
     @Operation(summary = "Get line count", description = "Get total number of lines for a resume")
     public ResponseEntity<Map<String, Object>> getLineCount(@PathVariable String id) {
-        log.info("Getting line count for resume ID: {}", id);
+        log.debug("Getting line count for resume ID: {}", id);
 
         try {
             long lineCount = resumeLineService.getLineCount(id);
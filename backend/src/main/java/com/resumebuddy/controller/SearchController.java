@@ -0,0 +1,157 @@
+package com.resumebuddy.controller;
+
+import com.resumebuddy.model.dto.EmployerMatchDto;
+import com.resumebuddy.model.dto.ExperienceTotalDto;
+import com.resumebuddy.model.dto.JobMatchRequestDto;
+import com.resumebuddy.model.dto.JobMatchResultDto;
+import com.resumebuddy.model.dto.LineSearchResultDto;
+import com.resumebuddy.model.dto.SkillSearchResultDto;
+import com.resumebuddy.service.LineSearchService;
+import com.resumebuddy.service.ResumeAnalysisService;
+import com.resumebuddy.service.SkillIndexService;
+import com.resumebuddy.service.matching.JobMatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+@Tag(name = "Candidate Search", description = "Search analyzed resumes")
+public class SearchController {
+
+    private final SkillIndexService skillIndexService;
+    private final LineSearchService lineSearchService;
+    private final JobMatchService jobMatchService;
+    private final ResumeAnalysisService resumeAnalysisService;
+
+    @GetMapping("/skills")
+    @Operation(summary = "Search by skills", description = "Boolean skill query, e.g. kafka AND (kubernetes OR k8s) AND NOT \"visual basic\"")
+    public ResponseEntity<SkillSearchResultDto> searchBySkills(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.debug("Skill search: {}", query);
+
+        if (offset < 0 || limit < 1 || limit > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(skillIndexService.search(query, offset, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid skill query '{}': {}", query, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/skills/stats")
+    @Operation(summary = "Skill index stats", description = "Size of the in-memory skill index")
+    public ResponseEntity<Map<String, Object>> getSkillIndexStats() {
+        return ResponseEntity.ok(skillIndexService.getStats());
+    }
+
+    @GetMapping("/lines")
+    @Operation(summary = "Full-text search over resume lines", description = "Returns resumes ranked by matching lines with highlights and sectionType/groupType facet counts")
+    public ResponseEntity<LineSearchResultDto> searchLines(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String sectionType,
+            @RequestParam(required = false) String groupType,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Line search: {} (sectionType={}, groupType={})", query, sectionType, groupType);
+
+        if (query.isBlank() || limit < 1 || limit > 200) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(lineSearchService.search(query, sectionType, groupType, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid line search query '{}': {}", query, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error searching lines for query: {}", query, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/lines/stats")
+    @Operation(summary = "Line index stats", description = "Document count and pending changes of the full-text line index")
+    public ResponseEntity<Map<String, Object>> getLineIndexStats() {
+        return ResponseEntity.ok(lineSearchService.getStats());
+    }
+
+    @PostMapping("/lines/reindex")
+    @Operation(summary = "Rebuild line index", description = "Drop and rebuild the full-text line index from the database")
+    public ResponseEntity<Map<String, Object>> reindexLines() {
+        try {
+            long indexed = lineSearchService.rebuild();
+            return ResponseEntity.ok(Map.of("success", true, "indexedLines", indexed));
+        } catch (Exception e) {
+            log.error("Error rebuilding line search index", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                "success", false,
+                "message", "Error rebuilding index: " + e.getMessage()
+            ));
+        }
+    }
+
+    @PostMapping("/match")
+    @Operation(summary = "Rank resumes against a job description", description = "BM25 match over skills, experience and project technologies, with a per-section score breakdown. Does not call the LLM")
+    public ResponseEntity<JobMatchResultDto> matchJobDescription(@RequestBody JobMatchRequestDto request) {
+        int limit = request.getLimit() != null ? request.getLimit() : 20;
+        if (request.getJobDescription() == null || request.getJobDescription().isBlank() || limit < 1 || limit > 500) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(jobMatchService.match(request.getJobDescription(), limit));
+        } catch (Exception e) {
+            log.error("Error matching job description", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/match/stats")
+    @Operation(summary = "Job match stats", description = "Size of the cached resume vectors used for job matching")
+    public ResponseEntity<Map<String, Object>> getJobMatchStats() {
+        return ResponseEntity.ok(jobMatchService.getStats());
+    }
+
+    @GetMapping("/experience")
+    @Operation(summary = "Search by total experience", description = "Resumes with at least minYears of experience, longest first. Overlapping positions count once")
+    public ResponseEntity<List<ExperienceTotalDto>> searchByExperience(
+            @RequestParam double minYears,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (minYears < 0 || limit < 1 || limit > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(resumeAnalysisService.findByMinimumExperience(minYears, limit));
+    }
+
+    @GetMapping("/employer")
+    @Operation(summary = "Search by employer", description = "Positions at a company held on or after a date, e.g. company=Acme&since=2020")
+    public ResponseEntity<List<EmployerMatchDto>> searchByEmployer(
+            @RequestParam String company,
+            @RequestParam(defaultValue = "1900") String since,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (company.isBlank() || limit < 1 || limit > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(resumeAnalysisService.findByEmployerSince(company, since, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid employer search date '{}'", since);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.resumebuddy.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "import_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "filename")
+    private String filename;
+
+    // Archive kept in the upload directory until the job completes, so it can be resumed
+    @Column(name = "archive_path")
+    @JsonIgnore
+    private String archivePath;
+
+    @Column(name = "status", length = 20)
+    private String status; // QUEUED, PROCESSING, COMPLETED, FAILED
+
+    // Number of file entries in the archive, known after the first scan
+    @Column(name = "total_entries")
+    private Integer totalEntries;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,65 @@
+package com.resumebuddy.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.ToString;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Manifest row for one file in an import archive. Written before the file is processed,
+ * so a restarted job can tell finished entries from interrupted ones.
+ */
+@Entity
+@Table(name = "import_job_entries", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_import_entry_job_index", columnNames = {"job_id", "entry_index"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobEntry {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ImportJob job;
+
+    // Position among the file entries of the archive, stable across re-reads
+    @Column(name = "entry_index", nullable = false)
+    private Integer entryIndex;
+
+    @Column(name = "entry_name", length = 1000)
+    private String entryName;
+
+    @Column(name = "status", length = 20)
+    private String status; // PROCESSING, COMPLETED, FAILED, SKIPPED
+
+    // Set as soon as the resume row exists, so a retry parses it instead of creating another
+    @Column(name = "resume_id", length = 36)
+    private String resumeId;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.resumebuddy.model;
+
+/**
+ * Status of a bulk import job and of each archive entry in its manifest.
+ */
+public enum ImportStatus {
+    QUEUED("Waiting for the importer"),
+    PROCESSING("Being imported"),
+    COMPLETED("Imported successfully"),
+    FAILED("Import failed"),
+    SKIPPED("Not a supported resume file");
+
+    private final String description;
+
+    ImportStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
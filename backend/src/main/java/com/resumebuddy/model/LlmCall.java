@@ -0,0 +1,66 @@
+package com.resumebuddy.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * One LLM completion, or one analysis served from a near-duplicate without calling the LLM.
+ */
+@Entity
+@Table(name = "llm_calls", indexes = {
+    @Index(name = "idx_llm_calls_called_at", columnList = "called_at"),
+    @Index(name = "idx_llm_calls_model_called_at", columnList = "model, called_at"),
+    @Index(name = "idx_llm_calls_resume_id", columnList = "resume_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmCall {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "resume_id", length = 36)
+    private String resumeId;
+
+    @Column(name = "model", length = 100)
+    private String model;
+
+    // Resume lines sent in the prompt
+    @Column(name = "line_count")
+    private Integer lineCount;
+
+    @Column(name = "prompt_tokens")
+    private Integer promptTokens;
+
+    @Column(name = "completion_tokens")
+    private Integer completionTokens;
+
+    // Wall-clock time of the HTTP exchange, null for cache hits
+    @Column(name = "latency_ms")
+    private Long latencyMs;
+
+    @Column(name = "finish_reason", length = 30)
+    private String finishReason;
+
+    @Column(name = "outcome", length = 30)
+    private String outcome; // success, truncated, http_error, invalid_json, error
+
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    // Analysis copied from a line-for-line identical resume, no tokens spent
+    @Column(name = "cache_hit", nullable = false)
+    private boolean cacheHit;
+
+    // Set when the call happens, rows are written later in batches
+    @Column(name = "called_at", nullable = false)
+    private LocalDateTime calledAt;
+}
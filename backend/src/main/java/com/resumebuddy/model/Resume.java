@@ -1,6 +1,7 @@
 package com.resumebuddy.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.resumebuddy.service.event.ResumeStatusListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "resumes")
+@EntityListeners(ResumeStatusListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,6 +49,13 @@ public class Resume {
     @Column(name = "status", length = 20)
     private String status; // UPLOADED, PARSING, PARSED, FAILED
 
+    // Status as last loaded or written, used to detect status changes
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String persistedStatus;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -9,11 +9,14 @@ import lombok.ToString;
 import lombok.EqualsAndHashCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.annotations.CreationTimestamp;
+import com.resumebuddy.service.ResumeDateParser;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "resume_analysis_certification")
+@Table(name = "resume_analysis_certification", indexes = {
+    @Index(name = "idx_certification_issue_month", columnList = "issue_month")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,7 +46,17 @@ public class ResumeAnalysisCertification {
     @Column(name = "credential_id", length = 255)
     private String credentialId;
 
+    // Normalized months since January 1970, derived from issueDate on write
+    @Column(name = "issue_month")
+    private Integer issueMonth;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @PrePersist
+    @PreUpdate
+    public void normalizeDates() {
+        issueMonth = ResumeDateParser.parseStart(issueDate);
+    }
 }
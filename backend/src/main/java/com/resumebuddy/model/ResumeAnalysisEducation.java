@@ -9,11 +9,14 @@ import lombok.ToString;
 import lombok.EqualsAndHashCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.annotations.CreationTimestamp;
+import com.resumebuddy.service.ResumeDateParser;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "resume_analysis_education")
+@Table(name = "resume_analysis_education", indexes = {
+    @Index(name = "idx_education_graduation_month", columnList = "graduation_month")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,7 +46,21 @@ public class ResumeAnalysisEducation {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    // Normalized months since January 1970, derived from graduationDate on write
+    @Column(name = "graduation_month")
+    private Integer graduationMonth;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Derive graduationMonth; for a study period ("2015 - 2019") the end is the graduation.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizeDates() {
+        ResumeDateParser.Range range = ResumeDateParser.parseRange(graduationDate);
+        graduationMonth = range.end() != null ? range.end() : range.start();
+    }
 }
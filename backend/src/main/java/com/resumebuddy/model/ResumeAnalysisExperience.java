@@ -9,11 +9,15 @@ import lombok.ToString;
 import lombok.EqualsAndHashCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.annotations.CreationTimestamp;
+import com.resumebuddy.service.ResumeDateParser;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "resume_analysis_experience")
+@Table(name = "resume_analysis_experience", indexes = {
+    @Index(name = "idx_experience_start_month", columnList = "start_month"),
+    @Index(name = "idx_experience_company_start", columnList = "company_name, start_month")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -46,7 +50,34 @@ public class ResumeAnalysisExperience {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    // Normalized months since January 1970, derived from the free-text dates on write
+    @Column(name = "start_month")
+    private Integer startMonth;
+
+    @Column(name = "end_month")
+    private Integer endMonth;
+
+    @Column(name = "is_current")
+    private Boolean currentPosition;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Derive the month columns from startDate/endDate. The LLM sometimes puts the
+     * whole range ("Jan 2020 - Mar 2021") into startDate, so its end is used as fallback.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizeDates() {
+        ResumeDateParser.Range start = ResumeDateParser.parseRange(startDate);
+        ResumeDateParser.Range end = ResumeDateParser.isRange(startDate) && endDate == null
+            ? start
+            : ResumeDateParser.parseRange(endDate);
+
+        startMonth = start.start();
+        currentPosition = end.current();
+        endMonth = end.current() ? null : end.end();
+    }
 }
@@ -38,6 +38,9 @@ public class ResumeLine {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
+    @Column(name = "layout_label", length = 50)
+    private String layoutLabel;  // Parser layout label: section_header, list_item, etc.
+
     // AI Analysis fields (populated after analysis)
     @Column(name = "section_type", length = 50)
     private String sectionType;  // CONTACT, EXPERIENCE, EDUCATION, SKILLS, etc.
@@ -51,6 +54,9 @@ public class ResumeLine {
     @Column(name = "analysis_notes", columnDefinition = "TEXT")
     private String analysisNotes;  // AI findings and notes for this line
 
+    @Column(name = "label_source", length = 20)
+    private String labelSource;  // LLM, NEAR_DUPLICATE, HEURISTIC, CLASSIFIER
+
     @Column(name = "analyzed_at")
     private LocalDateTime analyzedAt;  // When this line was last analyzed
 
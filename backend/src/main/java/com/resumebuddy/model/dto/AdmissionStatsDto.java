@@ -0,0 +1,19 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionStatsDto {
+    private String workClass;
+    private int maxConcurrent;
+    private int maxQueue;
+    private long queueTimeoutMs;
+    private int inFlight;
+    private int queued;
+    private long admitted;
+    private long rejected;
+}
@@ -15,5 +15,6 @@ public class AnalysisResultDto {
     private LocalDateTime analyzedAt;
     private Integer totalLines;
     private Integer analyzedLines;
+    private Integer preclassifiedLines;  // Lines labelled without the LLM
     private List<LineAnalysisDto> lineAnalyses;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsSummaryDto {
+    private long totalResumes;
+    private long analyzedResumes;
+    private Map<String, Long> statusCounts;
+    private int distinctSkills;
+    private int distinctCertifications;
+    private double averageSkillsPerResume;
+    private List<CountDto> skillsPerResume;  // Histogram buckets
+}
@@ -0,0 +1,20 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoclingEndpointStatsDto {
+    private String url;
+    private boolean healthy;
+    private int outstandingRequests;
+    private long requestCount;
+    private long failureCount;
+    private double averageLatencyMs;
+    private double lastLatencyMs;
+    private double maxLatencyMs;
+    private long lastHealthCheckAt;
+}
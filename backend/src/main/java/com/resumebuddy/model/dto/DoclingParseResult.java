@@ -0,0 +1,29 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The subset of a Docling parse response the backend actually uses.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoclingParseResult {
+    private boolean success;
+    private String contentType;
+    private String text;
+    private List<StructureElement> structure = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StructureElement {
+        private String type;
+        private String text;
+    }
+}
@@ -0,0 +1,16 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateClusterDto {
+    private List<String> resumeIds;
+    private double minSimilarity;
+    private double maxSimilarity;
+}
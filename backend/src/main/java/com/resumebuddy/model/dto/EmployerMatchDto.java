@@ -0,0 +1,17 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployerMatchDto {
+    private String resumeId;
+    private String name;
+    private String companyName;
+    private String jobTitle;
+    private String startDate;
+    private String endDate;
+}
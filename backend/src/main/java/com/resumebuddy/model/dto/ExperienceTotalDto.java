@@ -0,0 +1,15 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperienceTotalDto {
+    private String resumeId;
+    private String name;
+    private long totalMonths;
+    private double totalYears;
+}
@@ -0,0 +1,16 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportEntryDto {
+    private int entryIndex;
+    private String entryName;
+    private String status;
+    private String resumeId;
+    private String message;
+}
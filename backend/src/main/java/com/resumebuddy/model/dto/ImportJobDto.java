@@ -0,0 +1,25 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDto {
+    private String id;
+    private String filename;
+    private String status;
+    private Integer totalEntries;
+    private long processedEntries;
+    private long completedEntries;
+    private long failedEntries;
+    private long skippedEntries;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
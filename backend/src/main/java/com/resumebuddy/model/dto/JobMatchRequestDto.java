@@ -0,0 +1,13 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobMatchRequestDto {
+    private String jobDescription;
+    private Integer limit;
+}
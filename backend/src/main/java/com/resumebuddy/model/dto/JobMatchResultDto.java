@@ -0,0 +1,32 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobMatchResultDto {
+    private int candidates;
+    private int queryTerms;
+    private int limit;
+    private double tookMs;
+    private List<Match> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Match {
+        private String resumeId;
+        private String analysisId;
+        private String name;
+        private double score;
+        private double skillsScore;
+        private double experienceScore;
+        private double projectsScore;
+        private List<String> matchedTerms;
+    }
+}
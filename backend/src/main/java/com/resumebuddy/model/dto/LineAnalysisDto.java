@@ -13,4 +13,5 @@ public class LineAnalysisDto {
     private Integer groupId;
     private String groupType;
     private String analysisNotes;
+    private String source;  // LLM, NEAR_DUPLICATE, HEURISTIC, CLASSIFIER
 }
\ No newline at end of file
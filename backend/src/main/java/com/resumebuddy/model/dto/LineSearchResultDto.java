@@ -0,0 +1,41 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LineSearchResultDto {
+    private String query;
+    private long totalLineHits;
+    private double tookMs;
+    private List<ResumeHit> results;
+    // Facet dimension (sectionType, groupType) -> value -> matching line count
+    private Map<String, Map<String, Integer>> facets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumeHit {
+        private String resumeId;
+        private double score;
+        private List<LineHit> lines;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineHit {
+        private Integer lineNumber;
+        private String sectionType;
+        private String groupType;
+        private double score;
+        // Line content with matching terms wrapped in <b></b>
+        private String highlight;
+    }
+}
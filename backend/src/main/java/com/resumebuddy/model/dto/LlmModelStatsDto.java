@@ -0,0 +1,22 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmModelStatsDto {
+    private String model;
+    private long calls;
+    private long cacheHits;
+    private long errors;
+    private long promptTokens;
+    private long completionTokens;
+    private Long p50LatencyMs;
+    private Long p95LatencyMs;
+    private Long p99LatencyMs;
+    private Double tokensPerLine;  // Prompt + completion tokens per resume line sent to the LLM
+    private Double estimatedCostUsd;  // Null when no price is configured for the model
+}
@@ -0,0 +1,18 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmUsageReportDto {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<LlmModelStatsDto> models;
+    private int pendingWrites;  // Calls recorded but not yet in the table
+}
@@ -1,11 +1,12 @@
 package com.resumebuddy.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 
 @Data
@@ -16,6 +17,10 @@ public class ParsedResume {
     private String filename;
     private String contentType;
     private String originalText;
+
+    // Layout label per line text, only carried to line creation and not stored in parsedContent
+    @JsonIgnore
+    private Map<String, String> layoutLabels = new HashMap<>();
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.resumebuddy.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSearchResultDto {
+    private String query;
+    private long total;
+    private int offset;
+    private int limit;
+    private double tookMs;
+    private List<Match> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Match {
+        private String resumeId;
+        private String analysisId;
+    }
+}
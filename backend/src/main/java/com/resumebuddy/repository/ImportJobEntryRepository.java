@@ -0,0 +1,22 @@
+package com.resumebuddy.repository;
+
+import com.resumebuddy.model.ImportJobEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImportJobEntryRepository extends JpaRepository<ImportJobEntry, String> {
+
+    List<ImportJobEntry> findByJobIdOrderByEntryIndexAsc(String jobId);
+
+    @Query("SELECT e.status, COUNT(e) FROM ImportJobEntry e WHERE e.job.id = :jobId GROUP BY e.status")
+    List<Object[]> countByStatus(@Param("jobId") String jobId);
+
+    @Query("SELECT e.job.id, e.status, COUNT(e) FROM ImportJobEntry e WHERE e.job.id IN :jobIds GROUP BY e.job.id, e.status")
+    List<Object[]> countByJobAndStatus(@Param("jobIds") Collection<String> jobIds);
+}
@@ -0,0 +1,16 @@
+package com.resumebuddy.repository;
+
+import com.resumebuddy.model.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, String> {
+
+    List<ImportJob> findByStatusInOrderByCreatedAtAsc(Collection<String> statuses);
+
+    List<ImportJob> findAllByOrderByCreatedAtDesc();
+}
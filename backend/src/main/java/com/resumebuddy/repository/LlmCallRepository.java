@@ -0,0 +1,44 @@
+package com.resumebuddy.repository;
+
+import com.resumebuddy.model.LlmCall;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface LlmCallRepository extends JpaRepository<LlmCall, String> {
+
+    List<LlmCall> findByResumeIdOrderByCalledAtDesc(String resumeId, Pageable pageable);
+
+    /**
+     * Per model: model, calls, cache hits, failed calls, prompt tokens, completion tokens and
+     * lines sent to the LLM, for calls in [from, to).
+     */
+    @Query("SELECT c.model, COUNT(c), " +
+           "SUM(CASE WHEN c.cacheHit = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.outcome IN ('success', 'truncated') THEN 0 ELSE 1 END), " +
+           "COALESCE(SUM(c.promptTokens), 0), COALESCE(SUM(c.completionTokens), 0), " +
+           "COALESCE(SUM(CASE WHEN c.cacheHit = false AND c.promptTokens IS NOT NULL THEN c.lineCount ELSE 0 END), 0) " +
+           "FROM LlmCall c WHERE c.calledAt >= :from AND c.calledAt < :to " +
+           "GROUP BY c.model ORDER BY c.model")
+    List<Object[]> summarizeByModel(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Latencies of real LLM calls in [from, to), grouped by model and sorted for percentiles.
+     * Streamed with MySQL row streaming; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT c.model, c.latencyMs FROM LlmCall c " +
+           "WHERE c.calledAt >= :from AND c.calledAt < :to AND c.cacheHit = false AND c.latencyMs IS NOT NULL " +
+           "ORDER BY c.model, c.latencyMs")
+    Stream<Object[]> streamLatencies(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,13 +1,34 @@
 package com.resumebuddy.repository;
 
 import com.resumebuddy.model.ResumeAnalysisCertification;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeAnalysisCertificationRepository extends JpaRepository<ResumeAnalysisCertification, String> {
 
     List<ResumeAnalysisCertification> findByAnalysisId(String analysisId);
+
+    /**
+     * Stream (resumeId, certificationName, issuingOrganization) rows for every certification.
+     * Streamed with MySQL row streaming; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT a.resume.id, c.certificationName, c.issuingOrganization FROM ResumeAnalysisCertification c JOIN c.analysis a")
+    Stream<Object[]> streamAllForAnalytics();
+
+    /**
+     * Rows with a date whose month column is not derived yet, keyset paged by id.
+     */
+    @Query("SELECT c FROM ResumeAnalysisCertification c WHERE c.issueMonth IS NULL AND c.issueDate IS NOT NULL AND c.id > :afterId ORDER BY c.id")
+    List<ResumeAnalysisCertification> findNotNormalized(@Param("afterId") String afterId, Pageable pageable);
 }
@@ -1,7 +1,10 @@
 package com.resumebuddy.repository;
 
 import com.resumebuddy.model.ResumeAnalysisEducation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +13,10 @@ import java.util.List;
 public interface ResumeAnalysisEducationRepository extends JpaRepository<ResumeAnalysisEducation, String> {
 
     List<ResumeAnalysisEducation> findByAnalysisId(String analysisId);
+
+    /**
+     * Rows with a date whose month column is not derived yet, keyset paged by id.
+     */
+    @Query("SELECT e FROM ResumeAnalysisEducation e WHERE e.graduationMonth IS NULL AND e.graduationDate IS NOT NULL AND e.id > :afterId ORDER BY e.id")
+    List<ResumeAnalysisEducation> findNotNormalized(@Param("afterId") String afterId, Pageable pageable);
 }
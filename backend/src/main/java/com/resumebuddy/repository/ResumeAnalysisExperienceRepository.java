@@ -1,13 +1,66 @@
 package com.resumebuddy.repository;
 
 import com.resumebuddy.model.ResumeAnalysisExperience;
+import com.resumebuddy.model.dto.EmployerMatchDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeAnalysisExperienceRepository extends JpaRepository<ResumeAnalysisExperience, String> {
 
     List<ResumeAnalysisExperience> findByAnalysisId(String analysisId);
+
+    /**
+     * Stream (analysisId, resumeId, jobTitle, description) rows for every experience.
+     * Streamed with MySQL row streaming; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT a.id, a.resume.id, e.jobTitle, e.description FROM ResumeAnalysisExperience e JOIN e.analysis a")
+    Stream<Object[]> streamAllForMatching();
+
+    /**
+     * Rows whose month columns were never derived (created before they existed), keyset paged by id.
+     */
+    @Query("SELECT e FROM ResumeAnalysisExperience e WHERE e.currentPosition IS NULL AND e.id > :afterId ORDER BY e.id")
+    List<ResumeAnalysisExperience> findNotNormalized(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Stream (resumeId, name, startMonth, endMonth) of the dated positions of every resume whose
+     * summed tenure reaches minMonths, grouped by resume and ordered by start. Current positions
+     * run until currentMonth. The sum counts overlapping positions for each, so it only narrows
+     * the candidates; callers merge the intervals. Same streaming rules as {@link #streamAllForMatching()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT a.resume.id, a.name, e.startMonth, COALESCE(e.endMonth, CASE WHEN e.currentPosition = true THEN :currentMonth ELSE e.startMonth END) " +
+           "FROM ResumeAnalysisExperience e JOIN e.analysis a " +
+           "WHERE e.startMonth IS NOT NULL AND a.id IN (" +
+           "SELECT a2.id FROM ResumeAnalysisExperience e2 JOIN e2.analysis a2 " +
+           "WHERE e2.startMonth IS NOT NULL " +
+           "GROUP BY a2.id " +
+           "HAVING SUM(COALESCE(e2.endMonth, CASE WHEN e2.currentPosition = true THEN :currentMonth ELSE e2.startMonth END) - e2.startMonth + 1) >= :minMonths) " +
+           "ORDER BY a.resume.id, e.startMonth")
+    Stream<Object[]> streamPositionsWithTenureAtLeast(@Param("currentMonth") int currentMonth,
+                                                      @Param("minMonths") long minMonths);
+
+    /**
+     * Positions at a company that were held at some point on or after fromMonth.
+     * Company equality relies on the case-insensitive column collation so the index applies.
+     */
+    @Query("SELECT new com.resumebuddy.model.dto.EmployerMatchDto(a.resume.id, a.name, e.companyName, e.jobTitle, e.startDate, e.endDate) " +
+           "FROM ResumeAnalysisExperience e JOIN e.analysis a " +
+           "WHERE e.companyName = :company " +
+           "AND (e.startMonth >= :fromMonth OR e.endMonth >= :fromMonth OR e.currentPosition = true) " +
+           "ORDER BY e.startMonth DESC")
+    List<EmployerMatchDto> findByCompanySince(@Param("company") String company,
+                                              @Param("fromMonth") int fromMonth,
+                                              Pageable pageable);
 }
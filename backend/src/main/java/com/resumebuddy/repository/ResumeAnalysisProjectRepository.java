@@ -1,13 +1,26 @@
 package com.resumebuddy.repository;
 
 import com.resumebuddy.model.ResumeAnalysisProject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeAnalysisProjectRepository extends JpaRepository<ResumeAnalysisProject, String> {
 
     List<ResumeAnalysisProject> findByAnalysisId(String analysisId);
+
+    /**
+     * Stream (analysisId, resumeId, technologiesUsed) rows for every project.
+     * Streamed with MySQL row streaming; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT a.id, a.resume.id, p.technologiesUsed FROM ResumeAnalysisProject p JOIN p.analysis a")
+    Stream<Object[]> streamAllForMatching();
 }
@@ -1,10 +1,18 @@
 package com.resumebuddy.repository;
 
 import com.resumebuddy.model.ResumeAnalysis;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeAnalysisRepository extends JpaRepository<ResumeAnalysis, String> {
@@ -12,4 +20,18 @@ public interface ResumeAnalysisRepository extends JpaRepository<ResumeAnalysis,
     Optional<ResumeAnalysis> findByResumeId(String resumeId);
 
     boolean existsByResumeId(String resumeId);
+
+    /**
+     * Which of the given resumes have an analysis, in one query.
+     */
+    @Query("SELECT a.resume.id FROM ResumeAnalysis a WHERE a.resume.id IN :resumeIds")
+    Set<String> findAnalyzedResumeIds(@Param("resumeIds") Collection<String> resumeIds);
+
+    /**
+     * Stream (analysisId, resumeId, name) rows for every analysis.
+     * Streamed with MySQL row streaming; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT a.id, a.resume.id, a.name FROM ResumeAnalysis a")
+    Stream<Object[]> streamAllHeaders();
 }
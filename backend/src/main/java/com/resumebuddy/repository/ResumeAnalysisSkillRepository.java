@@ -1,13 +1,34 @@
 package com.resumebuddy.repository;
 
 import com.resumebuddy.model.ResumeAnalysisSkill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeAnalysisSkillRepository extends JpaRepository<ResumeAnalysisSkill, String> {
 
     List<ResumeAnalysisSkill> findByAnalysisId(String analysisId);
+
+    /**
+     * Stream (analysisId, resumeId, skillName) rows for every skill.
+     * Integer.MIN_VALUE fetch size makes MySQL stream rows instead of buffering the result set.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT a.id, a.resume.id, s.skillName FROM ResumeAnalysisSkill s JOIN s.analysis a")
+    Stream<Object[]> streamAllSkillPostings();
+
+    /**
+     * Stream (resumeId, skillName, category) rows for every skill. Same streaming rules as above.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT a.resume.id, s.skillName, s.category FROM ResumeAnalysisSkill s JOIN s.analysis a")
+    Stream<Object[]> streamAllForAnalytics();
 }
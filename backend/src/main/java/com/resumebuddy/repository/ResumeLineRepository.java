@@ -1,14 +1,18 @@
 package com.resumebuddy.repository;
 
 import com.resumebuddy.model.ResumeLine;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResumeLineRepository extends JpaRepository<ResumeLine, String> {
@@ -28,4 +32,30 @@ public interface ResumeLineRepository extends JpaRepository<ResumeLine, String>
 
     @Query("SELECT MAX(rl.lineNumber) FROM ResumeLine rl WHERE rl.resume.id = :resumeId")
     Optional<Integer> findMaxLineNumberByResumeId(@Param("resumeId") String resumeId);
-}
\ No newline at end of file
+
+    /**
+     * Stream every line for bulk rebuilds. The resume stays an uninitialized proxy, its id is still readable.
+     * Integer.MIN_VALUE fetch size makes MySQL stream rows; must be consumed inside a transaction and closed,
+     * and callers should detach each line to keep the persistence context small.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT rl FROM ResumeLine rl")
+    Stream<ResumeLine> streamAll();
+
+    /**
+     * Stream (resumeId, content) rows of every line, grouped by resume and in line order,
+     * so callers can process one resume at a time. Same streaming rules as {@link #streamAll()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT rl.resume.id, rl.content FROM ResumeLine rl ORDER BY rl.resume.id, rl.lineNumber")
+    Stream<Object[]> streamAllContentOrdered();
+
+    /**
+     * Stream (resumeId, lineNumber, content, layoutLabel, sectionType, groupType, labelSource) rows of every
+     * analyzed line, grouped by resume and in line order. Same streaming rules as {@link #streamAll()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT rl.resume.id, rl.lineNumber, rl.content, rl.layoutLabel, rl.sectionType, rl.groupType, rl.labelSource "
+        + "FROM ResumeLine rl WHERE rl.analyzedAt IS NOT NULL ORDER BY rl.resume.id, rl.lineNumber")
+    Stream<Object[]> streamAnalyzedOrdered();
+}
@@ -22,4 +22,7 @@ public interface ResumeRepository extends JpaRepository<Resume, String> {
 
     @Query("SELECT r FROM Resume r LEFT JOIN FETCH r.lines LEFT JOIN FETCH r.suggestions WHERE r.id = :id")
     Optional<Resume> findByIdWithLinesAndSuggestions(@Param("id") String id);
+
+    @Query("SELECT r.status, COUNT(r) FROM Resume r GROUP BY r.status")
+    List<Object[]> countByStatus();
 }
\ No newline at end of file
@@ -2,24 +2,41 @@ package com.resumebuddy.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.resumebuddy.model.*;
 import com.resumebuddy.model.dto.LineAnalysisDto;
+import com.resumebuddy.model.dto.ResumeAnalysisDto;
 import com.resumebuddy.repository.*;
+import com.resumebuddy.service.classifier.LineClassifierService;
+import com.resumebuddy.service.classifier.NaiveBayesModel;
+import com.resumebuddy.service.dedup.AnalysisSeed;
+import com.resumebuddy.service.dedup.NearDuplicateService;
+import com.resumebuddy.service.event.ResumeAnalysisChangedEvent;
+import com.resumebuddy.service.event.ResumeLinesChangedEvent;
+import com.resumebuddy.service.ledger.LlmCallLedger;
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import com.resumebuddy.service.statements.StatementBudget;
+import com.resumebuddy.service.tracing.PipelineTracing;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.http.*;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StreamUtils;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,11 +44,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AIAnalysisService {
 
-    private final RestTemplate restTemplate;
+    public static final String SOURCE_LLM = "LLM";
+
+    private final WebClient webClient;
     private final ResumeRepository resumeRepository;
     private final ResumeLineRepository resumeLineRepository;
     private final ResumeAnalysisRepository resumeAnalysisRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NearDuplicateService nearDuplicateService;
+    private final ResumeAnalysisService resumeAnalysisService;
+    private final LinePreSegmenter linePreSegmenter;
+    private final LineClassifierService lineClassifierService;
+    private final PipelineMetrics pipelineMetrics;
+    private final LlmCallLedger llmCallLedger;
+    private final PipelineTracing pipelineTracing;
 
     @Value("${app.openai.api-key}")
     private String openaiApiKey;
@@ -42,8 +69,17 @@ public class AIAnalysisService {
     @Value("${app.openai.base-url:https://api.openai.com/v1}")
     private String openaiBaseUrl;
 
+    // Copy labels from an analyzed near-duplicate instead of asking the LLM again
+    @Value("${app.dedup.reuse-analysis:true}")
+    private boolean reuseAnalysis;
+
+    // Label section headers and contact lines locally before building the prompt
+    @Value("${app.analysis.pre-segmentation:true}")
+    private boolean preSegmentation;
+
     private String systemPromptTemplate;
     private String analysisPromptTemplate;
+    private String preclassifiedInstructionsTemplate;
 
     @PostConstruct
     public void loadPromptTemplates() {
@@ -64,67 +100,182 @@ public class AIAnalysisService {
             );
             log.info("Loaded analysis prompt template");
 
+            // Load instructions for lines that are already labelled
+            ClassPathResource preclassifiedResource = new ClassPathResource("prompts/preclassified-instructions.txt");
+            preclassifiedInstructionsTemplate = StreamUtils.copyToString(
+                preclassifiedResource.getInputStream(),
+                StandardCharsets.UTF_8
+            );
+            log.info("Loaded pre-classified instructions template");
+
         } catch (IOException e) {
             log.error("Error loading prompt templates", e);
             // Fallback to hardcoded prompts if files not found
             systemPromptTemplate = "You are a resume analysis expert. You analyze resumes line by line and provide structured analysis in JSON format.";
             analysisPromptTemplate = "Analyze the following resume:\n{resumeLines}";
+            preclassifiedInstructionsTemplate = "Do not include lines marked [PRE-CLASSIFIED ...] in lineAnalysis.\n";
         }
     }
 
-    @Transactional
-    public List<LineAnalysisDto> analyzeResume(String resumeId) {
-        log.info("Starting AI analysis for resume ID: {}", resumeId);
+    /**
+     * What the LLM call needs, read in the first of the analysis' two short transactions.
+     */
+    public record AnalysisInput(Resume resume, List<ResumeLine> resumeLines,
+                                Map<Integer, NaiveBayesModel.Prediction> predictions,
+                                Map<Integer, LineAnalysisDto> presetLines,
+                                AnalysisSeed seed, ResumeAnalysisDto sourceAnalysis) {
+    }
 
+    /**
+     * Labels for every line plus the structured data, from the LLM or copied from a duplicate.
+     */
+    public record AnalysisOutput(List<LineAnalysisDto> lineAnalyses, JsonNode structuredData) {
+    }
+
+    /**
+     * Load the resume and its lines, and label what can be labelled without the LLM.
+     */
+    @Transactional
+    @StatementBudget(13)  // Resume with its analysis and lines; a near-duplicate seed adds 1 + up to 3 candidates' lines + 6
+    public AnalysisInput readAnalysisInput(String resumeId) {
         // Get resume entity
         Resume resume = resumeRepository.findById(resumeId)
             .orElseThrow(() -> new RuntimeException("Resume not found with ID: " + resumeId));
 
         // Get all lines for the resume
         List<ResumeLine> resumeLines = resumeLineRepository.findByResumeIdOrderByLineNumber(resumeId);
-
         if (resumeLines.isEmpty()) {
-            log.warn("No resume lines found for resume ID: {}", resumeId);
-            return Collections.emptyList();
+            return new AnalysisInput(resume, resumeLines, Map.of(), Map.of(), null, null);
         }
 
-        // Build prompt with all resume lines (LLM will skip empty ones)
-        String prompt = buildAnalysisPrompt(resumeLines);
+        // Learned classifier first: confident lines are labelled in active mode, shadow mode only predicts
+        Map<Integer, NaiveBayesModel.Prediction> predictions = lineClassifierService.predict(resumeLines);
+        Map<Integer, LineAnalysisDto> presetLines = new TreeMap<>(lineClassifierService.confidentLabels(predictions));
 
-        // Call OpenAI API - now returns both lineAnalysis and structuredData
-        Map<String, Object> response = callOpenAI(prompt, resumeLines.size());
+        // Obvious lines (section headers, contact details) are labelled by rules, which override the classifier
+        if (preSegmentation) {
+            presetLines.putAll(linePreSegmenter.preclassify(resumeLines));
+        }
+
+        // Labels copied from the closest analyzed near-duplicate take precedence, only changed lines go to the LLM
+        AnalysisSeed seed = reuseAnalysis ? nearDuplicateService.findAnalysisSeed(resumeId, resumeLines) : null;
+        if (seed != null) {
+            presetLines.putAll(seed.getPresetLines());
+        }
+        ResumeAnalysisDto sourceAnalysis = seed != null && seed.isFullMatch()
+            ? resumeAnalysisService.getStructuredAnalysis(seed.getSourceResumeId())
+            : null;
+
+        return new AnalysisInput(resume, resumeLines, predictions, presetLines, seed, sourceAnalysis);
+    }
+
+    /**
+     * Label the lines the input left open: copy a line-for-line duplicate's analysis, or ask the
+     * LLM. Completes empty when the LLM gives no usable response. No database access and no
+     * thread is held while the LLM works, so call it between the read and save transactions.
+     */
+    public Mono<AnalysisOutput> requestAnalysis(AnalysisInput input) {
+        Resume resume = input.resume();
+        List<ResumeLine> resumeLines = input.resumeLines();
+        Map<Integer, LineAnalysisDto> presetLines = input.presetLines();
+        AnalysisSeed seed = input.seed();
+        if (input.sourceAnalysis() != null) {
+            log.info("Resume ID: {} matches analyzed resume ID: {} line for line, reusing its analysis without calling the LLM",
+                resume.getId(), seed.getSourceResumeId());
+            llmCallLedger.record(cacheHit(resume.getId(), resumeLines.size()));
+            return Mono.just(new AnalysisOutput(
+                new ArrayList<>(presetLines.values()), toStructuredData(input.sourceAnalysis())));
+        }
 
-        if (response.isEmpty()) {
-            log.error("OpenAI response is empty for resume ID: {}", resumeId);
-            return Collections.emptyList();
+        if (seed != null) {
+            log.info("Seeding analysis of resume ID: {} from near-duplicate resume ID: {} (similarity {}), {} of {} lines pre-classified",
+                resume.getId(), seed.getSourceResumeId(), String.format("%.2f", seed.getSimilarity()),
+                seed.getPresetLines().size(), resumeLines.size());
         }
+        log.info("Pre-classified {} of {} lines for resume ID: {}, sending the rest to the LLM",
+            presetLines.size(), resumeLines.size(), resume.getId());
+
+        // Build prompt with all resume lines (LLM will skip empty and pre-classified ones)
+        Timer.Sample promptSample = pipelineMetrics.start();
+        String prompt = pipelineTracing.inSpan("llm.prompt.build", span -> {
+            span.tag("resume.lines", String.valueOf(resumeLines.size()));
+            span.tag("resume.preset_lines", String.valueOf(presetLines.size()));
+            return buildAnalysisPrompt(resumeLines, presetLines);
+        });
+        pipelineMetrics.recordPromptBuild(promptSample, resumeLines.size());
 
-        @SuppressWarnings("unchecked")
-        List<LineAnalysisDto> analyses = (List<LineAnalysisDto>) response.get("lineAnalysis");
-        JsonNode structuredData = (JsonNode) response.get("structuredData");
+        // Call OpenAI API - now returns both lineAnalysis and structuredData
+        return callOpenAI(resume.getId(), prompt, resumeLines.size())
+            .flatMap(response -> {
+                if (response.isEmpty()) {
+                    log.error("OpenAI response is empty for resume ID: {}", resume.getId());
+                    return Mono.empty();
+                }
+
+                @SuppressWarnings("unchecked")
+                List<LineAnalysisDto> llmAnalyses = (List<LineAnalysisDto>) response.get("lineAnalysis");
+                JsonNode structuredData = (JsonNode) response.get("structuredData");
+                lineClassifierService.recordAgreement(input.predictions(), llmAnalyses);
+                return Mono.just(new AnalysisOutput(mergeAnalyses(presetLines, llmAnalyses), structuredData));
+            });
+    }
+
+    /**
+     * Store line labels and the structured analysis, and mark the resume ANALYZED.
+     */
+    @Transactional
+    @StatementBudget(9)  // Resume with its analysis, lines, previous analysis and, when replaced, its 5 child lists
+    public void saveAnalysis(AnalysisInput input, AnalysisOutput output) {
+        // The input's entities are detached by now; reloading takes two queries, merging would take one per line
+        String resumeId = input.resume().getId();
+        Resume resume = resumeRepository.findById(resumeId)
+            .orElseThrow(() -> new RuntimeException("Resume not found with ID: " + resumeId));
+        List<ResumeLine> resumeLines = resumeLineRepository.findByResumeIdOrderByLineNumber(resumeId);
 
         // Update resume lines with analysis results
-        updateResumeLines(resumeLines, analyses);
+        updateResumeLines(resumeLines, output.lineAnalyses());
 
         // Create structured analysis from LLM's structured data
-        createStructuredAnalysisFromLLM(resume, structuredData);
+        createStructuredAnalysisFromLLM(resume, output.structuredData());
 
         // Update resume status to ANALYZED
         resume.setStatus(ResumeStatus.ANALYZED.name());
         resumeRepository.save(resume);
 
-        log.info("Completed AI analysis for resume ID: {}. Analyzed {} lines. Status updated to ANALYZED", resumeId, analyses.size());
-
-        return analyses;
+        log.info("Completed AI analysis for resume ID: {}. Analyzed {} lines. Status updated to ANALYZED",
+            resume.getId(), output.lineAnalyses().size());
     }
 
     @Transactional
     protected void createStructuredAnalysisFromLLM(Resume resume, JsonNode structuredData) {
         log.info("Creating structured analysis from LLM data for resume ID: {}", resume.getId());
 
-        // Delete existing analysis if present
-        resumeAnalysisRepository.findByResumeId(resume.getId()).ifPresent(resumeAnalysisRepository::delete);
+        // Delete existing analysis if present. It is unlinked from the resume first, whose cascade
+        // would otherwise keep it, and flushed before the insert as resume_id is unique
+        Optional<ResumeAnalysis> previousAnalysis = resumeAnalysisRepository.findByResumeId(resume.getId());
+        previousAnalysis.ifPresent(previous -> {
+            resume.setAnalysis(null);
+            resumeAnalysisRepository.delete(previous);
+            resumeAnalysisRepository.flush();
+        });
+
+        // Save the analysis with its related entities, which cascade from it
+        ResumeAnalysis analysis = resumeAnalysisRepository.save(mapStructuredAnalysis(resume, structuredData));
+
+        // Indexes pick this up after commit
+        eventPublisher.publishEvent(new ResumeAnalysisChangedEvent(
+            resume.getId(),
+            previousAnalysis.map(ResumeAnalysis::getId).orElse(null),
+            analysis
+        ));
 
+        log.info("Structured analysis created from LLM for resume ID: {}", resume.getId());
+    }
+
+    /**
+     * Map the LLM's structuredData onto a new, unsaved analysis entity graph.
+     */
+    ResumeAnalysis mapStructuredAnalysis(Resume resume, JsonNode structuredData) {
         // Create new analysis entity
         ResumeAnalysis analysis = new ResumeAnalysis();
         analysis.setResume(resume);
@@ -143,10 +294,7 @@ public class AIAnalysisService {
         // Extract summary
         analysis.setSummary(getTextOrNull(structuredData, "summary"));
 
-        // Save the main analysis entity first
-        analysis = resumeAnalysisRepository.save(analysis);
-
-        // Extract and save experiences
+        // Extract experiences
         JsonNode experiencesNode = structuredData.path("experiences");
         if (experiencesNode.isArray()) {
             for (JsonNode expNode : experiencesNode) {
@@ -161,7 +309,7 @@ public class AIAnalysisService {
             }
         }
 
-        // Extract and save skills
+        // Extract skills
         JsonNode skillsNode = structuredData.path("skills");
         if (skillsNode.isArray()) {
             for (JsonNode skillNode : skillsNode) {
@@ -173,7 +321,7 @@ public class AIAnalysisService {
             }
         }
 
-        // Extract and save educations
+        // Extract educations
         JsonNode educationsNode = structuredData.path("educations");
         if (educationsNode.isArray()) {
             for (JsonNode eduNode : educationsNode) {
@@ -187,7 +335,7 @@ public class AIAnalysisService {
             }
         }
 
-        // Extract and save certifications
+        // Extract certifications
         JsonNode certificationsNode = structuredData.path("certifications");
         if (certificationsNode.isArray()) {
             for (JsonNode certNode : certificationsNode) {
@@ -201,7 +349,7 @@ public class AIAnalysisService {
             }
         }
 
-        // Extract and save projects
+        // Extract projects
         JsonNode projectsNode = structuredData.path("projects");
         if (projectsNode.isArray()) {
             for (JsonNode projNode : projectsNode) {
@@ -215,10 +363,7 @@ public class AIAnalysisService {
             }
         }
 
-        // Save all related entities
-        resumeAnalysisRepository.save(analysis);
-
-        log.info("Structured analysis created from LLM for resume ID: {}", resume.getId());
+        return analysis;
     }
 
     private String getTextOrNull(JsonNode node, String fieldName) {
@@ -229,21 +374,60 @@ public class AIAnalysisService {
         return fieldNode.asText();
     }
 
-    private String buildAnalysisPrompt(List<ResumeLine> resumeLines) {
-        // Build the resume lines content
+    String buildAnalysisPrompt(List<ResumeLine> resumeLines, Map<Integer, LineAnalysisDto> presetLines) {
+        // Build the resume lines content, pre-classified lines carry their labels
         StringBuilder linesBuilder = new StringBuilder();
+        int maxGroupId = 0;
         for (ResumeLine line : resumeLines) {
-            linesBuilder.append(String.format("Line %d: %s\n", line.getLineNumber(), line.getContent()));
+            LineAnalysisDto preset = presetLines.get(line.getLineNumber());
+            if (preset == null) {
+                linesBuilder.append(String.format("Line %d: %s\n", line.getLineNumber(), line.getContent()));
+                continue;
+            }
+            linesBuilder.append(String.format("Line %d [PRE-CLASSIFIED sectionType=%s, groupId=%s, groupType=%s]: %s\n",
+                line.getLineNumber(), preset.getSectionType(), preset.getGroupId(), preset.getGroupType(), line.getContent()));
+            if (preset.getGroupId() != null) {
+                maxGroupId = Math.max(maxGroupId, preset.getGroupId());
+            }
         }
 
+        String preclassifiedInstructions = presetLines.isEmpty()
+            ? ""
+            : replaceVariable(preclassifiedInstructionsTemplate, "maxGroupId", String.valueOf(maxGroupId));
+
         // Replace template variables
         String prompt = analysisPromptTemplate;
+        prompt = replaceVariable(prompt, "preclassifiedInstructions", preclassifiedInstructions);
         prompt = replaceVariable(prompt, "resumeLines", linesBuilder.toString());
         prompt = replaceVariable(prompt, "lineCount", String.valueOf(resumeLines.size()));
 
         return prompt;
     }
 
+    /**
+     * Combine LLM results with pre-classified lines, which win if the LLM labelled them anyway.
+     */
+    private List<LineAnalysisDto> mergeAnalyses(Map<Integer, LineAnalysisDto> presetLines, List<LineAnalysisDto> llmAnalyses) {
+        Map<Integer, LineAnalysisDto> merged = new TreeMap<>();
+        for (LineAnalysisDto analysis : llmAnalyses) {
+            merged.put(analysis.getLineNumber(), analysis);
+        }
+        merged.putAll(presetLines);
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Shape a stored analysis like the LLM's structuredData so it can be copied to another resume.
+     */
+    private JsonNode toStructuredData(ResumeAnalysisDto analysis) {
+        ObjectNode structuredData = objectMapper.valueToTree(analysis);
+        ObjectNode contact = structuredData.putObject("contact");
+        for (String field : List.of("name", "email", "phone", "linkedinUrl", "githubUrl", "websiteUrl")) {
+            contact.set(field, structuredData.get(field));
+        }
+        return structuredData;
+    }
+
     /**
      * Replace template variables in the format {variableName}
      */
@@ -251,51 +435,111 @@ public class AIAnalysisService {
         return template.replace("{" + variableName + "}", value);
     }
 
-    private Map<String, Object> callOpenAI(String prompt, int expectedLineCount) {
-        try {
-            // Build OpenAI API request
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", openaiModel);
-            requestBody.put("messages", List.of(
-                Map.of("role", "system", "content", systemPromptTemplate),
-                Map.of("role", "user", "content", prompt)
-            ));
-            requestBody.put("temperature", 0.3);  // Lower temperature for more consistent results
-            requestBody.put("max_tokens", 16000);  // Increased for large resumes with dual output
-
-            // Set headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(openaiApiKey);
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            // Call OpenAI API
-            String url = openaiBaseUrl + "/chat/completions";
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseOpenAIResponse(response.getBody());
-            } else {
-                log.error("OpenAI API returned non-OK status: {}", response.getStatusCode());
-                return Collections.emptyMap();
-            }
+    /**
+     * One chat completion over the non-blocking client: no thread waits while the LLM works.
+     * Failures complete with an empty map, as does cancellation by the caller, which aborts the
+     * request. Every call, including cancelled ones, ends up in the ledger.
+     */
+    private Mono<Map<String, Object>> callOpenAI(String resumeId, String prompt, int expectedLineCount) {
+        LlmCall call = new LlmCall();
+        call.setResumeId(resumeId);
+        call.setModel(openaiModel);
+        call.setLineCount(expectedLineCount);
+        call.setCalledAt(LocalDateTime.now());
+        call.setOutcome(PipelineMetrics.OUTCOME_ERROR);
+
+        // Build OpenAI API request
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", openaiModel);
+        requestBody.put("messages", List.of(
+            Map.of("role", "system", "content", systemPromptTemplate),
+            Map.of("role", "user", "content", prompt)
+        ));
+        requestBody.put("temperature", 0.3);  // Lower temperature for more consistent results
+        requestBody.put("max_tokens", 16000);  // Increased for large resumes with dual output
+
+        // Call OpenAI API, timing the request alone; parsing is timed separately
+        String url = openaiBaseUrl + "/chat/completions";
+        return Mono.defer(() -> {
+                Timer.Sample sample = pipelineMetrics.start();
+                return pipelineTracing.inSpanAsync("llm.chat.completion", span -> {
+                        span.tag(PipelineTracing.TAG_RESUME_ID, resumeId);
+                        span.tag("llm.model", openaiModel);
+                        span.tag("resume.lines", String.valueOf(expectedLineCount));
+                        return webClient.post()
+                            .uri(url)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .headers(headers -> headers.setBearerAuth(openaiApiKey))
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(String.class);
+                    })
+                    .doOnSuccess(body -> recordLlmRequest(sample, call, PipelineMetrics.OUTCOME_SUCCESS))
+                    .doOnError(e -> recordLlmRequest(sample, call, e instanceof WebClientResponseException
+                        ? PipelineMetrics.OUTCOME_HTTP_ERROR
+                        : PipelineMetrics.OUTCOME_ERROR))
+                    .doOnCancel(() -> recordLlmRequest(sample, call, PipelineMetrics.OUTCOME_CANCELLED));
+            })
+            .map(body -> pipelineTracing.inSpan("llm.response.parse", span -> {
+                Map<String, Object> result = parseOpenAIResponse(body, expectedLineCount, call);
+                span.tag("llm.outcome", call.getOutcome());
+                if (call.getPromptTokens() != null) {
+                    span.tag("llm.prompt_tokens", String.valueOf(call.getPromptTokens()));
+                    span.tag("llm.completion_tokens", String.valueOf(call.getCompletionTokens()));
+                }
+                return result;
+            }))
+            .onErrorResume(e -> {
+                log.error("Error calling OpenAI API", e);
+                return Mono.just(Collections.emptyMap());
+            })
+            .defaultIfEmpty(Collections.emptyMap())
+            .doFinally(signal -> llmCallLedger.record(call));
+    }
 
-        } catch (Exception e) {
-            log.error("Error calling OpenAI API", e);
-            return Collections.emptyMap();
-        }
+    private void recordLlmRequest(Timer.Sample sample, LlmCall call, String outcome) {
+        long elapsedNanos = pipelineMetrics.recordLlmRequest(sample, openaiModel, call.getLineCount(), outcome);
+        call.setLatencyMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        call.setOutcome(outcome);
     }
 
-    private Map<String, Object> parseOpenAIResponse(String responseBody) {
+    private LlmCall cacheHit(String resumeId, int lineCount) {
+        LlmCall call = new LlmCall();
+        call.setResumeId(resumeId);
+        call.setModel(openaiModel);
+        call.setLineCount(lineCount);
+        call.setCalledAt(LocalDateTime.now());
+        call.setOutcome(PipelineMetrics.OUTCOME_SUCCESS);
+        call.setCacheHit(true);
+        return call;
+    }
+
+    /**
+     * Parse a chat completion body. Usage, finish reason and parse outcome are copied onto
+     * the ledger entry as soon as they are known, so failed parses still record spent tokens.
+     */
+    Map<String, Object> parseOpenAIResponse(String responseBody, int expectedLineCount, LlmCall call) {
+        Timer.Sample sample = pipelineMetrics.start();
+        String outcome = PipelineMetrics.OUTCOME_ERROR;
         try {
             JsonNode root = objectMapper.readTree(responseBody);
 
+            JsonNode usage = root.path("usage");
+            if (!usage.isMissingNode()) {
+                pipelineMetrics.countTokens(openaiModel,
+                    usage.path("prompt_tokens").asLong(), usage.path("completion_tokens").asLong());
+                call.setPromptTokens(usage.path("prompt_tokens").asInt());
+                call.setCompletionTokens(usage.path("completion_tokens").asInt());
+            }
+
             // Check if response was truncated due to max_tokens limit
             JsonNode finishReasonNode = root.path("choices").get(0).path("finish_reason");
             String finishReason = finishReasonNode.asText();
-            if ("length".equals(finishReason)) {
+            call.setFinishReason(finishReason);
+            boolean truncated = "length".equals(finishReason);
+            if (truncated) {
                 log.warn("OpenAI response was truncated due to max_tokens limit. Consider increasing max_tokens.");
+                pipelineMetrics.countTruncation(openaiModel);
             }
 
             JsonNode contentNode = root.path("choices").get(0).path("message").path("content");
@@ -316,6 +560,7 @@ public class AIAnalysisService {
                 dto.setGroupId(node.path("groupId").isNull() ? null : node.path("groupId").asInt());
                 dto.setGroupType(node.path("groupType").asText(null));
                 dto.setAnalysisNotes(node.path("analysisNotes").asText(null));
+                dto.setSource(SOURCE_LLM);
                 analyses.add(dto);
             }
 
@@ -327,14 +572,21 @@ public class AIAnalysisService {
             result.put("structuredData", structuredDataNode);
 
             log.info("Successfully parsed {} line analyses from LLM response", analyses.size());
+            outcome = truncated ? PipelineMetrics.OUTCOME_TRUNCATED : PipelineMetrics.OUTCOME_SUCCESS;
             return result;
 
         } catch (com.fasterxml.jackson.core.JsonParseException e) {
             log.error("JSON parsing error - likely truncated response. Increase max_tokens. Error: {}", e.getMessage());
+            outcome = PipelineMetrics.OUTCOME_INVALID_JSON;
+            pipelineMetrics.countFallbackParse(openaiModel, outcome);
             return Collections.emptyMap();
         } catch (Exception e) {
             log.error("Error parsing OpenAI response", e);
+            pipelineMetrics.countFallbackParse(openaiModel, outcome);
             return Collections.emptyMap();
+        } finally {
+            pipelineMetrics.recordResponseParse(sample, openaiModel, expectedLineCount, outcome);
+            call.setOutcome(outcome);
         }
     }
 
@@ -355,12 +607,17 @@ public class AIAnalysisService {
                 line.setGroupId(analysis.getGroupId());
                 line.setGroupType(analysis.getGroupType());
                 line.setAnalysisNotes(analysis.getAnalysisNotes());
+                line.setLabelSource(analysis.getSource());
                 line.setAnalyzedAt(now);
             }
         }
 
         // Save all updated lines
         resumeLineRepository.saveAll(resumeLines);
+        if (!resumeLines.isEmpty()) {
+            eventPublisher.publishEvent(new ResumeLinesChangedEvent(
+                resumeLines.get(0).getResume().getId(), resumeLines, true));
+        }
     }
 
     public boolean isAnalyzed(String resumeId) {
@@ -0,0 +1,203 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.model.dto.AdmissionStatsDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bounds concurrent heavy work (uploads, parses, analyses) so bursts are shed early
+ * instead of saturating Docling and the DB pool. Interactive endpoints are never
+ * queued here; they are protected by rejecting heavy work while the DB pool is
+ * above the configured headroom.
+ */
+@Slf4j
+@Service
+public class AdmissionControlService {
+
+    public enum WorkClass {
+        UPLOAD, PARSE, ANALYZE
+    }
+
+    public enum Rejection {
+        QUEUE_FULL, QUEUE_TIMEOUT, DB_POOL_SATURATED
+    }
+
+    private final Map<WorkClass, Bulkhead> bulkheads = new EnumMap<>(WorkClass.class);
+    private final HikariDataSource hikariDataSource;
+
+    @Value("${app.admission.enabled:true}")
+    private boolean enabled;
+
+    // Heavy work is rejected once this fraction of the DB pool is in use
+    @Value("${app.admission.db-pool-max-usage:0.8}")
+    private double dbPoolMaxUsage;
+
+    @Getter
+    @Value("${app.admission.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    public AdmissionControlService(DataSource dataSource, Environment environment) {
+        this.hikariDataSource = unwrapHikari(dataSource);
+
+        for (WorkClass workClass : WorkClass.values()) {
+            String prefix = "app.admission." + workClass.name().toLowerCase() + ".";
+            bulkheads.put(workClass, new Bulkhead(
+                workClass,
+                environment.getProperty(prefix + "max-concurrent", Integer.class, 4),
+                environment.getProperty(prefix + "max-queue", Integer.class, 16),
+                environment.getProperty(prefix + "queue-timeout-ms", Long.class, 5000L)
+            ));
+        }
+    }
+
+    /**
+     * Try to admit a unit of heavy work, waiting in the bounded queue if all slots are busy.
+     *
+     * @return null when admitted, otherwise the reason for rejection
+     */
+    public Rejection tryAdmit(WorkClass workClass) {
+        Bulkhead bulkhead = bulkheads.get(workClass);
+        if (!enabled) {
+            bulkhead.inFlight.incrementAndGet();
+            bulkhead.admitted.incrementAndGet();
+            return null;
+        }
+
+        if (isDbPoolSaturated()) {
+            return reject(bulkhead, Rejection.DB_POOL_SATURATED);
+        }
+
+        if (bulkhead.semaphore.tryAcquire()) {
+            return admit(bulkhead);
+        }
+
+        // All slots busy - join the queue if there is room
+        if (bulkhead.queued.incrementAndGet() > bulkhead.maxQueue) {
+            bulkhead.queued.decrementAndGet();
+            return reject(bulkhead, Rejection.QUEUE_FULL);
+        }
+
+        try {
+            if (bulkhead.semaphore.tryAcquire(bulkhead.queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return admit(bulkhead);
+            }
+            return reject(bulkhead, Rejection.QUEUE_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reject(bulkhead, Rejection.QUEUE_TIMEOUT);
+        } finally {
+            bulkhead.queued.decrementAndGet();
+        }
+    }
+
+    public void release(WorkClass workClass) {
+        Bulkhead bulkhead = bulkheads.get(workClass);
+        bulkhead.inFlight.decrementAndGet();
+        if (enabled) {
+            bulkhead.semaphore.release();
+        }
+    }
+
+    public List<AdmissionStatsDto> getStats() {
+        return bulkheads.values().stream()
+            .map(Bulkhead::toStats)
+            .collect(Collectors.toList());
+    }
+
+    public Map<String, Object> getDbPoolStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxUsage", dbPoolMaxUsage);
+        if (hikariDataSource == null || hikariDataSource.getHikariPoolMXBean() == null) {
+            return stats;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        stats.put("maximumPoolSize", hikariDataSource.getMaximumPoolSize());
+        stats.put("activeConnections", pool.getActiveConnections());
+        stats.put("idleConnections", pool.getIdleConnections());
+        stats.put("threadsAwaitingConnection", pool.getThreadsAwaitingConnection());
+        return stats;
+    }
+
+    private boolean isDbPoolSaturated() {
+        // Pool MXBean is only available once Hikari has started
+        if (hikariDataSource == null || hikariDataSource.getHikariPoolMXBean() == null) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        int maxPoolSize = hikariDataSource.getMaximumPoolSize();
+        return pool.getThreadsAwaitingConnection() > 0
+            || pool.getActiveConnections() >= Math.ceil(maxPoolSize * dbPoolMaxUsage);
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            log.warn("Could not unwrap Hikari pool, DB pool admission check disabled: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Rejection admit(Bulkhead bulkhead) {
+        bulkhead.inFlight.incrementAndGet();
+        bulkhead.admitted.incrementAndGet();
+        return null;
+    }
+
+    private Rejection reject(Bulkhead bulkhead, Rejection rejection) {
+        bulkhead.rejected.incrementAndGet();
+        log.warn("Rejected {} request: {} (inFlight={}, queued={})",
+            bulkhead.workClass, rejection, bulkhead.inFlight.get(), bulkhead.queued.get());
+        return rejection;
+    }
+
+    private static class Bulkhead {
+        private final WorkClass workClass;
+        private final int maxConcurrent;
+        private final int maxQueue;
+        private final long queueTimeoutMs;
+        private final Semaphore semaphore;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong admitted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        Bulkhead(WorkClass workClass, int maxConcurrent, int maxQueue, long queueTimeoutMs) {
+            this.workClass = workClass;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.queueTimeoutMs = queueTimeoutMs;
+            this.semaphore = new Semaphore(maxConcurrent, true);
+        }
+
+        AdmissionStatsDto toStats() {
+            return new AdmissionStatsDto(
+                workClass.name(),
+                maxConcurrent,
+                maxQueue,
+                queueTimeoutMs,
+                inFlight.get(),
+                queued.get(),
+                admitted.get(),
+                rejected.get()
+            );
+        }
+    }
+}
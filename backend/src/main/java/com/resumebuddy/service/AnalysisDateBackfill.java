@@ -0,0 +1,81 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.model.ResumeAnalysisCertification;
+import com.resumebuddy.model.ResumeAnalysisEducation;
+import com.resumebuddy.model.ResumeAnalysisExperience;
+import com.resumebuddy.repository.ResumeAnalysisCertificationRepository;
+import com.resumebuddy.repository.ResumeAnalysisEducationRepository;
+import com.resumebuddy.repository.ResumeAnalysisExperienceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Derives the normalized month columns for analysis rows written before those columns
+ * existed. New rows are normalized by their entity callbacks, so this only has work to do
+ * once after an upgrade. Pages are keyed by id, so rows whose dates cannot be parsed are
+ * visited once per run instead of looping.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisDateBackfill {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ResumeAnalysisExperienceRepository experienceRepository;
+    private final ResumeAnalysisEducationRepository educationRepository;
+    private final ResumeAnalysisCertificationRepository certificationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int experiences = backfill(experienceRepository::findNotNormalized,
+            ResumeAnalysisExperience::normalizeDates, ResumeAnalysisExperience::getId, experienceRepository::saveAll);
+        int educations = backfill(educationRepository::findNotNormalized,
+            ResumeAnalysisEducation::normalizeDates, ResumeAnalysisEducation::getId, educationRepository::saveAll);
+        int certifications = backfill(certificationRepository::findNotNormalized,
+            ResumeAnalysisCertification::normalizeDates, ResumeAnalysisCertification::getId, certificationRepository::saveAll);
+
+        if (experiences + educations + certifications > 0) {
+            log.info("Normalized dates of {} experiences, {} educations and {} certifications",
+                experiences, educations, certifications);
+        }
+    }
+
+    private <T> int backfill(BiFunction<String, Pageable, List<T>> findPage,
+                             Consumer<T> normalize,
+                             Function<T, String> idOf,
+                             Consumer<List<T>> saveAll) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Pageable page = PageRequest.of(0, PAGE_SIZE);
+        String afterId = "";
+        int total = 0;
+
+        while (true) {
+            String from = afterId;
+            List<T> rows = transaction.execute(status -> {
+                List<T> found = findPage.apply(from, page);
+                found.forEach(normalize);
+                saveAll.accept(found);
+                return found;
+            });
+            if (rows == null || rows.isEmpty()) {
+                return total;
+            }
+            total += rows.size();
+            afterId = idOf.apply(rows.get(rows.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.model.dto.LineAnalysisDto;
+import com.resumebuddy.service.tracing.PipelineTracing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Analyze step of the resume workflow: read, ask the LLM, save. The read and save are short
+ * transactions on worker threads; between them the LLM call holds neither a database
+ * connection nor a thread, so hundreds of analyses can wait on the LLM at once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisPipelineService {
+
+    private final AIAnalysisService aiAnalysisService;
+    private final PipelineTracing pipelineTracing;
+
+    /**
+     * Analyze a resume. Emits an empty list when it has no lines or the LLM gives no usable
+     * response. Cancelling the subscription aborts a pending LLM call, and nothing is saved.
+     */
+    public Mono<List<LineAnalysisDto>> analyzeResume(String resumeId) {
+        return Mono.fromCallable(() -> {
+                log.info("Starting AI analysis for resume ID: {}", resumeId);
+                pipelineTracing.tagCurrent(PipelineTracing.TAG_RESUME_ID, resumeId);
+                return aiAnalysisService.readAnalysisInput(resumeId);
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(input -> {
+                if (input.resumeLines().isEmpty()) {
+                    log.warn("No resume lines found for resume ID: {}", resumeId);
+                    return Mono.just(List.<LineAnalysisDto>of());
+                }
+                return aiAnalysisService.requestAnalysis(input)
+                    // The LLM response arrives on an event loop thread, which must not block on JDBC
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(output -> {
+                        aiAnalysisService.saveAnalysis(input, output);
+                        return output.lineAnalyses();
+                    })
+                    .defaultIfEmpty(List.of());
+            });
+    }
+}
@@ -0,0 +1,214 @@
+package com.resumebuddy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.resumebuddy.model.dto.DoclingEndpointStatsDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Pool of Docling service instances.
+ * Health is probed in the background and requests are routed to the healthy
+ * instance with the fewest outstanding requests.
+ */
+@Slf4j
+@Component
+public class DoclingEndpointPool {
+
+    private RestTemplate restTemplate;
+
+    @Value("${app.docling.service-url:http://localhost:8081}")
+    private String doclingServiceUrl;
+
+    // Comma separated list of instances, falls back to service-url when empty
+    @Value("${app.docling.service-urls:}")
+    private String doclingServiceUrls;
+
+    // Consecutive request failures before an instance is ejected
+    @Value("${app.docling.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${app.docling.health-check-timeout-ms:2000}")
+    private int healthCheckTimeoutMs;
+
+    private List<Endpoint> endpoints = List.of();
+
+    @PostConstruct
+    public void init() {
+        // Short timeouts so a hung instance cannot stall the prober for the others
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(healthCheckTimeoutMs);
+        requestFactory.setReadTimeout(healthCheckTimeoutMs);
+        restTemplate = new RestTemplate(requestFactory);
+
+        List<String> urls = Arrays.stream(doclingServiceUrls.split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .collect(Collectors.toList());
+        if (urls.isEmpty()) {
+            urls = List.of(doclingServiceUrl);
+        }
+
+        List<Endpoint> configured = new ArrayList<>();
+        for (String url : urls) {
+            configured.add(new Endpoint(url.endsWith("/") ? url.substring(0, url.length() - 1) : url));
+        }
+        endpoints = List.copyOf(configured);
+        // Instances count as unhealthy until the scheduled prober's first run, so startup never waits on the network
+        log.info("Configured {} Docling endpoint(s): {}", endpoints.size(), urls);
+    }
+
+    /**
+     * Pick the healthy endpoint with the least outstanding requests and reserve a slot on it.
+     * Returns null when every instance is ejected.
+     */
+    public Endpoint acquire() {
+        Endpoint selected = null;
+        int selectedOutstanding = Integer.MAX_VALUE;
+        int ties = 0;
+
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.healthy) {
+                continue;
+            }
+            int outstanding = endpoint.outstanding.get();
+            if (outstanding < selectedOutstanding) {
+                selected = endpoint;
+                selectedOutstanding = outstanding;
+                ties = 1;
+            } else if (outstanding == selectedOutstanding) {
+                // Reservoir pick among equally loaded instances to avoid always hitting the first one
+                ties++;
+                if (ThreadLocalRandom.current().nextInt(ties) == 0) {
+                    selected = endpoint;
+                }
+            }
+        }
+
+        if (selected != null) {
+            selected.outstanding.incrementAndGet();
+        }
+        return selected;
+    }
+
+    /**
+     * Release a slot reserved by {@link #acquire()} and record the outcome of the call.
+     */
+    public void release(Endpoint endpoint, long elapsedNanos, boolean success) {
+        endpoint.outstanding.decrementAndGet();
+        endpoint.requestCount.incrementAndGet();
+        endpoint.totalLatencyNanos.addAndGet(elapsedNanos);
+        endpoint.lastLatencyNanos = elapsedNanos;
+        endpoint.maxLatencyNanos.accumulateAndGet(elapsedNanos, Math::max);
+
+        if (success) {
+            endpoint.consecutiveFailures.set(0);
+            return;
+        }
+
+        endpoint.failureCount.incrementAndGet();
+        int failures = endpoint.consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold && endpoint.healthy) {
+            endpoint.healthy = false;
+            log.warn("Ejecting Docling endpoint {} after {} consecutive failures", endpoint.url, failures);
+        }
+    }
+
+    /**
+     * Release a slot whose call was cancelled by the caller; says nothing about the instance's health.
+     */
+    public void abandon(Endpoint endpoint) {
+        endpoint.outstanding.decrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.docling.health-check-interval-ms:5000}")
+    public void probeHealth() {
+        for (Endpoint endpoint : endpoints) {
+            boolean available = checkHealth(endpoint);
+            if (endpoint.lastHealthCheckAt == 0) {
+                log.info("Docling endpoint {} is {}", endpoint.url, available ? "healthy" : "unavailable");
+            } else if (available && !endpoint.healthy) {
+                log.info("Docling endpoint {} is healthy again, bringing it back", endpoint.url);
+                endpoint.consecutiveFailures.set(0);
+            } else if (!available && endpoint.healthy) {
+                log.warn("Docling endpoint {} failed health check, ejecting", endpoint.url);
+            }
+            endpoint.healthy = available;
+            endpoint.lastHealthCheckAt = System.currentTimeMillis();
+        }
+    }
+
+    public boolean hasHealthyEndpoint() {
+        return endpoints.stream().anyMatch(endpoint -> endpoint.healthy);
+    }
+
+    public List<DoclingEndpointStatsDto> getStats() {
+        return endpoints.stream()
+            .map(Endpoint::toStats)
+            .collect(Collectors.toList());
+    }
+
+    private boolean checkHealth(Endpoint endpoint) {
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(endpoint.url + "/health", JsonNode.class);
+            if (response.getStatusCode() == HttpStatus.OK) {
+                JsonNode body = response.getBody();
+                if (body != null && body.has("docling_available")) {
+                    return body.get("docling_available").asBoolean();
+                }
+                log.warn("Docling service health response missing 'docling_available' field: {}", body);
+            }
+        } catch (Exception e) {
+            log.debug("Docling service health check failed for {}: {}", endpoint.url, e.getMessage());
+        }
+        return false;
+    }
+
+    @Getter
+    public static class Endpoint {
+        private final String url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong failureCount = new AtomicLong();
+        private final AtomicLong totalLatencyNanos = new AtomicLong();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+        private volatile long lastLatencyNanos;
+        private volatile long lastHealthCheckAt;
+        private volatile boolean healthy;
+
+        Endpoint(String url) {
+            this.url = url;
+        }
+
+        DoclingEndpointStatsDto toStats() {
+            long requests = requestCount.get();
+            DoclingEndpointStatsDto dto = new DoclingEndpointStatsDto();
+            dto.setUrl(url);
+            dto.setHealthy(healthy);
+            dto.setOutstandingRequests(outstanding.get());
+            dto.setRequestCount(requests);
+            dto.setFailureCount(failureCount.get());
+            dto.setAverageLatencyMs(requests == 0 ? 0 : totalLatencyNanos.get() / requests / 1_000_000.0);
+            dto.setLastLatencyMs(lastLatencyNanos / 1_000_000.0);
+            dto.setMaxLatencyMs(maxLatencyNanos.get() / 1_000_000.0);
+            dto.setLastHealthCheckAt(lastHealthCheckAt);
+            return dto;
+        }
+    }
+}
@@ -1,22 +1,31 @@
 package com.resumebuddy.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuddy.model.dto.DoclingParseResult;
 import com.resumebuddy.model.dto.ParsedResume;
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import com.resumebuddy.service.tracing.PipelineTracing;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -24,157 +33,147 @@ import java.util.Map;
 public class DoclingHttpService {
 
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    @Value("${app.docling.service-url:http://localhost:8081}")
-    private String doclingServiceUrl;
-
-    public ParsedResume parseResume(MultipartFile file, String resumeId) {
+    private final DoclingEndpointPool doclingEndpointPool;
+    private final DoclingResponseDecoder doclingResponseDecoder;
+    private final PipelineMetrics pipelineMetrics;
+    private final PipelineTracing pipelineTracing;
+    // Shared builder-made client, so calls get client spans and carry the trace context to Docling
+    private final WebClient webClient;
+
+    public Mono<ParsedResume> parseResume(MultipartFile file, String resumeId) {
         log.info("Starting Docling HTTP parsing for resume: {}", file.getOriginalFilename());
 
-        try {
-            // Check if Docling service is available
-            if (!isDoclingServiceAvailable()) {
-                log.warn("Docling service not available, skipping Docling parsing");
-                return createBasicParsedResume(file, resumeId);
-            }
-
-            // Call Docling microservice
-            JsonNode doclingResult = callDoclingService(file);
+        // Health is cached by the endpoint pool's background prober
+        if (!doclingEndpointPool.hasHealthyEndpoint()) {
+            log.warn("Docling service not available, skipping Docling parsing");
+            return Mono.just(createBasicParsedResume(file, resumeId));
+        }
 
-            if (doclingResult != null && doclingResult.get("success").asBoolean()) {
-                return convertDoclingToParsedResume(doclingResult, file, resumeId);
-            } else {
+        // Call Docling microservice
+        return callDoclingService(file)
+            .filter(DoclingParseResult::isSuccess)
+            .map(doclingResult -> convertDoclingToParsedResume(doclingResult, file, resumeId))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
                 log.warn("Docling parsing failed, creating basic parsed resume");
                 return createBasicParsedResume(file, resumeId);
-            }
-
-        } catch (Exception e) {
-            log.error("Error in Docling HTTP parsing: ", e);
-            return createBasicParsedResume(file, resumeId);
-        }
+            }))
+            .onErrorResume(e -> {
+                log.error("Error in Docling HTTP parsing: ", e);
+                return Mono.just(createBasicParsedResume(file, resumeId));
+            });
     }
 
-    public ParsedResume parseResumeFromUrl(String fileUrl, String resumeId) {
+    public Mono<ParsedResume> parseResumeFromUrl(String fileUrl, String resumeId) {
         log.info("Starting Docling HTTP parsing from URL: {}", fileUrl);
 
-        try {
-            // Skip health check - just try to call Docling service directly
-            JsonNode doclingResult = callDoclingServiceWithUrl(fileUrl);
-
-            if (doclingResult != null && doclingResult.get("success").asBoolean()) {
-                return convertDoclingToParsedResumeFromUrl(doclingResult, fileUrl, resumeId);
-            } else {
+        // Skip health check - just try to call Docling service directly
+        return callDoclingServiceWithUrl(fileUrl)
+            .filter(DoclingParseResult::isSuccess)
+            .map(doclingResult -> convertDoclingToParsedResumeFromUrl(doclingResult, fileUrl, resumeId))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
                 log.warn("Docling parsing failed, creating basic parsed resume");
                 return createBasicParsedResumeFromUrl(fileUrl, resumeId);
-            }
-
-        } catch (Exception e) {
-            log.error("Error in Docling HTTP parsing from URL: ", e);
-            return createBasicParsedResumeFromUrl(fileUrl, resumeId);
-        }
+            }))
+            .onErrorResume(e -> {
+                log.error("Error in Docling HTTP parsing from URL: ", e);
+                return Mono.just(createBasicParsedResumeFromUrl(fileUrl, resumeId));
+            });
     }
 
-    private boolean isDoclingServiceAvailable() {
+    private Mono<DoclingParseResult> callDoclingService(MultipartFile file) {
+        // Create file resource
+        ByteArrayResource fileResource;
         try {
-            ResponseEntity<JsonNode> response = restTemplate.getForEntity(
-                doclingServiceUrl + "/health",
-                JsonNode.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode body = response.getBody();
-                if (body != null && body.has("docling_available")) {
-                    boolean available = body.get("docling_available").asBoolean();
-                    log.info("Docling service health check: docling_available = {}", available);
-                    return available;
-                } else {
-                    log.warn("Docling service health response missing 'docling_available' field: {}", body);
-                    return false;
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Docling service health check failed: {}", e.getMessage());
-        }
-        return false;
-    }
-
-    private JsonNode callDoclingService(MultipartFile file) {
-        try {
-            // Prepare multipart request
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            // Create file resource
-            ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()) {
+            fileResource = new ByteArrayResource(file.getBytes()) {
                 @Override
                 public String getFilename() {
                     return file.getOriginalFilename();
                 }
             };
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
 
-            // Build multipart body
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", fileResource);
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            // Call Docling service
-            log.info("Calling Docling service at: {}/parse", doclingServiceUrl);
-            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
-                doclingServiceUrl + "/parse",
-                requestEntity,
-                JsonNode.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                log.info("Successfully received response from Docling service");
-                return response.getBody();
-            } else {
-                log.error("Docling service returned error status: {}", response.getStatusCode());
-                return null;
-            }
+        // Build multipart body
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("file", fileResource);
 
-        } catch (Exception e) {
-            log.error("Error calling Docling service: ", e);
-            return null;
-        }
+        // Call Docling service
+        return postToDocling("/parse?fields=" + DoclingResponseDecoder.REQUESTED_FIELDS,
+            request -> request.body(BodyInserters.fromMultipartData(body.build())));
     }
 
-    private JsonNode callDoclingServiceWithUrl(String fileUrl) {
-        try {
-            // Create JSON request body
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("file_url", fileUrl);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-            // Call Docling service with URL
-            log.info("Calling Docling service at: {}/parse-url with URL: {}", doclingServiceUrl, fileUrl);
-            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
-                doclingServiceUrl + "/parse-url",
-                requestEntity,
-                JsonNode.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                log.info("Successfully received response from Docling service for URL parsing");
-                return response.getBody();
-            } else {
-                log.error("Docling service returned error status: {}", response.getStatusCode());
-                return null;
+    private Mono<DoclingParseResult> callDoclingServiceWithUrl(String fileUrl) {
+        // Create JSON request body, asking only for the sections we use
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("file_url", fileUrl);
+        requestBody.put("fields", List.of(DoclingResponseDecoder.REQUESTED_FIELDS.split(",")));
+
+        // Call Docling service with URL
+        log.info("Calling Docling /parse-url with URL: {}", fileUrl);
+        return postToDocling("/parse-url",
+            request -> request.contentType(MediaType.APPLICATION_JSON).bodyValue(requestBody));
+    }
+
+    /**
+     * POST to the least loaded healthy Docling instance, recording latency and outcome on the pool.
+     * The response body is decoded chunk by chunk as it arrives, without building a JSON tree.
+     * Completes empty when no instance is available or the document is rejected. If the caller
+     * cancels, the request is aborted and the instance's slot is freed without counting a failure.
+     */
+    private Mono<DoclingParseResult> postToDocling(String path,
+                                                   Function<WebClient.RequestBodySpec, WebClient.RequestHeadersSpec<?>> body) {
+        return Mono.defer(() -> {
+            String operation = path.startsWith("/parse-url") ? "parse-url" : "parse";
+            Timer.Sample sample = pipelineMetrics.start();
+
+            DoclingEndpointPool.Endpoint endpoint = doclingEndpointPool.acquire();
+            if (endpoint == null) {
+                log.warn("No healthy Docling endpoint available for {}", path);
+                pipelineMetrics.recordDoclingRequest(sample, operation, PipelineMetrics.OUTCOME_UNAVAILABLE);
+                return Mono.empty();
             }
 
-        } catch (Exception e) {
-            log.error("Error calling Docling service with URL: ", e);
-            return null;
-        }
+            long start = System.nanoTime();
+            log.info("Calling Docling service at: {}{}", endpoint.getUrl(), path);
+            return pipelineTracing.inSpanAsync("docling.request", span -> {
+                    span.tag("docling.operation", operation);
+                    span.tag("docling.endpoint", endpoint.getUrl());
+                    Flux<DataBuffer> response = body.apply(webClient.post().uri(endpoint.getUrl() + path))
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class);
+                    return doclingResponseDecoder.decode(response);
+                })
+                .doOnSuccess(result -> {
+                    log.info("Successfully received response from Docling service {}", endpoint.getUrl());
+                    recordAttempt(endpoint, start, true, sample, operation, PipelineMetrics.OUTCOME_SUCCESS);
+                })
+                .onErrorResume(DoclingHttpService::isRejection, e -> {
+                    // 4xx means the document was rejected, not that the instance is unhealthy
+                    log.error("Docling service {} rejected request: {}",
+                        endpoint.getUrl(), ((WebClientResponseException) e).getStatusCode());
+                    recordAttempt(endpoint, start, true, sample, operation, PipelineMetrics.OUTCOME_REJECTED);
+                    return Mono.empty();
+                })
+                .doOnError(e -> recordAttempt(endpoint, start, false, sample, operation, PipelineMetrics.OUTCOME_ERROR))
+                .doOnCancel(() -> {
+                    doclingEndpointPool.abandon(endpoint);
+                    pipelineMetrics.recordDoclingRequest(sample, operation, PipelineMetrics.OUTCOME_CANCELLED);
+                });
+        });
+    }
+
+    private static boolean isRejection(Throwable e) {
+        return e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
     }
 
-    private ParsedResume convertDoclingToParsedResume(JsonNode doclingResult, MultipartFile file, String resumeId) {
+    private void recordAttempt(DoclingEndpointPool.Endpoint endpoint, long start, boolean success,
+                               Timer.Sample sample, String operation, String outcome) {
+        doclingEndpointPool.release(endpoint, System.nanoTime() - start, success);
+        pipelineMetrics.recordDoclingRequest(sample, operation, outcome);
+    }
+
+    private ParsedResume convertDoclingToParsedResume(DoclingParseResult doclingResult, MultipartFile file, String resumeId) {
         ParsedResume parsedResume = new ParsedResume();
         parsedResume.setId(resumeId);
         parsedResume.setFilename(file.getOriginalFilename());
@@ -182,18 +181,15 @@ public class DoclingHttpService {
         parsedResume.setCreatedAt(LocalDateTime.now());
         parsedResume.setUpdatedAt(LocalDateTime.now());
 
-        // Get the full text and markdown
-        String fullText = doclingResult.get("text").asText();
-        String markdown = doclingResult.get("markdown").asText();
-
         // Set original text only - clean for LLM processing
-        parsedResume.setOriginalText(fullText);
+        parsedResume.setOriginalText(doclingResult.getText() != null ? doclingResult.getText() : "");
+        parsedResume.setLayoutLabels(layoutLabels(doclingResult));
 
         log.info("Successfully converted Docling result to ParsedResume");
         return parsedResume;
     }
 
-    private ParsedResume convertDoclingToParsedResumeFromUrl(JsonNode doclingResult, String fileUrl, String resumeId) {
+    private ParsedResume convertDoclingToParsedResumeFromUrl(DoclingParseResult doclingResult, String fileUrl, String resumeId) {
         ParsedResume parsedResume = new ParsedResume();
         parsedResume.setId(resumeId);
 
@@ -202,23 +198,32 @@ public class DoclingHttpService {
         parsedResume.setFilename(filename);
 
         // Get content type from Docling result
-        String contentType = doclingResult.get("content_type").asText();
-        parsedResume.setContentType(contentType);
+        parsedResume.setContentType(doclingResult.getContentType());
 
         parsedResume.setCreatedAt(LocalDateTime.now());
         parsedResume.setUpdatedAt(LocalDateTime.now());
 
-        // Get the full text and markdown
-        String fullText = doclingResult.get("text").asText();
-        String markdown = doclingResult.get("markdown").asText();
-
         // Set original text only - clean for LLM processing
-        parsedResume.setOriginalText(fullText);
+        parsedResume.setOriginalText(doclingResult.getText() != null ? doclingResult.getText() : "");
+        parsedResume.setLayoutLabels(layoutLabels(doclingResult));
 
         log.info("Successfully converted Docling URL result to ParsedResume");
         return parsedResume;
     }
 
+    /**
+     * Map each labelled layout element's text to its label so lines can be tagged when they are created.
+     */
+    private Map<String, String> layoutLabels(DoclingParseResult doclingResult) {
+        Map<String, String> labels = new HashMap<>();
+        for (DoclingParseResult.StructureElement element : doclingResult.getStructure()) {
+            if (LinePreSegmenter.isUsefulLayoutLabel(element.getType())) {
+                labels.putIfAbsent(LinePreSegmenter.layoutKey(element.getText()), element.getType());
+            }
+        }
+        return labels;
+    }
+
     private String extractFilenameFromUrl(String fileUrl) {
         try {
             String[] urlParts = fileUrl.split("/");
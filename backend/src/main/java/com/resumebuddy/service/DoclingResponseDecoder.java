@@ -0,0 +1,173 @@
+package com.resumebuddy.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuddy.model.dto.DoclingParseResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Streaming decoder for Docling parse responses.
+ * Feeds the body to a non-blocking JSON parser chunk by chunk as it arrives, keeping only the
+ * fields it needs, so markdown, metadata and tables are never materialized even if the service
+ * sends them, and no thread waits for the rest of the body.
+ */
+@Component
+@RequiredArgsConstructor
+public class DoclingResponseDecoder {
+
+    /**
+     * Response sections requested from Docling; everything else is left unexported on the service side.
+     */
+    public static final String REQUESTED_FIELDS = "text,structure";
+
+    private final ObjectMapper objectMapper;
+
+    public Mono<DoclingParseResult> decode(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+            Decoding decoding;
+            try {
+                decoding = new Decoding(objectMapper.getFactory().createNonBlockingByteBufferParser());
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return body
+                .doOnNext(buffer -> {
+                    try {
+                        decoding.feed(buffer);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .then(Mono.fromCallable(decoding::finish))
+                .doFinally(signal -> decoding.close());
+        });
+    }
+
+    /**
+     * State of one response: tokens are handled as the parser produces them, tracking how deep
+     * in the document each one is. Top-level fields sit at depth 1 and layout elements at depth 2,
+     * with their type and text at depth 3; anything else is passed over.
+     */
+    private static final class Decoding {
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final DoclingParseResult result = new DoclingParseResult();
+
+        private int depth;
+        private boolean started;
+        private String field;
+        private String elementField;
+        private DoclingParseResult.StructureElement element;
+
+        Decoding(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(DataBuffer buffer) {
+            try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+                while (chunks.hasNext()) {
+                    ByteBuffer chunk = chunks.next();
+                    feeder.feedInput(chunk);
+                    drain();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        DoclingParseResult finish() throws IOException {
+            feeder.endOfInput();
+            drain();
+            if (!started || depth != 0) {
+                throw new IOException("Docling response ended before the JSON object was complete");
+            }
+            return result;
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                // Nothing left to release
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                handle(token);
+            }
+        }
+
+        private void handle(JsonToken token) throws IOException {
+            if (!started) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("Expected JSON object in Docling response");
+                }
+                started = true;
+                depth = 1;
+                return;
+            }
+
+            switch (token) {
+                case START_OBJECT -> {
+                    if (depth == 2 && "structure".equals(field)) {
+                        element = new DoclingParseResult.StructureElement();
+                    }
+                    depth++;
+                }
+                case START_ARRAY -> depth++;
+                case END_OBJECT -> {
+                    depth--;
+                    if (depth == 2 && element != null) {
+                        result.getStructure().add(element);
+                        element = null;
+                    }
+                }
+                case END_ARRAY -> depth--;
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        field = parser.currentName();
+                    } else if (depth == 3) {
+                        elementField = parser.currentName();
+                    }
+                }
+                default -> handleValue(token);
+            }
+        }
+
+        private void handleValue(JsonToken token) throws IOException {
+            if (depth == 1) {
+                switch (field) {
+                    case "success" -> result.setSuccess(token == JsonToken.VALUE_TRUE);
+                    case "content_type" -> result.setContentType(parser.getValueAsString());
+                    case "text" -> result.setText(parser.getValueAsString());
+                    default -> {
+                        // Unused scalar field
+                    }
+                }
+            } else if (depth == 3 && element != null) {
+                switch (elementField) {
+                    case "type" -> element.setType(parser.getValueAsString());
+                    case "text" -> element.setText(parser.getValueAsString());
+                    default -> {
+                        // Only type and text of each layout element are kept
+                    }
+                }
+            }
+        }
+    }
+}
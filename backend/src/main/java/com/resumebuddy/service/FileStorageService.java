@@ -1,11 +1,14 @@
 package com.resumebuddy.service;
 
+import com.resumebuddy.service.importer.ImportArchiveTooLargeException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,26 +19,29 @@ import java.util.UUID;
 @Service
 public class FileStorageService {
 
+    private static final String IMPORT_DIR = "imports";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     @Value("${app.file.upload-dir:./uploads}")
     private String uploadDir;
 
     public String storeFile(MultipartFile file, String resumeId) throws IOException {
-        // Create uploads directory if it doesn't exist
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-            log.info("Created upload directory: {}", uploadPath.toAbsolutePath());
+        try (InputStream inputStream = file.getInputStream()) {
+            return storeFile(inputStream, file.getOriginalFilename(), resumeId);
         }
+    }
+
+    public String storeFile(InputStream inputStream, String originalFilename, String resumeId) throws IOException {
+        Path uploadPath = createUploadDirectory();
 
         // Generate unique filename with resume ID
-        String originalFilename = file.getOriginalFilename();
         String fileExtension = getFileExtension(originalFilename);
         String storedFilename = resumeId + "_" + UUID.randomUUID().toString() + fileExtension;
 
         Path targetLocation = uploadPath.resolve(storedFilename);
 
         // Copy file to target location
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
 
         log.info("Stored file: {} -> {}", originalFilename, targetLocation.toAbsolutePath());
 
@@ -43,6 +49,38 @@ public class FileStorageService {
         return storedFilename;
     }
 
+    /**
+     * Store a bulk import archive under imports/ in the upload directory.
+     * The copy stops as soon as more than {@code maxSize} bytes arrive; the partial file is removed.
+     * Returns the path relative to the upload directory.
+     */
+    public String storeImportArchive(InputStream inputStream, String archiveId, long maxSize) throws IOException {
+        Path importPath = createUploadDirectory().resolve(IMPORT_DIR);
+        Files.createDirectories(importPath);
+
+        String storedFilename = IMPORT_DIR + "/" + archiveId + ".zip";
+        Path target = Paths.get(uploadDir).resolve(storedFilename);
+
+        long size = 0;
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                size += read;
+                if (size > maxSize) {
+                    throw new ImportArchiveTooLargeException(maxSize);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+
+        log.info("Stored import archive {} ({} bytes)", storedFilename, size);
+        return storedFilename;
+    }
+
     public byte[] loadFileAsBytes(String filePath) throws IOException {
         Path fullPath = Paths.get(uploadDir).resolve(filePath);
 
@@ -53,6 +91,21 @@ public class FileStorageService {
         return Files.readAllBytes(fullPath);
     }
 
+    /**
+     * Read at most {@code length} bytes from the start of a stored file, used for format sniffing.
+     */
+    public byte[] readHeader(String filePath, int length) throws IOException {
+        Path fullPath = Paths.get(uploadDir).resolve(filePath);
+
+        if (!Files.exists(fullPath)) {
+            throw new IOException("File not found: " + filePath);
+        }
+
+        try (InputStream inputStream = Files.newInputStream(fullPath)) {
+            return inputStream.readNBytes(length);
+        }
+    }
+
     public Path getFilePath(String filePath) {
         return Paths.get(uploadDir).resolve(filePath);
     }
@@ -81,6 +134,16 @@ public class FileStorageService {
         return Files.size(fullPath);
     }
 
+    private Path createUploadDirectory() throws IOException {
+        // Create uploads directory if it doesn't exist
+        Path uploadPath = Paths.get(uploadDir);
+        if (!Files.exists(uploadPath)) {
+            Files.createDirectories(uploadPath);
+            log.info("Created upload directory: {}", uploadPath.toAbsolutePath());
+        }
+        return uploadPath;
+    }
+
     private String getFileExtension(String filename) {
         if (filename == null || filename.isEmpty()) {
             return "";
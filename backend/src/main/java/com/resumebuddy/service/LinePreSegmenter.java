@@ -0,0 +1,153 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.model.ResumeLine;
+import com.resumebuddy.model.dto.LineAnalysisDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Local pre-segmentation before the LLM sees a resume.
+ * Labels the obvious lines - section headers and contact details - from Docling layout
+ * labels plus dictionary and regex heuristics. Anything ambiguous is left for the LLM.
+ */
+@Slf4j
+@Component
+public class LinePreSegmenter {
+
+    public static final String SOURCE_HEURISTIC = "HEURISTIC";
+
+    // Docling labels worth keeping per line; plain text/paragraph is the default and carries no signal
+    private static final Set<String> LAYOUT_LABELS = Set.of("title", "section_header", "list_item", "page_header", "page_footer");
+
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+");
+    private static final Pattern PHONE = Pattern.compile("\\+?\\(?\\d[\\d\\s().-]{7,}\\d");
+    private static final Pattern PROFILE_URL = Pattern.compile(
+        "(https?://)?(www\\.)?(linkedin\\.com|github\\.com|gitlab\\.com)/\\S*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern URL = Pattern.compile("(https?://|www\\.)\\S+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CONTACT_SEPARATOR = Pattern.compile("\\s*[|•·;]\\s*|\\s{2,}");
+    private static final Pattern CONTACT_PREFIX = Pattern.compile(
+        "^(e-?mail|phone|tel|mobile|cell|linkedin|github|web|website)\\s*:\\s*", Pattern.CASE_INSENSITIVE);
+
+    // Normalized header text -> sectionType
+    private static final Map<String, String> SECTION_HEADERS = new HashMap<>();
+
+    static {
+        headers("SUMMARY", "summary", "professional summary", "career summary", "executive summary", "profile",
+            "professional profile", "about me", "objective", "career objective", "personal statement");
+        headers("EXPERIENCE", "experience", "work experience", "professional experience", "relevant experience",
+            "employment", "employment history", "work history", "career history");
+        headers("EDUCATION", "education", "education and training", "academic background", "academic qualifications");
+        headers("SKILLS", "skills", "technical skills", "key skills", "core skills", "core competencies",
+            "competencies", "technologies", "tech stack", "skills and tools");
+        headers("CERTIFICATIONS", "certifications", "certification", "certificates", "credentials", "licenses",
+            "licences", "licenses and certifications", "certifications and licenses");
+        headers("PROJECTS", "projects", "personal projects", "key projects", "side projects", "selected projects");
+        headers("AWARDS", "awards", "honors", "honours", "achievements", "awards and honors", "awards and achievements");
+        headers("PUBLICATIONS", "publications", "papers");
+        headers("LANGUAGES", "languages");
+        headers("VOLUNTEER", "volunteer", "volunteering", "volunteer experience");
+        headers("INTERESTS", "interests", "hobbies", "hobbies and interests");
+        headers("CONTACT", "contact", "contact information", "contact details", "personal details", "personal information");
+    }
+
+    private static void headers(String sectionType, String... names) {
+        for (String name : names) {
+            SECTION_HEADERS.put(name, sectionType);
+        }
+    }
+
+    /**
+     * Labels for the lines that can be classified with high confidence, keyed by line number.
+     */
+    public Map<Integer, LineAnalysisDto> preclassify(List<ResumeLine> lines) {
+        Map<Integer, LineAnalysisDto> preclassified = new LinkedHashMap<>();
+        String currentSection = null;
+
+        for (ResumeLine line : lines) {
+            String content = line.getContent();
+            if (content == null || content.isBlank()) {
+                continue;
+            }
+
+            String headerSection = headerSection(content);
+            if (headerSection != null) {
+                currentSection = headerSection;
+                preclassified.put(line.getLineNumber(), preset(line, headerSection, "Section header: " + content.trim()));
+            } else if ((currentSection == null || "CONTACT".equals(currentSection)) && isContactLine(content)) {
+                // Contact details after another header (e.g. references) are left to the LLM
+                preclassified.put(line.getLineNumber(), preset(line, "CONTACT", "Contact details"));
+            }
+        }
+
+        log.debug("Pre-classified {} of {} lines", preclassified.size(), lines.size());
+        return preclassified;
+    }
+
+    /**
+     * Key used to match Docling layout elements to resume lines.
+     */
+    public static String layoutKey(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ");
+    }
+
+    public static boolean isUsefulLayoutLabel(String label) {
+        return label != null && LAYOUT_LABELS.contains(label);
+    }
+
+    /**
+     * The sectionType of a header line, or null when the line is not clearly a header.
+     * The whole line, ignoring case and punctuation, must be a dictionary name. Headers with
+     * extra words are left to the LLM even when Docling labelled them, since they are often
+     * something else: "Programming Languages" names a skill category, not the LANGUAGES section.
+     */
+    public String headerSection(String content) {
+        return SECTION_HEADERS.get(normalizeHeader(content));
+    }
+
+    /**
+     * True when every part of the line is an email, phone number or URL.
+     */
+    boolean isContactLine(String content) {
+        boolean found = false;
+        for (String part : CONTACT_SEPARATOR.split(content.trim())) {
+            String value = CONTACT_PREFIX.matcher(part).replaceFirst("").trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (!(EMAIL.matcher(value).matches() || isPhone(value)
+                    || PROFILE_URL.matcher(value).matches() || URL.matcher(value).matches())) {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    private boolean isPhone(String value) {
+        if (!PHONE.matcher(value).matches()) {
+            return false;
+        }
+        // Date ranges like "2019 - 2021" also fit the pattern but have too few digits
+        long digits = value.chars().filter(Character::isDigit).count();
+        return digits >= 9 && digits <= 15;
+    }
+
+    private static String normalizeHeader(String content) {
+        return content.toLowerCase(Locale.ROOT)
+            .replace("&", " and ")
+            .replaceAll("[^\\p{L}]+", " ")
+            .trim();
+    }
+
+    private static LineAnalysisDto preset(ResumeLine line, String sectionType, String notes) {
+        return new LineAnalysisDto(line.getLineNumber(), sectionType, null, null, notes, SOURCE_HEURISTIC);
+    }
+}
@@ -0,0 +1,473 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.model.ResumeLine;
+import com.resumebuddy.model.dto.LineSearchResultDto;
+import com.resumebuddy.repository.ResumeLineRepository;
+import com.resumebuddy.service.event.ResumeDeletedEvent;
+import com.resumebuddy.service.event.ResumeLinesChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.DrillDownQuery;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over resume line content with sectionType and groupType facets.
+ * Writes are applied after commit from line change events; readers are refreshed on a
+ * fixed interval so bursts of edits share one near-real-time reopen.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LineSearchService {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_RESUME_ID = "resumeId";
+    private static final String FIELD_LINE_NUMBER = "lineNumber";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FACET_SECTION_TYPE = "sectionType";
+    private static final String FACET_GROUP_TYPE = "groupType";
+
+    // Line hits fetched per requested resume before grouping
+    private static final int LINE_HITS_PER_RESUME = 20;
+    private static final int MAX_LINE_HITS = 5000;
+
+    private final ResumeLineRepository resumeLineRepository;
+    private final EntityManager entityManager;
+
+    @Value("${app.search.index-dir:./search-index}")
+    private String indexDir;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final AtomicLong pendingChanges = new AtomicLong();
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    // Facet ordinals are rebuilt only when the reader changes
+    private IndexReader facetStateReader;
+    private SortedSetDocValuesReaderState facetState;
+    // Building the state reads doc values from disk, so a lock rather than a monitor that would pin virtual threads
+    private final ReentrantLock facetStateLock = new ReentrantLock();
+
+    // Changes from events are applied under the read lock. While a rebuild runs they are queued instead and
+    // replayed once it finishes, so its snapshot of resume_lines cannot overwrite a newer change
+    private final ReentrantReadWriteLock changeLock = new ReentrantReadWriteLock();
+    private Queue<IndexChange> deferredChanges;
+    // Held for the whole rebuild; the scheduled refresh and commit skip their turn while it is held
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Lucene holds monitors while it flushes segments and applies deletes. Refresh and commit run on this
+    // platform thread, so with virtual threads enabled the scheduled jobs never pin a carrier thread
+    private final ExecutorService maintenance = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("search-index-maintenance").daemon().factory());
+
+    @PostConstruct
+    public void init() throws IOException {
+        directory = FSDirectory.open(Paths.get(indexDir));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+        log.info("Opened line search index at {} with {} documents",
+            Paths.get(indexDir).toAbsolutePath(), indexWriter.getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        maintenance.shutdown();
+        searcherManager.close();
+        if (rebuildLock.isLocked()) {
+            // Keep the last committed index rather than a half-built one; it is rebuilt again on request
+            indexWriter.rollback();
+        } else {
+            // Closing the writer commits pending changes
+            indexWriter.close();
+        }
+        directory.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIfEmpty() throws IOException {
+        if (indexWriter.getDocStats().numDocs == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Drop and rebuild the whole index from resume_lines.
+     */
+    @Transactional(readOnly = true)
+    public long rebuild() throws IOException {
+        rebuildLock.lock();
+        try {
+            return rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private long rebuildLocked() throws IOException {
+        long start = System.currentTimeMillis();
+        long indexed = 0;
+
+        changeLock.writeLock().lock();
+        try {
+            deferredChanges = new ConcurrentLinkedQueue<>();
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+
+        try {
+            indexWriter.deleteAll();
+            try (Stream<ResumeLine> lines = resumeLineRepository.streamAll()) {
+                for (ResumeLine line : (Iterable<ResumeLine>) lines::iterator) {
+                    if (hasContent(line)) {
+                        indexWriter.updateDocument(new Term(FIELD_ID, line.getId()), toDocument(line.getResume().getId(), line));
+                        indexed++;
+                    }
+                    // Keep the persistence context from growing with the corpus
+                    entityManager.detach(line);
+                }
+            }
+        } finally {
+            replayDeferredChanges();
+        }
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+
+        log.info("Rebuilt line search index with {} lines in {} ms", indexed, System.currentTimeMillis() - start);
+        return indexed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLinesChanged(ResumeLinesChangedEvent event) {
+        try {
+            applyOrDefer(() -> {
+                if (event.isFullReplace()) {
+                    indexWriter.deleteDocuments(new Term(FIELD_RESUME_ID, event.getResumeId()));
+                }
+                for (ResumeLine line : event.getLines()) {
+                    Term idTerm = new Term(FIELD_ID, line.getId());
+                    if (hasContent(line)) {
+                        indexWriter.updateDocument(idTerm, toDocument(event.getResumeId(), line));
+                    } else if (!event.isFullReplace()) {
+                        indexWriter.deleteDocuments(idTerm);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            log.error("Error indexing lines for resume ID: {}", event.getResumeId(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeDeleted(ResumeDeletedEvent event) {
+        try {
+            applyOrDefer(() -> indexWriter.deleteDocuments(new Term(FIELD_RESUME_ID, event.getResumeId())));
+        } catch (IOException e) {
+            log.error("Error removing lines of deleted resume ID: {}", event.getResumeId(), e);
+        }
+    }
+
+    private void applyOrDefer(IndexChange change) throws IOException {
+        changeLock.readLock().lock();
+        try {
+            if (deferredChanges != null) {
+                deferredChanges.add(change);
+                return;
+            }
+            change.apply();
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        pendingChanges.incrementAndGet();
+    }
+
+    // Events are only raised after commit, so every queued change is at least as new as the rebuild's snapshot
+    private void replayDeferredChanges() {
+        changeLock.writeLock().lock();
+        try {
+            for (IndexChange change : deferredChanges) {
+                try {
+                    change.apply();
+                } catch (IOException e) {
+                    log.error("Error applying line index change deferred by the rebuild", e);
+                }
+            }
+            deferredChanges = null;
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Batched near-real-time refresh: one reader reopen covers every change since the last tick.
+     */
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        // Searchers keep the previous reader until a running rebuild is done
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            if (pendingChanges.getAndSet(0) > 0) {
+                onMaintenanceThread(searcherManager::maybeRefresh);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:60000}")
+    public void commit() throws IOException {
+        // A rebuild commits once when it is done; committing midway would persist a half-built index
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                onMaintenanceThread(indexWriter::commit);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void onMaintenanceThread(Callable<?> work) throws IOException {
+        try {
+            maintenance.submit(work).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    public LineSearchResultDto search(String queryText, String sectionType, String groupType, int limit) throws IOException {
+        long start = System.nanoTime();
+        Query contentQuery = parseQuery(queryText);
+
+        DrillDownQuery query = new DrillDownQuery(facetsConfig, contentQuery);
+        if (sectionType != null && !sectionType.isBlank()) {
+            query.add(FACET_SECTION_TYPE, sectionType);
+        }
+        if (groupType != null && !groupType.isBlank()) {
+            query.add(FACET_GROUP_TYPE, groupType);
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            FacetsCollector facetsCollector = new FacetsCollector();
+            int lineHits = Math.min(MAX_LINE_HITS, limit * LINE_HITS_PER_RESUME);
+            TopDocs topDocs = FacetsCollector.search(searcher, query, lineHits, facetsCollector);
+
+            UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer).build();
+            String[] highlights = highlighter.highlight(FIELD_CONTENT, contentQuery, topDocs);
+
+            // Group line hits by resume, keeping the order of each resume's best line
+            StoredFields storedFields = searcher.storedFields();
+            Map<String, LineSearchResultDto.ResumeHit> resumeHits = new LinkedHashMap<>();
+            for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                Document document = storedFields.document(scoreDoc.doc);
+                String resumeId = document.get(FIELD_RESUME_ID);
+
+                LineSearchResultDto.LineHit lineHit = new LineSearchResultDto.LineHit(
+                    document.getField(FIELD_LINE_NUMBER).numericValue().intValue(),
+                    document.get(FACET_SECTION_TYPE),
+                    document.get(FACET_GROUP_TYPE),
+                    scoreDoc.score,
+                    highlights[i] != null ? highlights[i] : document.get(FIELD_CONTENT)
+                );
+                resumeHits.computeIfAbsent(resumeId, id -> new LineSearchResultDto.ResumeHit(id, 0, new ArrayList<>()))
+                    .getLines().add(lineHit);
+            }
+
+            resumeHits.values().forEach(hit -> hit.setScore(scoreResume(hit.getLines())));
+            List<LineSearchResultDto.ResumeHit> ranked = resumeHits.values().stream()
+                .sorted(Comparator.comparingDouble(LineSearchResultDto.ResumeHit::getScore).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+
+            LineSearchResultDto result = new LineSearchResultDto();
+            result.setQuery(queryText);
+            result.setTotalLineHits(topDocs.totalHits.value);
+            result.setResults(ranked);
+            result.setFacets(countFacets(searcher, facetsCollector));
+            result.setTookMs((System.nanoTime() - start) / 1_000_000.0);
+            return result;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("indexDir", Paths.get(indexDir).toAbsolutePath().toString());
+        stats.put("documents", indexWriter.getDocStats().numDocs);
+        stats.put("pendingChanges", pendingChanges.get());
+        stats.put("uncommittedChanges", indexWriter.hasUncommittedChanges());
+        return stats;
+    }
+
+    /**
+     * Best line score plus a small share of the other matching lines, so a resume that
+     * mentions the query in several places ranks above one with a single equal hit.
+     */
+    private double scoreResume(List<LineSearchResultDto.LineHit> lines) {
+        double best = 0;
+        double sum = 0;
+        for (LineSearchResultDto.LineHit line : lines) {
+            best = Math.max(best, line.getScore());
+            sum += line.getScore();
+        }
+        return best + 0.1 * (sum - best);
+    }
+
+    private Map<String, Map<String, Integer>> countFacets(IndexSearcher searcher, FacetsCollector facetsCollector) throws IOException {
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        SortedSetDocValuesReaderState state = getFacetState(searcher.getIndexReader());
+        if (state == null) {
+            return result;
+        }
+
+        Facets facets = new SortedSetDocValuesFacetCounts(state, facetsCollector);
+        for (String dimension : List.of(FACET_SECTION_TYPE, FACET_GROUP_TYPE)) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            FacetResult facetResult;
+            try {
+                facetResult = facets.getTopChildren(50, dimension);
+            } catch (IllegalArgumentException e) {
+                // Dimension not present in this index yet
+                facetResult = null;
+            }
+            if (facetResult != null) {
+                for (LabelAndValue labelAndValue : facetResult.labelValues) {
+                    counts.put(labelAndValue.label, labelAndValue.value.intValue());
+                }
+            }
+            result.put(dimension, counts);
+        }
+        return result;
+    }
+
+    private SortedSetDocValuesReaderState getFacetState(IndexReader reader) throws IOException {
+        facetStateLock.lock();
+        try {
+            if (reader != facetStateReader) {
+                facetStateReader = reader;
+                try {
+                    facetState = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+                } catch (IllegalArgumentException e) {
+                    // No line has been labelled yet, so there are no facet values
+                    facetState = null;
+                }
+            }
+            return facetState;
+        } finally {
+            facetStateLock.unlock();
+        }
+    }
+
+    private Query parseQuery(String queryText) {
+        QueryParser parser = new QueryParser(FIELD_CONTENT, analyzer);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            // Treat unbalanced quotes, stray operators etc. as plain text
+            try {
+                return parser.parse(QueryParser.escape(queryText));
+            } catch (ParseException escaped) {
+                throw new IllegalArgumentException("Invalid search query: " + queryText, escaped);
+            }
+        }
+    }
+
+    private Document toDocument(String resumeId, ResumeLine line) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, line.getId(), Field.Store.YES));
+        document.add(new StringField(FIELD_RESUME_ID, resumeId, Field.Store.YES));
+        document.add(new StoredField(FIELD_LINE_NUMBER, line.getLineNumber()));
+        document.add(new TextField(FIELD_CONTENT, line.getContent(), Field.Store.YES));
+        if (line.getSectionType() != null && !line.getSectionType().isBlank()) {
+            document.add(new StoredField(FACET_SECTION_TYPE, line.getSectionType()));
+            document.add(new SortedSetDocValuesFacetField(FACET_SECTION_TYPE, line.getSectionType()));
+        }
+        if (line.getGroupType() != null && !line.getGroupType().isBlank()) {
+            document.add(new StoredField(FACET_GROUP_TYPE, line.getGroupType()));
+            document.add(new SortedSetDocValuesFacetField(FACET_GROUP_TYPE, line.getGroupType()));
+        }
+        return facetsConfig.build(document);
+    }
+
+    private boolean hasContent(ResumeLine line) {
+        return line.getContent() != null && !line.getContent().isBlank();
+    }
+
+    @FunctionalInterface
+    private interface IndexChange {
+        void apply() throws IOException;
+    }
+}
@@ -0,0 +1,54 @@
+package com.resumebuddy.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Splits document text into lines without building an intermediate array.
+ * Accepts {@code \n}, {@code \r\n} and lone {@code \r} terminators. Trailing empty
+ * lines are dropped, matching the previous {@code String.split("\n")} behaviour.
+ */
+public final class LineTokenizer {
+
+    private LineTokenizer() {
+    }
+
+    /**
+     * @return number of lines passed to the consumer
+     */
+    public static int forEachLine(CharSequence text, Consumer<String> consumer) {
+        int length = text.length();
+        int lineStart = 0;
+        int pendingEmptyLines = 0;
+        int emitted = 0;
+
+        for (int i = 0; i <= length; i++) {
+            boolean atEnd = i == length;
+            char c = atEnd ? '\n' : text.charAt(i);
+            if (c != '\n' && c != '\r') {
+                continue;
+            }
+            if (atEnd && lineStart == length) {
+                break;
+            }
+
+            if (i == lineStart) {
+                // Hold empty lines back until we know they are not trailing
+                pendingEmptyLines++;
+            } else {
+                for (; pendingEmptyLines > 0; pendingEmptyLines--) {
+                    consumer.accept("");
+                    emitted++;
+                }
+                consumer.accept(text.subSequence(lineStart, i).toString());
+                emitted++;
+            }
+
+            if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                i++;
+            }
+            lineStart = i + 1;
+        }
+
+        return emitted;
+    }
+}
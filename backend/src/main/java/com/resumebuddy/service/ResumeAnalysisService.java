@@ -2,19 +2,21 @@ package com.resumebuddy.service;
 
 import com.resumebuddy.model.*;
 import com.resumebuddy.model.dto.*;
+import com.resumebuddy.repository.ResumeAnalysisExperienceRepository;
 import com.resumebuddy.repository.ResumeAnalysisRepository;
+import com.resumebuddy.service.statements.StatementBudget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -22,8 +24,10 @@ import java.util.stream.Collectors;
 public class ResumeAnalysisService {
 
     private final ResumeAnalysisRepository resumeAnalysisRepository;
+    private final ResumeAnalysisExperienceRepository experienceRepository;
 
     @Transactional(readOnly = true)
+    @StatementBudget(6)  // The analysis row, then one select per child list
     public ResumeAnalysisDto getStructuredAnalysis(String resumeId) {
         log.info("Retrieving structured analysis for resume ID: {}", resumeId);
 
@@ -36,7 +40,7 @@ public class ResumeAnalysisService {
         return resumeAnalysisRepository.existsByResumeId(resumeId);
     }
 
-    private ResumeAnalysisDto convertToDto(ResumeAnalysis analysis) {
+    ResumeAnalysisDto convertToDto(ResumeAnalysis analysis) {
         ResumeAnalysisDto dto = new ResumeAnalysisDto();
         dto.setId(analysis.getId());
         dto.setResumeId(analysis.getResume().getId());
@@ -50,11 +54,11 @@ public class ResumeAnalysisService {
         dto.setCreatedAt(analysis.getCreatedAt());
         dto.setUpdatedAt(analysis.getUpdatedAt());
 
-        // Convert experiences - sort by date (most recent first)
+        // Convert experiences - sort by normalized start month (most recent first)
         if (analysis.getExperiences() != null) {
             dto.setExperiences(analysis.getExperiences().stream()
                 .sorted(Comparator.comparing(
-                    (ResumeAnalysisExperience exp) -> parseDate(exp.getStartDate()),
+                    ResumeAnalysisExperience::getStartMonth,
                     Comparator.nullsLast(Comparator.reverseOrder())
                 ))
                 .map(this::convertExperienceToDto)
@@ -92,6 +96,72 @@ public class ResumeAnalysisService {
         return dto;
     }
 
+    /**
+     * Resumes with at least minYears of experience, longest first. Overlapping or concurrent
+     * positions are merged, so each month counts once. An aggregate over the indexed month
+     * columns narrows the candidates before their positions are merged.
+     */
+    @Transactional(readOnly = true)
+    public List<ExperienceTotalDto> findByMinimumExperience(double minYears, int limit) {
+        YearMonth now = YearMonth.now();
+        int currentMonth = ResumeDateParser.epochMonth(now.getYear(), now.getMonthValue());
+        long minMonths = Math.round(minYears * 12);
+
+        List<ExperienceTotalDto> matches = new ArrayList<>();
+        try (Stream<Object[]> rows = experienceRepository.streamPositionsWithTenureAtLeast(currentMonth, minMonths)) {
+            // Rows arrive grouped by resume and ordered by start, so overlapping intervals are adjacent
+            Object[] resume = null;
+            long months = 0;
+            int spanStart = 0;
+            int spanEnd = 0;
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                int start = ((Number) row[2]).intValue();
+                int end = Math.max(start, ((Number) row[3]).intValue());
+                if (resume == null || !resume[0].equals(row[0])) {
+                    if (resume != null) {
+                        addIfAtLeast(matches, resume, months + spanEnd - spanStart + 1, minMonths);
+                    }
+                    resume = row;
+                    months = 0;
+                    spanStart = start;
+                    spanEnd = end;
+                } else if (start <= spanEnd + 1) {
+                    spanEnd = Math.max(spanEnd, end);
+                } else {
+                    months += spanEnd - spanStart + 1;
+                    spanStart = start;
+                    spanEnd = end;
+                }
+            }
+            if (resume != null) {
+                addIfAtLeast(matches, resume, months + spanEnd - spanStart + 1, minMonths);
+            }
+        }
+
+        return matches.stream()
+            .sorted(Comparator.comparingLong(ExperienceTotalDto::getTotalMonths).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private static void addIfAtLeast(List<ExperienceTotalDto> matches, Object[] resume, long months, long minMonths) {
+        if (months >= minMonths) {
+            matches.add(new ExperienceTotalDto((String) resume[0], (String) resume[1], months, Math.round(months / 1.2) / 10.0));
+        }
+    }
+
+    /**
+     * Positions at the given company held on or after the given date ("2020", "Mar 2021", ...).
+     */
+    @Transactional(readOnly = true)
+    public List<EmployerMatchDto> findByEmployerSince(String company, String since, int limit) {
+        Integer fromMonth = ResumeDateParser.parseStart(since);
+        if (fromMonth == null) {
+            throw new IllegalArgumentException("Unrecognized date: " + since);
+        }
+        return experienceRepository.findByCompanySince(company.trim(), fromMonth, PageRequest.of(0, limit));
+    }
+
     private ExperienceDto convertExperienceToDto(ResumeAnalysisExperience experience) {
         ExperienceDto dto = new ExperienceDto();
         dto.setId(experience.getId());
@@ -140,60 +210,4 @@ public class ResumeAnalysisService {
         dto.setProjectUrl(project.getProjectUrl());
         return dto;
     }
-
-    /**
-     * Parse various date formats commonly found in resumes
-     * Supports: "YYYY-MM-DD", "YYYY-MM", "YYYY", "Month YYYY", "MM/YYYY", etc.
-     * Returns a comparable date for sorting
-     */
-    private LocalDate parseDate(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return LocalDate.MIN; // Null dates go to the end
-        }
-
-        String normalized = dateStr.trim();
-
-        try {
-            // Try ISO date format: 2021-10-15
-            return LocalDate.parse(normalized, DateTimeFormatter.ISO_LOCAL_DATE);
-        } catch (DateTimeParseException e) {
-            // Continue to next format
-        }
-
-        try {
-            // Try year-month format: 2021-10
-            YearMonth ym = YearMonth.parse(normalized, DateTimeFormatter.ofPattern("yyyy-MM"));
-            return ym.atDay(1);
-        } catch (DateTimeParseException e) {
-            // Continue to next format
-        }
-
-        try {
-            // Try month/year format: 10/2021
-            YearMonth ym = YearMonth.parse(normalized, DateTimeFormatter.ofPattern("MM/yyyy"));
-            return ym.atDay(1);
-        } catch (DateTimeParseException e) {
-            // Continue to next format
-        }
-
-        try {
-            // Try month year format: "October 2021"
-            YearMonth ym = YearMonth.parse(normalized, DateTimeFormatter.ofPattern("MMMM yyyy"));
-            return ym.atDay(1);
-        } catch (DateTimeParseException e) {
-            // Continue to next format
-        }
-
-        try {
-            // Try just year: 2021
-            int year = Integer.parseInt(normalized);
-            return LocalDate.of(year, 1, 1);
-        } catch (NumberFormatException e) {
-            // Continue to next format
-        }
-
-        // If all parsing fails, return MIN date
-        log.warn("Could not parse date: {}", dateStr);
-        return LocalDate.MIN;
-    }
 }
@@ -0,0 +1,290 @@
+package com.resumebuddy.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses the free-form dates found in resumes into epoch months (months since January 1970)
+ * without using exceptions for control flow. Understands ISO dates, numeric and named months,
+ * seasons, quarters, "Present" and ranges such as "Jan 2020 – Mar 2021", "Jan-Mar 2021" or "2019-2021".
+ */
+public final class ResumeDateParser {
+
+    private static final Map<String, Integer> MONTHS = new HashMap<>();
+    private static final Set<String> PRESENT_WORDS = Set.of(
+        "present", "current", "currently", "now", "ongoing", "today", "date", "till", "continuing");
+
+    static {
+        String[][] names = {
+            {"jan", "january"}, {"feb", "february"}, {"mar", "march"}, {"apr", "april"}, {"may"},
+            {"jun", "june"}, {"jul", "july"}, {"aug", "august"}, {"sep", "sept", "september"},
+            {"oct", "october"}, {"nov", "november"}, {"dec", "december"}
+        };
+        for (int month = 0; month < names.length; month++) {
+            for (String name : names[month]) {
+                MONTHS.put(name, month + 1);
+            }
+        }
+        // Seasons map to their first month
+        MONTHS.put("spring", 3);
+        MONTHS.put("summer", 6);
+        MONTHS.put("fall", 9);
+        MONTHS.put("autumn", 9);
+        MONTHS.put("winter", 12);
+    }
+
+    /**
+     * A parsed period; start and end are epoch months or null when unknown.
+     * current is true when the period runs until today ("Present").
+     */
+    public record Range(Integer start, Integer end, boolean current) {
+    }
+
+    private static final Range EMPTY = new Range(null, null, false);
+
+    private ResumeDateParser() {
+    }
+
+    /**
+     * Parse a date or a date range. A single date yields a range covering that month,
+     * or that whole year when only the year is given.
+     */
+    public static Range parseRange(String text) {
+        if (text == null || text.isBlank()) {
+            return EMPTY;
+        }
+        String lower = text.toLowerCase(Locale.ROOT).trim();
+
+        int[] separator = findRangeSeparator(lower);
+        if (separator == null) {
+            if (isPresent(lower)) {
+                return new Range(null, null, true);
+            }
+            int[] date = parseParts(lower);
+            if (date[0] < 0) {
+                return EMPTY;
+            }
+            return new Range(toEpochMonth(date, false), toEpochMonth(date, true), false);
+        }
+
+        String left = lower.substring(0, separator[0]);
+        String right = lower.substring(separator[0] + separator[1]);
+        int[] start = parseParts(left);
+        boolean current = isPresent(right);
+        int[] end = current ? new int[] {-1, -1} : parseParts(right);
+
+        // "Jan - Mar 2021": the start borrows the end's year
+        if (start[0] < 0 && start[1] > 0 && end[0] >= 0) {
+            start[0] = end[0];
+        }
+        return new Range(
+            start[0] >= 0 ? toEpochMonth(start, false) : null,
+            end[0] >= 0 ? toEpochMonth(end, true) : null,
+            current
+        );
+    }
+
+    /**
+     * Epoch month of the start of the given date or range, null when no year is present.
+     */
+    public static Integer parseStart(String text) {
+        return parseRange(text).start();
+    }
+
+    /**
+     * True when the text holds a range rather than a single date.
+     */
+    public static boolean isRange(String text) {
+        return text != null && findRangeSeparator(text.toLowerCase(Locale.ROOT).trim()) != null;
+    }
+
+    public static boolean isPresent(String text) {
+        if (text == null) {
+            return false;
+        }
+        boolean hasDigit = false;
+        boolean hasPresentWord = false;
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (PRESENT_WORDS.contains(token)) {
+                hasPresentWord = true;
+            } else if (!token.isEmpty() && Character.isDigit(token.charAt(0))) {
+                hasDigit = true;
+            }
+        }
+        return hasPresentWord && !hasDigit;
+    }
+
+    public static int epochMonth(int year, int month) {
+        return (year - 1970) * 12 + (month - 1);
+    }
+
+    /**
+     * Format an epoch month as yyyy-MM.
+     */
+    public static String format(Integer epochMonth) {
+        if (epochMonth == null) {
+            return null;
+        }
+        int year = Math.floorDiv(epochMonth, 12) + 1970;
+        int month = Math.floorMod(epochMonth, 12) + 1;
+        return String.format("%04d-%02d", year, month);
+    }
+
+    private static int toEpochMonth(int[] date, boolean endOfPeriod) {
+        int month = date[1] > 0 ? date[1] : (endOfPeriod ? 12 : 1);
+        return epochMonth(date[0], month);
+    }
+
+    /**
+     * Position and length of the separator between the two halves of a range, or null.
+     * A hyphen right after a year is a separator unless it starts an ISO month ("2021-10").
+     */
+    private static int[] findRangeSeparator(String text) {
+        for (String word : new String[] {" to ", " until ", " till "}) {
+            int index = text.indexOf(word);
+            if (index > 0) {
+                return new int[] {index, word.length()};
+            }
+        }
+
+        for (int i = 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u2013' || c == '\u2014') {
+                return new int[] {i, 1};
+            }
+            if (c != '-') {
+                continue;
+            }
+            if (text.charAt(i - 1) == ' ' || (i + 1 < text.length() && text.charAt(i + 1) == ' ')) {
+                return new int[] {i, 1};
+            }
+            if (isMonthName(wordBefore(text, i)) && isMonthName(wordAfter(text, i))) {
+                // "Jan-Mar 2021"
+                return new int[] {i, 1};
+            }
+            if (i >= 4 && isYear(text, i - 4) && (i < 5 || !Character.isDigit(text.charAt(i - 5)))) {
+                int digits = 0;
+                while (i + 1 + digits < text.length() && Character.isDigit(text.charAt(i + 1 + digits))) {
+                    digits++;
+                }
+                boolean isoMonth = digits >= 1 && digits <= 2
+                    && (i + 1 + digits == text.length() || text.charAt(i + 1 + digits) != '/');
+                if (!isoMonth) {
+                    return new int[] {i, 1};
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String wordBefore(String text, int index) {
+        int start = index;
+        while (start > 0 && Character.isLetter(text.charAt(start - 1))) {
+            start--;
+        }
+        return text.substring(start, index);
+    }
+
+    private static String wordAfter(String text, int index) {
+        int end = index + 1;
+        while (end < text.length() && Character.isLetter(text.charAt(end))) {
+            end++;
+        }
+        return text.substring(index + 1, end);
+    }
+
+    private static boolean isMonthName(String word) {
+        return MONTHS.containsKey(word);
+    }
+
+    /**
+     * Year and month (1-12) found in the text, -1 where missing.
+     */
+    private static int[] parseParts(String text) {
+        int year = -1;
+        int month = -1;
+        int yearIndex = -1;
+        int[] smallNumbers = new int[4];
+        int[] smallIndexes = new int[4];
+        int smallCount = 0;
+
+        String[] tokens = text.split("[^\\p{L}\\p{N}]+");
+        for (int t = 0; t < tokens.length; t++) {
+            String token = tokens[t];
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (isDigits(token)) {
+                int value = digitsValue(token);
+                if (token.length() == 4 && value >= 1900 && value <= 2100 && year < 0) {
+                    year = value;
+                    yearIndex = t;
+                } else if (token.length() <= 2 && smallCount < smallNumbers.length) {
+                    smallNumbers[smallCount] = value;
+                    smallIndexes[smallCount] = t;
+                    smallCount++;
+                }
+            } else if (token.length() == 2 && token.charAt(0) == 'q' && token.charAt(1) >= '1' && token.charAt(1) <= '4') {
+                month = (token.charAt(1) - '1') * 3 + 1;
+            } else if (month < 0) {
+                Integer named = MONTHS.get(token);
+                if (named != null) {
+                    month = named;
+                }
+            }
+        }
+
+        if (month < 0 && year >= 0 && smallCount > 0) {
+            month = numericMonth(smallNumbers, smallIndexes, smallCount, yearIndex);
+        }
+        return new int[] {year, month};
+    }
+
+    // ISO puts the month after the year, other formats before it; days (> 12) are skipped
+    private static int numericMonth(int[] numbers, int[] indexes, int count, int yearIndex) {
+        int before = -1;
+        for (int i = 0; i < count; i++) {
+            if (numbers[i] < 1 || numbers[i] > 12) {
+                continue;
+            }
+            if (indexes[i] > yearIndex) {
+                if (before < 0) {
+                    return numbers[i];
+                }
+            } else {
+                before = numbers[i];
+            }
+        }
+        return before;
+    }
+
+    private static boolean isYear(String text, int from) {
+        for (int i = from; i < from + 4; i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        int value = digitsValue(text.substring(from, from + 4));
+        return value >= 1900 && value <= 2100;
+    }
+
+    private static boolean isDigits(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return token.length() <= 9;
+    }
+
+    private static int digitsValue(String digits) {
+        int value = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            value = value * 10 + (digits.charAt(i) - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,108 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.model.Resume;
+import com.resumebuddy.model.ResumeStatus;
+import com.resumebuddy.model.dto.ParsedResume;
+import com.resumebuddy.repository.ResumeRepository;
+import com.resumebuddy.service.parser.DocumentParserRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Upload and parse steps of the resume workflow, shared by the single-file endpoints
+ * and the bulk importer.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeIngestionService {
+
+    private final ResumeRepository resumeRepository;
+    private final FileStorageService fileStorageService;
+    private final DoclingHttpService doclingHttpService;
+    private final DocumentParserRegistry documentParserRegistry;
+    private final ResumeLineService resumeLineService;
+
+    /**
+     * Store the file and create the resume in UPLOADED status.
+     */
+    public Resume createResume(String filename, String contentType, long size, InputStream content) throws IOException {
+        // Generate temporary ID for file storage
+        String tempId = UUID.randomUUID().toString();
+
+        // Store file first using temp ID
+        String filePath = fileStorageService.storeFile(content, filename, tempId);
+
+        // Create resume entity with file path
+        Resume resume = new Resume();
+        resume.setFilename(filename);
+        resume.setContentType(contentType);
+        resume.setFileSize(size);
+        resume.setFilePath(filePath);
+        resume.setStatus(ResumeStatus.UPLOADED.name());
+        // createdAt and updatedAt will be set automatically by JPA
+
+        // Save resume with file path
+        Resume savedResume = resumeRepository.save(resume);
+        log.info("Resume uploaded with ID: {} and status: {}", savedResume.getId(), savedResume.getStatus());
+        return savedResume;
+    }
+
+    /**
+     * Parse the stored file and create its lines, waiting on the calling thread. For callers
+     * that bound their own concurrency, such as the bulk importer.
+     */
+    public Resume parse(Resume resume) {
+        return parseAsync(resume).block();
+    }
+
+    /**
+     * Parse the stored file and create its lines. Database work runs on worker threads and a
+     * Docling parse holds no thread while the service works. On failure or cancellation the
+     * resume is marked FAILED; failures are passed on.
+     */
+    public Mono<Resume> parseAsync(Resume resume) {
+        return Mono.fromCallable(() -> {
+                // Set status to PARSING
+                resume.setStatus(ResumeStatus.PARSING.name());
+                // updatedAt will be set automatically by JPA
+                resumeRepository.save(resume);
+                return resume;
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            // Parse in-JVM for simple documents, Docling HTTP service for PDF/DOCX
+            .flatMap(documentParserRegistry::parseAsync)
+            .publishOn(Schedulers.boundedElastic())
+            .map(parsedResume -> {
+                // Store the parsed content as JSON and update status
+                resume.setParsedContent(doclingHttpService.convertToJson(parsedResume));
+                resume.setStatus(ResumeStatus.PARSED.name());
+                // updatedAt will be set automatically by JPA
+
+                // Save status and create lines for TipTap integration in one transaction,
+                // straight from the parsed text rather than re-reading parsedContent
+                Resume savedResume = resumeLineService.saveParsedResume(
+                    resume, parsedResume.getOriginalText(), parsedResume.getLayoutLabels());
+                log.info("Resume parsing completed for ID: {} with status: {}", savedResume.getId(), savedResume.getStatus());
+                return savedResume;
+            })
+            .onErrorResume(e -> Mono.fromRunnable(() -> markFailed(resume))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.error(e)))
+            .doOnCancel(() -> Schedulers.boundedElastic().schedule(() -> markFailed(resume)));
+    }
+
+    private void markFailed(Resume resume) {
+        // Set status to FAILED
+        resume.setStatus(ResumeStatus.FAILED.name());
+        // updatedAt will be set automatically by JPA
+        resumeRepository.save(resume);
+    }
+}
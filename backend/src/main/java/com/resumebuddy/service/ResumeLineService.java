@@ -7,13 +7,19 @@ import com.resumebuddy.model.dto.ParsedResume;
 import com.resumebuddy.model.dto.ResumeLineUpdateDto;
 import com.resumebuddy.repository.ResumeLineRepository;
 import com.resumebuddy.repository.ResumeRepository;
+import com.resumebuddy.service.event.ResumeLinesChangedEvent;
+import com.resumebuddy.service.statements.StatementBudget;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -24,6 +30,12 @@ public class ResumeLineService {
     private final ResumeLineRepository resumeLineRepository;
     private final ResumeRepository resumeRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    // Lines written per flush when replacing a resume's lines, one JDBC batch each
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}")
+    private int writeBatchSize;
 
     @Transactional
     public void processResumeLines(String resumeId) {
@@ -53,31 +65,9 @@ public class ResumeLineService {
                 return;
             }
 
-            // Clear existing lines for this resume
-            resumeLineRepository.deleteByResumeId(resumeId);
-            log.info("Cleared existing lines for resume ID: {}", resumeId);
-
-            // Split text into lines and create ResumeLine entities
-            String[] lines = originalText.split("\n");
-            List<ResumeLine> resumeLines = new ArrayList<>();
-            int lineNumber = 1;
-
-            for (String lineContent : lines) {
-                // Skip completely empty lines but preserve lines with whitespace
-                if (lineContent != null) {
-                    ResumeLine resumeLine = new ResumeLine();
-                    resumeLine.setResume(resume);
-                    resumeLine.setLineNumber(lineNumber);
-                    resumeLine.setContent(lineContent);
-                    resumeLines.add(resumeLine);
-                    lineNumber++;
-                }
-            }
-
-            // Batch insert all lines
-            resumeLineRepository.saveAll(resumeLines);
+            int lineCount = replaceLines(resume, originalText, Map.of());
 
-            log.info("Successfully processed {} lines for resume ID: {}", resumeLines.size(), resumeId);
+            log.info("Successfully processed {} lines for resume ID: {}", lineCount, resumeId);
 
         } catch (Exception e) {
             log.error("Error processing resume lines for resume ID: {}", resumeId, e);
@@ -85,8 +75,80 @@ public class ResumeLineService {
         }
     }
 
+    /**
+     * Persist a freshly parsed resume and create its lines straight from the in-memory text,
+     * so the status update and the line rows commit together.
+     */
+    @Transactional
+    public Resume saveParsedResume(Resume resume, String originalText, Map<String, String> layoutLabels) {
+        Resume savedResume = resumeRepository.save(resume);
+
+        if (originalText == null || originalText.trim().isEmpty()) {
+            log.warn("No original text found in parsed content for resume ID: {}", savedResume.getId());
+            return savedResume;
+        }
+
+        int lineCount = replaceLines(savedResume, originalText, layoutLabels);
+        log.info("Successfully processed {} lines for resume ID: {}", lineCount, savedResume.getId());
+
+        return savedResume;
+    }
+
+    private int replaceLines(Resume resume, String originalText, Map<String, String> layoutLabels) {
+        // Clear existing lines for this resume
+        resumeLineRepository.deleteByResumeId(resume.getId());
+        log.debug("Cleared existing lines for resume ID: {}", resume.getId());
+
+        // Insert in batches, flushing and clearing after each, so the persistence context and its
+        // pending inserts never hold more than one batch however long the resume is. The detached
+        // lines are kept only for the index listeners, which run after commit
+        List<ResumeLine> resumeLines = new ArrayList<>();
+        List<ResumeLine> batch = new ArrayList<>(writeBatchSize);
+        LineTokenizer.forEachLine(originalText, lineContent -> {
+            batch.add(newLine(resume, resumeLines.size() + batch.size() + 1, lineContent, layoutLabels));
+            if (batch.size() == writeBatchSize) {
+                writeBatch(batch, resumeLines);
+            }
+        });
+        writeBatch(batch, resumeLines);
+
+        eventPublisher.publishEvent(new ResumeLinesChangedEvent(resume.getId(), resumeLines, true));
+        return resumeLines.size();
+    }
+
+    private void writeBatch(List<ResumeLine> batch, List<ResumeLine> written) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        resumeLineRepository.saveAll(batch);
+        entityManager.flush();
+        entityManager.clear();
+        written.addAll(batch);
+        batch.clear();
+    }
+
+    /**
+     * Split parsed text into unsaved line entities, numbered from 1.
+     */
+    static List<ResumeLine> toResumeLines(Resume resume, String originalText, Map<String, String> layoutLabels) {
+        List<ResumeLine> resumeLines = new ArrayList<>();
+        LineTokenizer.forEachLine(originalText, lineContent ->
+            resumeLines.add(newLine(resume, resumeLines.size() + 1, lineContent, layoutLabels)));
+        return resumeLines;
+    }
+
+    private static ResumeLine newLine(Resume resume, int lineNumber, String content, Map<String, String> layoutLabels) {
+        ResumeLine resumeLine = new ResumeLine();
+        resumeLine.setResume(resume);
+        resumeLine.setLineNumber(lineNumber);
+        resumeLine.setContent(content);
+        resumeLine.setLayoutLabel(layoutLabels.get(LinePreSegmenter.layoutKey(content)));
+        return resumeLine;
+    }
+
+    @StatementBudget(1)
     public List<ResumeLine> getResumeLines(String resumeId) {
-        log.info("Getting resume lines for resume ID: {}", resumeId);
+        log.debug("Getting resume lines for resume ID: {}", resumeId);
         return resumeLineRepository.findByResumeIdOrderByLineNumber(resumeId);
     }
 
@@ -102,7 +164,9 @@ public class ResumeLineService {
         ResumeLine resumeLine = resumeLineOpt.get();
         resumeLine.setContent(newContent);
 
-        return resumeLineRepository.save(resumeLine);
+        ResumeLine savedLine = resumeLineRepository.save(resumeLine);
+        eventPublisher.publishEvent(new ResumeLinesChangedEvent(resumeId, List.of(savedLine), false));
+        return savedLine;
     }
 
     @Transactional
@@ -133,7 +197,14 @@ public class ResumeLineService {
         newLine.setLineNumber(lineNumber);
         newLine.setContent(content);
 
-        return resumeLineRepository.save(newLine);
+        ResumeLine savedLine = resumeLineRepository.save(newLine);
+
+        // Line numbers shifted, so every line of the resume changed
+        List<ResumeLine> allLines = new ArrayList<>(existingLines);
+        allLines.add(savedLine);
+        eventPublisher.publishEvent(new ResumeLinesChangedEvent(resumeId, allLines, true));
+
+        return savedLine;
     }
 
 
@@ -168,6 +239,7 @@ public class ResumeLineService {
 
         // Batch save all lines
         List<ResumeLine> savedLines = resumeLineRepository.saveAll(updatedLines);
+        eventPublisher.publishEvent(new ResumeLinesChangedEvent(resumeId, savedLines, true));
         log.info("Successfully replaced with {} lines for resume ID: {}", savedLines.size(), resumeId);
 
         return savedLines;
@@ -0,0 +1,248 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.model.ResumeAnalysis;
+import com.resumebuddy.model.ResumeAnalysisSkill;
+import com.resumebuddy.model.dto.SkillSearchResultDto;
+import com.resumebuddy.repository.ResumeAnalysisSkillRepository;
+import com.resumebuddy.service.event.ResumeAnalysisChangedEvent;
+import com.resumebuddy.service.event.ResumeDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index from normalized skill name to a compressed bitmap of analyses.
+ * Built once at startup from resume_analysis_skill and kept up to date from
+ * {@link ResumeAnalysisChangedEvent}s and {@link ResumeDeletedEvent}s after each commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SkillIndexService {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final ResumeAnalysisSkillRepository resumeAnalysisSkillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Normalized skill -> ordinals of analyses that list it
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+
+    // Every ordinal that currently belongs to a live analysis
+    private final RoaringBitmap liveDocuments = new RoaringBitmap();
+
+    // Ordinal bookkeeping; ordinals are stable per resume and reused when it is re-analyzed
+    private final Map<String, Integer> ordinalByResumeId = new HashMap<>();
+    // Ordinals of deleted resumes, handed out again before the ordinal space grows
+    private final RoaringBitmap freeOrdinals = new RoaringBitmap();
+    private final List<String> resumeIdByOrdinal = new ArrayList<>();
+    private final List<String> analysisIdByOrdinal = new ArrayList<>();
+    private final List<String[]> skillsByOrdinal = new ArrayList<>();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            clear();
+
+            // Collect rows per analysis, then index each analysis once
+            Map<String, Set<String>> skillsByAnalysis = new LinkedHashMap<>();
+            Map<String, String> resumeByAnalysis = new HashMap<>();
+            try (Stream<Object[]> rows = resumeAnalysisSkillRepository.streamAllSkillPostings()) {
+                rows.forEach(row -> {
+                    String analysisId = (String) row[0];
+                    resumeByAnalysis.putIfAbsent(analysisId, (String) row[1]);
+                    String skill = normalize((String) row[2]);
+                    Set<String> skills = skillsByAnalysis.computeIfAbsent(analysisId, id -> new LinkedHashSet<>());
+                    if (!skill.isEmpty()) {
+                        skills.add(skill);
+                    }
+                });
+            }
+
+            skillsByAnalysis.forEach((analysisId, skills) ->
+                index(resumeByAnalysis.get(analysisId), analysisId, skills));
+            postings.values().forEach(RoaringBitmap::runOptimize);
+
+            ready = true;
+            log.info("Built skill index: {} analyses, {} distinct skills in {} ms",
+                liveDocuments.getCardinality(), postings.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalysisChanged(ResumeAnalysisChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            ResumeAnalysis analysis = event.getAnalysis();
+            Set<String> skills = new LinkedHashSet<>();
+            for (ResumeAnalysisSkill skill : analysis.getSkills()) {
+                String normalized = normalize(skill.getSkillName());
+                if (!normalized.isEmpty()) {
+                    skills.add(normalized);
+                }
+            }
+            index(event.getResumeId(), analysis.getId(), skills);
+            log.debug("Indexed {} skills for resume ID: {}", skills.size(), event.getResumeId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeDeleted(ResumeDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getResumeId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SkillSearchResultDto search(String query, int offset, int limit) {
+        SkillQuery skillQuery = SkillQuery.parse(query);
+        long start = System.nanoTime();
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = skillQuery.evaluate(
+                skill -> postings.getOrDefault(skill, EMPTY),
+                liveDocuments
+            );
+
+            List<SkillSearchResultDto.Match> page = new ArrayList<>();
+            IntIterator iterator = matches.getIntIterator();
+            for (int skipped = 0; iterator.hasNext() && page.size() < limit; ) {
+                int ordinal = iterator.next();
+                if (skipped++ < offset) {
+                    continue;
+                }
+                page.add(new SkillSearchResultDto.Match(resumeIdByOrdinal.get(ordinal), analysisIdByOrdinal.get(ordinal)));
+            }
+
+            SkillSearchResultDto result = new SkillSearchResultDto();
+            result.setQuery(query);
+            result.setTotal(matches.getCardinality());
+            result.setOffset(offset);
+            result.setLimit(limit);
+            result.setTookMs((System.nanoTime() - start) / 1_000_000.0);
+            result.setResults(page);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            long bitmapBytes = postings.values().stream().mapToLong(RoaringBitmap::getSizeInBytes).sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ready", ready);
+            stats.put("analyses", liveDocuments.getCardinality());
+            stats.put("ordinals", resumeIdByOrdinal.size());
+            stats.put("distinctSkills", postings.size());
+            stats.put("bitmapBytes", bitmapBytes);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-case, trim and collapse internal whitespace so "Spring  Boot" and "spring boot" match.
+     */
+    public static String normalize(String skillName) {
+        if (skillName == null) {
+            return "";
+        }
+        return skillName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private void index(String resumeId, String analysisId, Set<String> skills) {
+        Integer ordinal = ordinalByResumeId.get(resumeId);
+        if (ordinal == null && !freeOrdinals.isEmpty()) {
+            ordinal = freeOrdinals.first();
+            freeOrdinals.remove(ordinal);
+            ordinalByResumeId.put(resumeId, ordinal);
+            resumeIdByOrdinal.set(ordinal, resumeId);
+        } else if (ordinal == null) {
+            ordinal = resumeIdByOrdinal.size();
+            ordinalByResumeId.put(resumeId, ordinal);
+            resumeIdByOrdinal.add(resumeId);
+            analysisIdByOrdinal.add(analysisId);
+            skillsByOrdinal.add(new String[0]);
+        } else {
+            removePostings(ordinal);
+        }
+
+        String[] skillArray = skills.toArray(new String[0]);
+        for (String skill : skillArray) {
+            postings.computeIfAbsent(skill, key -> new RoaringBitmap()).add(ordinal);
+        }
+        analysisIdByOrdinal.set(ordinal, analysisId);
+        skillsByOrdinal.set(ordinal, skillArray);
+        liveDocuments.add(ordinal);
+    }
+
+    private void remove(String resumeId) {
+        Integer ordinal = ordinalByResumeId.remove(resumeId);
+        if (ordinal == null) {
+            return;
+        }
+        removePostings(ordinal);
+        liveDocuments.remove(ordinal);
+        resumeIdByOrdinal.set(ordinal, null);
+        analysisIdByOrdinal.set(ordinal, null);
+        skillsByOrdinal.set(ordinal, new String[0]);
+        freeOrdinals.add(ordinal);
+    }
+
+    private void removePostings(int ordinal) {
+        for (String skill : skillsByOrdinal.get(ordinal)) {
+            RoaringBitmap bitmap = postings.get(skill);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    postings.remove(skill);
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        postings.clear();
+        liveDocuments.clear();
+        ordinalByResumeId.clear();
+        freeOrdinals.clear();
+        resumeIdByOrdinal.clear();
+        analysisIdByOrdinal.clear();
+        skillsByOrdinal.clear();
+    }
+}
@@ -0,0 +1,182 @@
+package com.resumebuddy.service;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Boolean skill query, e.g. {@code kafka AND (kubernetes OR k8s) AND NOT "visual basic"}.
+ * Operators are AND, OR, NOT (case insensitive) and parentheses. Adjacent terms are ANDed,
+ * multi-word skills must be quoted.
+ */
+public abstract class SkillQuery {
+
+    /**
+     * @param postings skill name to bitmap lookup, returning an empty bitmap for unknown skills
+     * @param universe every live document, used to evaluate NOT
+     */
+    public abstract RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe);
+
+    public static SkillQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Skill query must not be empty");
+        }
+        Parser parser = new Parser(tokenize(query));
+        SkillQuery result = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected token in skill query: " + parser.tokens.get(parser.position));
+        }
+        return result;
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated quote in skill query");
+                }
+                // Keep the leading quote so a quoted "and" is a term, not an operator
+                tokens.add(query.substring(i, end));
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                        && query.charAt(i) != '(' && query.charAt(i) != ')' && query.charAt(i) != '"') {
+                    i++;
+                }
+                tokens.add(query.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static class Parser {
+        private final List<String> tokens;
+        private int position;
+
+        Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        SkillQuery parseOr() {
+            SkillQuery left = parseAnd();
+            while (accept("OR")) {
+                left = new Or(left, parseAnd());
+            }
+            return left;
+        }
+
+        SkillQuery parseAnd() {
+            SkillQuery left = parseNot();
+            while (position < tokens.size() && !isKeyword("OR") && !tokens.get(position).equals(")")) {
+                accept("AND");
+                left = new And(left, parseNot());
+            }
+            return left;
+        }
+
+        SkillQuery parseNot() {
+            if (accept("NOT")) {
+                return new Not(parseNot());
+            }
+            if (position < tokens.size() && tokens.get(position).equals("(")) {
+                position++;
+                SkillQuery inner = parseOr();
+                if (position >= tokens.size() || !tokens.get(position).equals(")")) {
+                    throw new IllegalArgumentException("Missing closing parenthesis in skill query");
+                }
+                position++;
+                return inner;
+            }
+            if (position >= tokens.size() || tokens.get(position).equals(")") || isKeyword("AND") || isKeyword("OR")) {
+                throw new IllegalArgumentException("Expected a skill name in skill query");
+            }
+            String token = tokens.get(position++);
+            String skill = token.startsWith("\"") ? token.substring(1) : token;
+            return new Term(SkillIndexService.normalize(skill));
+        }
+
+        private boolean isKeyword(String keyword) {
+            return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+        }
+
+        private boolean accept(String keyword) {
+            if (isKeyword(keyword)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static class Term extends SkillQuery {
+        private final String skill;
+
+        Term(String skill) {
+            this.skill = skill;
+        }
+
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            return postings.apply(skill).clone();
+        }
+    }
+
+    static class And extends SkillQuery {
+        private final SkillQuery left;
+        private final SkillQuery right;
+
+        And(SkillQuery left, SkillQuery right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            // "a AND NOT b" is evaluated as a difference instead of materializing the complement
+            if (right instanceof Not not) {
+                return RoaringBitmap.andNot(left.evaluate(postings, universe), not.inner.evaluate(postings, universe));
+            }
+            return RoaringBitmap.and(left.evaluate(postings, universe), right.evaluate(postings, universe));
+        }
+    }
+
+    static class Or extends SkillQuery {
+        private final SkillQuery left;
+        private final SkillQuery right;
+
+        Or(SkillQuery left, SkillQuery right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            return RoaringBitmap.or(left.evaluate(postings, universe), right.evaluate(postings, universe));
+        }
+    }
+
+    static class Not extends SkillQuery {
+        private final SkillQuery inner;
+
+        Not(SkillQuery inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            return RoaringBitmap.andNot(universe, inner.evaluate(postings, universe));
+        }
+    }
+}
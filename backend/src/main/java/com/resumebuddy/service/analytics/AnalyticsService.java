@@ -0,0 +1,294 @@
+package com.resumebuddy.service.analytics;
+
+import com.resumebuddy.model.ResumeAnalysis;
+import com.resumebuddy.model.ResumeAnalysisCertification;
+import com.resumebuddy.model.ResumeAnalysisSkill;
+import com.resumebuddy.model.ResumeStatus;
+import com.resumebuddy.model.dto.AnalyticsSummaryDto;
+import com.resumebuddy.model.dto.CountDto;
+import com.resumebuddy.repository.ResumeAnalysisCertificationRepository;
+import com.resumebuddy.repository.ResumeAnalysisRepository;
+import com.resumebuddy.repository.ResumeAnalysisSkillRepository;
+import com.resumebuddy.repository.ResumeRepository;
+import com.resumebuddy.service.SkillIndexService;
+import com.resumebuddy.service.event.ResumeAnalysisChangedEvent;
+import com.resumebuddy.service.event.ResumeDeletedEvent;
+import com.resumebuddy.service.event.ResumeStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Dashboard aggregates kept in memory and updated incrementally: skill and certification
+ * counts, status counts and a skills-per-resume histogram. Built once at startup, then
+ * adjusted from analysis and status events after each commit, so reads never scan the
+ * resume_analysis_* tables.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    // Upper bounds (exclusive) of the skills-per-resume histogram buckets
+    private static final int[] SKILL_BUCKETS = {1, 5, 10, 20, 50};
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeAnalysisRepository resumeAnalysisRepository;
+    private final ResumeAnalysisSkillRepository resumeAnalysisSkillRepository;
+    private final ResumeAnalysisCertificationRepository resumeAnalysisCertificationRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // What each analyzed resume currently contributes, so a re-analysis can be subtracted
+    private final Map<String, Contribution> contributions = new HashMap<>();
+
+    private final RankedCounter skills = new RankedCounter();
+    private final RankedCounter skillCategories = new RankedCounter();
+    private final RankedCounter certifications = new RankedCounter();
+    private final RankedCounter certificationIssuers = new RankedCounter();
+    private final Map<String, Long> statusCounts = new LinkedHashMap<>();
+    private final long[] skillHistogram = new long[SKILL_BUCKETS.length + 1];
+    private long totalSkills;
+
+    private static final class Contribution {
+        private final Set<String> skills = new LinkedHashSet<>();
+        private final Set<String> categories = new LinkedHashSet<>();
+        private final Set<String> certifications = new LinkedHashSet<>();
+        private final Set<String> issuers = new LinkedHashSet<>();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildAggregates() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            clear();
+
+            for (Object[] row : resumeRepository.countByStatus()) {
+                statusCounts.merge(String.valueOf(row[0]), (Long) row[1], Long::sum);
+            }
+
+            Map<String, Contribution> loaded = new HashMap<>();
+            try (Stream<Object[]> rows = resumeAnalysisRepository.streamAllHeaders()) {
+                rows.forEach(row -> loaded.put((String) row[1], new Contribution()));
+            }
+            try (Stream<Object[]> rows = resumeAnalysisSkillRepository.streamAllForAnalytics()) {
+                rows.forEach(row -> {
+                    Contribution contribution = loaded.get((String) row[0]);
+                    if (contribution != null) {
+                        addSkill(contribution, (String) row[1], (String) row[2]);
+                    }
+                });
+            }
+            try (Stream<Object[]> rows = resumeAnalysisCertificationRepository.streamAllForAnalytics()) {
+                rows.forEach(row -> {
+                    Contribution contribution = loaded.get((String) row[0]);
+                    if (contribution != null) {
+                        addCertification(contribution, (String) row[1], (String) row[2]);
+                    }
+                });
+            }
+            loaded.forEach(this::apply);
+
+            log.info("Built analytics aggregates: {} analyzed resumes, {} distinct skills in {} ms",
+                contributions.size(), skills.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalysisChanged(ResumeAnalysisChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            unapply(event.getResumeId());
+
+            ResumeAnalysis analysis = event.getAnalysis();
+            Contribution contribution = new Contribution();
+            for (ResumeAnalysisSkill skill : analysis.getSkills()) {
+                addSkill(contribution, skill.getSkillName(), skill.getCategory());
+            }
+            for (ResumeAnalysisCertification certification : analysis.getCertifications()) {
+                addCertification(contribution, certification.getCertificationName(), certification.getIssuingOrganization());
+            }
+            apply(event.getResumeId(), contribution);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeDeleted(ResumeDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            unapply(event.getResumeId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ResumeStatusChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.getPreviousStatus() != null) {
+                statusCounts.merge(event.getPreviousStatus(), -1L, Long::sum);
+            }
+            if (event.getStatus() != null) {
+                statusCounts.merge(event.getStatus(), 1L, Long::sum);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<CountDto> getTopSkills(int limit) {
+        return read(() -> skills.top(limit));
+    }
+
+    public List<CountDto> getSkillCategories(int limit) {
+        return read(() -> skillCategories.top(limit));
+    }
+
+    public List<CountDto> getTopCertifications(int limit) {
+        return read(() -> certifications.top(limit));
+    }
+
+    public List<CountDto> getTopCertificationIssuers(int limit) {
+        return read(() -> certificationIssuers.top(limit));
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return read(() -> {
+            // Every known status, including those with no resumes
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (ResumeStatus status : ResumeStatus.values()) {
+                counts.put(status.name(), statusCounts.getOrDefault(status.name(), 0L));
+            }
+            statusCounts.forEach(counts::putIfAbsent);
+            return counts;
+        });
+    }
+
+    public AnalyticsSummaryDto getSummary() {
+        Map<String, Long> statuses = getStatusCounts();
+        return read(() -> {
+            List<CountDto> histogram = new ArrayList<>();
+            for (int i = 0; i < skillHistogram.length; i++) {
+                histogram.add(new CountDto(bucketLabel(i), skillHistogram[i]));
+            }
+
+            AnalyticsSummaryDto summary = new AnalyticsSummaryDto();
+            summary.setTotalResumes(statuses.values().stream().mapToLong(Long::longValue).sum());
+            summary.setAnalyzedResumes(contributions.size());
+            summary.setStatusCounts(statuses);
+            summary.setDistinctSkills(skills.size());
+            summary.setDistinctCertifications(certifications.size());
+            summary.setAverageSkillsPerResume(contributions.isEmpty() ? 0 : (double) totalSkills / contributions.size());
+            summary.setSkillsPerResume(histogram);
+            return summary;
+        });
+    }
+
+    private void apply(String resumeId, Contribution contribution) {
+        contribution.skills.forEach(skill -> skills.add(skill, 1));
+        contribution.categories.forEach(category -> skillCategories.add(category, 1));
+        contribution.certifications.forEach(certification -> certifications.add(certification, 1));
+        contribution.issuers.forEach(issuer -> certificationIssuers.add(issuer, 1));
+        skillHistogram[bucket(contribution.skills.size())]++;
+        totalSkills += contribution.skills.size();
+        contributions.put(resumeId, contribution);
+    }
+
+    private void unapply(String resumeId) {
+        Contribution contribution = contributions.remove(resumeId);
+        if (contribution == null) {
+            return;
+        }
+        contribution.skills.forEach(skill -> skills.add(skill, -1));
+        contribution.categories.forEach(category -> skillCategories.add(category, -1));
+        contribution.certifications.forEach(certification -> certifications.add(certification, -1));
+        contribution.issuers.forEach(issuer -> certificationIssuers.add(issuer, -1));
+        skillHistogram[bucket(contribution.skills.size())]--;
+        totalSkills -= contribution.skills.size();
+    }
+
+    private static void addSkill(Contribution contribution, String skillName, String category) {
+        String skill = SkillIndexService.normalize(skillName);
+        if (!skill.isEmpty()) {
+            contribution.skills.add(skill);
+        }
+        String normalizedCategory = SkillIndexService.normalize(category);
+        if (!normalizedCategory.isEmpty()) {
+            contribution.categories.add(normalizedCategory);
+        }
+    }
+
+    private static void addCertification(Contribution contribution, String name, String issuer) {
+        String certification = SkillIndexService.normalize(name);
+        if (!certification.isEmpty()) {
+            contribution.certifications.add(certification);
+        }
+        String normalizedIssuer = SkillIndexService.normalize(issuer);
+        if (!normalizedIssuer.isEmpty()) {
+            contribution.issuers.add(normalizedIssuer);
+        }
+    }
+
+    private static int bucket(int skillCount) {
+        for (int i = 0; i < SKILL_BUCKETS.length; i++) {
+            if (skillCount < SKILL_BUCKETS[i]) {
+                return i;
+            }
+        }
+        return SKILL_BUCKETS.length;
+    }
+
+    private static String bucketLabel(int bucket) {
+        int from = bucket == 0 ? 0 : SKILL_BUCKETS[bucket - 1];
+        if (bucket == SKILL_BUCKETS.length) {
+            return from + "+";
+        }
+        int to = SKILL_BUCKETS[bucket] - 1;
+        return from == to ? String.valueOf(from) : from + "-" + to;
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        contributions.clear();
+        skills.clear();
+        skillCategories.clear();
+        certifications.clear();
+        certificationIssuers.clear();
+        statusCounts.clear();
+        Arrays.fill(skillHistogram, 0);
+        totalSkills = 0;
+    }
+}
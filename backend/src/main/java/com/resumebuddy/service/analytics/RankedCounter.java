@@ -0,0 +1,85 @@
+package com.resumebuddy.service.analytics;
+
+import com.resumebuddy.model.dto.CountDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Counts per key kept in rank order, so the top n can be read in O(n) without
+ * sorting the whole key set. Updates are O(log keys). Not thread safe.
+ */
+final class RankedCounter {
+
+    private static final Comparator<Entry> BY_RANK = Comparator
+        .comparingLong((Entry entry) -> entry.count).reversed()
+        .thenComparing(entry -> entry.key);
+
+    private static final class Entry {
+        private final String key;
+        private long count;
+
+        private Entry(String key) {
+            this.key = key;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranked = new TreeSet<>(BY_RANK);
+    private long total;
+
+    void add(String key, long delta) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (delta <= 0) {
+                return;
+            }
+            entry = new Entry(key);
+            entries.put(key, entry);
+        } else {
+            ranked.remove(entry);
+        }
+
+        entry.count += delta;
+        total += delta;
+        if (entry.count > 0) {
+            ranked.add(entry);
+        } else {
+            entries.remove(key);
+        }
+    }
+
+    long get(String key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.count : 0;
+    }
+
+    List<CountDto> top(int limit) {
+        List<CountDto> top = new ArrayList<>(Math.min(limit, ranked.size()));
+        Iterator<Entry> iterator = ranked.iterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            Entry entry = iterator.next();
+            top.add(new CountDto(entry.key, entry.count));
+        }
+        return top;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long total() {
+        return total;
+    }
+
+    void clear() {
+        entries.clear();
+        ranked.clear();
+        total = 0;
+    }
+}
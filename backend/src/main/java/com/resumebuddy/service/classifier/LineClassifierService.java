@@ -0,0 +1,367 @@
+package com.resumebuddy.service.classifier;
+
+import com.resumebuddy.model.ResumeLine;
+import com.resumebuddy.model.dto.LineAnalysisDto;
+import com.resumebuddy.repository.ResumeLineRepository;
+import com.resumebuddy.service.AIAnalysisService;
+import com.resumebuddy.service.LinePreSegmenter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process line classifier trained from lines the LLM has already labelled.
+ * In shadow mode it only predicts and measures agreement with the LLM; in active mode
+ * lines above the confidence threshold are pre-classified and skipped by the LLM.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LineClassifierService {
+
+    public static final String SOURCE_CLASSIFIER = "CLASSIFIER";
+
+    public enum Mode {
+        OFF,
+        SHADOW,
+        ACTIVE
+    }
+
+    private final ResumeLineRepository resumeLineRepository;
+    private final LinePreSegmenter linePreSegmenter;
+
+    @Value("${app.classifier.mode:shadow}")
+    private String modeSetting;
+
+    @Value("${app.classifier.model-path:./models/line-classifier.bin.gz}")
+    private String modelPath;
+
+    @Value("${app.classifier.confidence-threshold:0.95}")
+    private double confidenceThreshold;
+
+    // Hashed feature space, must be a power of two
+    @Value("${app.classifier.dimensions:65536}")
+    private int dimensions;
+
+    @Value("${app.classifier.smoothing:0.1}")
+    private double smoothing;
+
+    // Share of resumes held out of training to measure accuracy
+    @Value("${app.classifier.holdout-percent:10}")
+    private int holdoutPercent;
+
+    private Mode mode;
+    private volatile NaiveBayesModel model;
+    // Serializes train and reload; a lock rather than synchronized, as training streams from the database
+    // and a virtual thread blocked inside a monitor would pin its carrier
+    private final ReentrantLock modelLock = new ReentrantLock();
+
+    // Agreement with the LLM on lines both labelled, reset whenever the model changes
+    private final AtomicLong comparedLines = new AtomicLong();
+    private final AtomicLong agreedLines = new AtomicLong();
+    private final AtomicLong confidentComparedLines = new AtomicLong();
+    private final AtomicLong confidentAgreedLines = new AtomicLong();
+    private final AtomicLong preclassifiedLines = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (Integer.bitCount(dimensions) != 1) {
+            throw new IllegalStateException("app.classifier.dimensions must be a power of two");
+        }
+        mode = Mode.valueOf(modeSetting.trim().toUpperCase(Locale.ROOT));
+        if (mode == Mode.OFF) {
+            return;
+        }
+
+        if (Files.exists(Paths.get(modelPath))) {
+            try {
+                reload();
+            } catch (IOException e) {
+                log.warn("Could not load line classifier model from {}: {}", modelPath, e.getMessage());
+            }
+        } else {
+            log.info("No line classifier model at {}, train one with POST /api/classifier/train", modelPath);
+        }
+    }
+
+    public boolean isActive() {
+        return mode == Mode.ACTIVE && model != null;
+    }
+
+    /**
+     * Predictions for every non-empty line, keyed by line number. Empty when the classifier is off or untrained.
+     */
+    public Map<Integer, NaiveBayesModel.Prediction> predict(List<ResumeLine> lines) {
+        NaiveBayesModel current = model;
+        if (mode == Mode.OFF || current == null) {
+            return Map.of();
+        }
+
+        List<String> contents = new ArrayList<>(lines.size());
+        List<String> layoutLabels = new ArrayList<>(lines.size());
+        for (ResumeLine line : lines) {
+            contents.add(line.getContent());
+            layoutLabels.add(line.getLayoutLabel());
+        }
+        int[][] features = features(contents, layoutLabels, current.getDimensions());
+
+        Map<Integer, NaiveBayesModel.Prediction> predictions = new HashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (features[i] != null) {
+                predictions.put(lines.get(i).getLineNumber(), current.predict(features[i]));
+            }
+        }
+        return predictions;
+    }
+
+    /**
+     * Labels for the predictions confident enough to skip the LLM; empty unless in active mode.
+     */
+    public Map<Integer, LineAnalysisDto> confidentLabels(Map<Integer, NaiveBayesModel.Prediction> predictions) {
+        if (!isActive()) {
+            return Map.of();
+        }
+
+        Map<Integer, LineAnalysisDto> labels = new LinkedHashMap<>();
+        predictions.forEach((lineNumber, prediction) -> {
+            if (prediction.confidence() >= confidenceThreshold) {
+                String[] parts = decodeLabel(prediction.label());
+                labels.put(lineNumber, new LineAnalysisDto(lineNumber, parts[0], null, parts[1],
+                    String.format("Classified locally (confidence %.2f)", prediction.confidence()), SOURCE_CLASSIFIER));
+            }
+        });
+        preclassifiedLines.addAndGet(labels.size());
+        return labels;
+    }
+
+    /**
+     * Compare predictions with the labels the LLM returned for the same lines.
+     */
+    public void recordAgreement(Map<Integer, NaiveBayesModel.Prediction> predictions, List<LineAnalysisDto> llmAnalyses) {
+        if (predictions.isEmpty()) {
+            return;
+        }
+        for (LineAnalysisDto analysis : llmAnalyses) {
+            NaiveBayesModel.Prediction prediction = predictions.get(analysis.getLineNumber());
+            if (prediction == null || analysis.getSectionType() == null) {
+                continue;
+            }
+            boolean agreed = Objects.equals(decodeLabel(prediction.label())[0], analysis.getSectionType());
+            comparedLines.incrementAndGet();
+            if (agreed) {
+                agreedLines.incrementAndGet();
+            }
+            if (prediction.confidence() >= confidenceThreshold) {
+                confidentComparedLines.incrementAndGet();
+                if (agreed) {
+                    confidentAgreedLines.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Train a new model from every line labelled by the LLM, write it to the model path and start using it.
+     * Lines labelled locally are left out, so the model never learns from its own or the heuristics' output.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> train() throws IOException {
+        modelLock.lock();
+        try {
+            return trainLocked();
+        } finally {
+            modelLock.unlock();
+        }
+    }
+
+    private Map<String, Object> trainLocked() throws IOException {
+        long start = System.currentTimeMillis();
+        NaiveBayesModel.Trainer trainer = new NaiveBayesModel.Trainer(dimensions, smoothing);
+        List<int[]> holdoutFeatures = new ArrayList<>();
+        List<String> holdoutLabels = new ArrayList<>();
+
+        // Rows arrive grouped by resume; features need the whole resume for header context and position
+        List<Object[]> resumeRows = new ArrayList<>();
+        try (Stream<Object[]> rows = resumeLineRepository.streamAnalyzedOrdered()) {
+            rows.forEach(row -> {
+                if (!resumeRows.isEmpty() && !resumeRows.get(0)[0].equals(row[0])) {
+                    addTrainingResume(resumeRows, trainer, holdoutFeatures, holdoutLabels);
+                    resumeRows.clear();
+                }
+                resumeRows.add(row);
+            });
+        }
+        if (!resumeRows.isEmpty()) {
+            addTrainingResume(resumeRows, trainer, holdoutFeatures, holdoutLabels);
+        }
+
+        if (trainer.getLines() == 0) {
+            throw new IllegalStateException("No LLM-labelled lines to train from");
+        }
+
+        NaiveBayesModel trained = trainer.build();
+        int correct = 0;
+        for (int i = 0; i < holdoutFeatures.size(); i++) {
+            if (decodeLabel(trained.predict(holdoutFeatures.get(i)).label())[0].equals(decodeLabel(holdoutLabels.get(i))[0])) {
+                correct++;
+            }
+        }
+        double accuracy = holdoutFeatures.isEmpty() ? Double.NaN : (double) correct / holdoutFeatures.size();
+        trained = trained.withHoldoutAccuracy(accuracy);
+
+        // Write next to the target and move, so a concurrent reload never sees a partial file
+        Path target = Paths.get(modelPath);
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "line-classifier", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            trained.write(out);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        swap(trained);
+        log.info("Trained line classifier on {} lines ({} labels), holdout accuracy {} on {} lines in {} ms",
+            trained.getTrainingLines(), trained.getLabels().length, String.format("%.3f", accuracy),
+            holdoutFeatures.size(), System.currentTimeMillis() - start);
+
+        Map<String, Object> result = modelInfo(trained);
+        result.put("holdoutLines", holdoutFeatures.size());
+        result.put("tookMs", System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * Load the model file again, e.g. after it was trained offline and copied into place.
+     */
+    public Map<String, Object> reload() throws IOException {
+        modelLock.lock();
+        try {
+            NaiveBayesModel loaded;
+            try (InputStream in = Files.newInputStream(Paths.get(modelPath))) {
+                loaded = NaiveBayesModel.read(in);
+            }
+            swap(loaded);
+            log.info("Loaded line classifier from {}: {} labels, trained on {} lines", modelPath,
+                loaded.getLabels().length, loaded.getTrainingLines());
+            return modelInfo(loaded);
+        } finally {
+            modelLock.unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        NaiveBayesModel current = model;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", mode.name());
+        stats.put("confidenceThreshold", confidenceThreshold);
+        stats.put("modelLoaded", current != null);
+        if (current != null) {
+            stats.putAll(modelInfo(current));
+        }
+        stats.put("comparedLines", comparedLines.get());
+        stats.put("agreement", ratio(agreedLines.get(), comparedLines.get()));
+        stats.put("confidentComparedLines", confidentComparedLines.get());
+        stats.put("confidentAgreement", ratio(confidentAgreedLines.get(), confidentComparedLines.get()));
+        stats.put("preclassifiedLines", preclassifiedLines.get());
+        return stats;
+    }
+
+    private void addTrainingResume(List<Object[]> rows, NaiveBayesModel.Trainer trainer,
+                                   List<int[]> holdoutFeatures, List<String> holdoutLabels) {
+        List<String> contents = new ArrayList<>(rows.size());
+        List<String> layoutLabels = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            contents.add((String) row[2]);
+            layoutLabels.add((String) row[3]);
+        }
+        int[][] features = features(contents, layoutLabels, dimensions);
+
+        boolean holdout = Math.floorMod(rows.get(0)[0].hashCode(), 100) < holdoutPercent;
+        for (int i = 0; i < rows.size(); i++) {
+            // Every line of the resume gives context to the features, but only LLM labels are learned
+            String sectionType = (String) rows.get(i)[4];
+            if (features[i] == null || sectionType == null || !AIAnalysisService.SOURCE_LLM.equals(rows.get(i)[6])) {
+                continue;
+            }
+            String label = encodeLabel(sectionType, (String) rows.get(i)[5]);
+            if (holdout) {
+                holdoutFeatures.add(features[i]);
+                holdoutLabels.add(label);
+            } else {
+                trainer.add(label, features[i]);
+            }
+        }
+    }
+
+    // Features per line, null for empty lines; the header context is the closest header above each line
+    private int[][] features(List<String> contents, List<String> layoutLabels, int featureDimensions) {
+        int[][] features = new int[contents.size()][];
+        String currentHeader = null;
+        for (int i = 0; i < contents.size(); i++) {
+            String content = contents.get(i);
+            if (content == null || content.isBlank()) {
+                continue;
+            }
+            String header = linePreSegmenter.headerSection(content);
+            if (header != null) {
+                currentHeader = header;
+            }
+            features[i] = LineFeatures.extract(content, layoutLabels.get(i), currentHeader, i, contents.size(), featureDimensions);
+        }
+        return features;
+    }
+
+    private void swap(NaiveBayesModel next) {
+        model = next;
+        comparedLines.set(0);
+        agreedLines.set(0);
+        confidentComparedLines.set(0);
+        confidentAgreedLines.set(0);
+        preclassifiedLines.set(0);
+    }
+
+    private Map<String, Object> modelInfo(NaiveBayesModel info) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("labels", info.getLabels().length);
+        result.put("dimensions", info.getDimensions());
+        result.put("trainingLines", info.getTrainingLines());
+        result.put("holdoutAccuracy", info.getHoldoutAccuracy());
+        result.put("trainedAt", info.getTrainedAt());
+        return result;
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+
+    // sectionType and groupType are trained as one joint label
+    private static String encodeLabel(String sectionType, String groupType) {
+        return sectionType + "|" + (groupType != null ? groupType : "");
+    }
+
+    private static String[] decodeLabel(String label) {
+        String[] parts = label.split("\\|", -1);
+        return new String[] {parts[0], parts.length > 1 && !parts[1].isEmpty() ? parts[1] : null};
+    }
+}
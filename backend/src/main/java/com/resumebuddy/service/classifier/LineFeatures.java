@@ -0,0 +1,136 @@
+package com.resumebuddy.service.classifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Hashed features of one resume line: word unigrams and bigrams plus shape and context
+ * features (layout label, the section header above it, position in the document).
+ * Digits are folded to 0 so "2019" and "2021" share a feature.
+ */
+public final class LineFeatures {
+
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+\\.[\\w.-]+");
+    private static final Pattern URL = Pattern.compile("(https?://|www\\.)\\S+|\\b\\w+\\.(com|io|org|net)/\\S*");
+    private static final Pattern YEAR = Pattern.compile("\\b(19|20)\\d{2}\\b");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int POSITION_BUCKETS = 5;
+
+    private LineFeatures() {
+    }
+
+    /**
+     * Feature ids in [0, dimensions); dimensions must be a power of two.
+     *
+     * @param headerSection sectionType of the closest header at or above this line, or null
+     */
+    public static int[] extract(String content, String layoutLabel, String headerSection,
+                                int index, int total, int dimensions) {
+        List<String> features = new ArrayList<>();
+        String text = content == null ? "" : content.trim();
+
+        List<String> words = words(text);
+        for (int i = 0; i < words.size(); i++) {
+            features.add("w:" + words.get(i));
+            if (i + 1 < words.size()) {
+                features.add("b:" + words.get(i) + "_" + words.get(i + 1));
+            }
+        }
+        if (!words.isEmpty()) {
+            features.add("first:" + words.get(0));
+        }
+
+        features.add("len:" + lengthBucket(words.size()));
+        features.add("pos:" + (total > 0 ? Math.min(POSITION_BUCKETS - 1, index * POSITION_BUCKETS / total) : 0));
+        features.add("hdr:" + (headerSection != null ? headerSection : "none"));
+        if (layoutLabel != null) {
+            features.add("layout:" + layoutLabel);
+        }
+        if (!text.isEmpty() && "-•*·▪".indexOf(text.charAt(0)) >= 0) {
+            features.add("shape:bullet");
+        }
+        if (text.endsWith(":")) {
+            features.add("shape:colon");
+        }
+        if (isUpperCase(text)) {
+            features.add("shape:caps");
+        }
+        if (EMAIL.matcher(text).find()) {
+            features.add("shape:email");
+        }
+        if (URL.matcher(text).find()) {
+            features.add("shape:url");
+        }
+        if (YEAR.matcher(text).find()) {
+            features.add("shape:year");
+        }
+
+        int mask = dimensions - 1;
+        int[] ids = new int[features.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = mix(features.get(i).hashCode()) & mask;
+        }
+        return ids;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(foldDigits(word));
+            }
+        }
+        return words;
+    }
+
+    private static String foldDigits(String word) {
+        StringBuilder folded = null;
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isDigit(word.charAt(i))) {
+                if (folded == null) {
+                    folded = new StringBuilder(word);
+                }
+                folded.setCharAt(i, '0');
+            }
+        }
+        return folded != null ? folded.toString() : word;
+    }
+
+    private static String lengthBucket(int words) {
+        if (words <= 2) {
+            return "xs";
+        } else if (words <= 5) {
+            return "s";
+        } else if (words <= 12) {
+            return "m";
+        }
+        return "l";
+    }
+
+    private static boolean isUpperCase(String text) {
+        boolean letters = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetter(c)) {
+                if (!Character.isUpperCase(c)) {
+                    return false;
+                }
+                letters = true;
+            }
+        }
+        return letters;
+    }
+
+    // Murmur3 finalizer, spreads String.hashCode over the low bits
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
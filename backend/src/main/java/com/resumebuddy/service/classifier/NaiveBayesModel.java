@@ -0,0 +1,178 @@
+package com.resumebuddy.service.classifier;
+
+import lombok.Getter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Multinomial naive Bayes over hashed feature ids. Immutable once built, so it can be
+ * swapped atomically on reload and shared across request threads.
+ */
+@Getter
+public final class NaiveBayesModel {
+
+    private static final int MAGIC = 0x4C434D31;  // "LCM1"
+
+    private final int dimensions;
+    private final String[] labels;
+    private final float[] logPriors;
+    // Per class, log P(feature | class) with additive smoothing
+    private final float[][] logLikelihoods;
+    private final long trainedAt;
+    private final long trainingLines;
+    private final double holdoutAccuracy;
+
+    NaiveBayesModel(int dimensions, String[] labels, float[] logPriors, float[][] logLikelihoods,
+                    long trainedAt, long trainingLines, double holdoutAccuracy) {
+        this.dimensions = dimensions;
+        this.labels = labels;
+        this.logPriors = logPriors;
+        this.logLikelihoods = logLikelihoods;
+        this.trainedAt = trainedAt;
+        this.trainingLines = trainingLines;
+        this.holdoutAccuracy = holdoutAccuracy;
+    }
+
+    public record Prediction(String label, double confidence) {
+    }
+
+    /**
+     * Most likely label with its posterior probability.
+     */
+    public Prediction predict(int[] features) {
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double[] scores = new double[labels.length];
+        for (int c = 0; c < labels.length; c++) {
+            float[] likelihoods = logLikelihoods[c];
+            double score = logPriors[c];
+            for (int feature : features) {
+                score += likelihoods[feature];
+            }
+            scores[c] = score;
+            if (score > bestScore) {
+                bestScore = score;
+                best = c;
+            }
+        }
+
+        // Softmax relative to the best score to stay in floating point range
+        double sum = 0;
+        for (double score : scores) {
+            sum += Math.exp(score - bestScore);
+        }
+        return new Prediction(labels[best], 1 / sum);
+    }
+
+    NaiveBayesModel withHoldoutAccuracy(double accuracy) {
+        return new NaiveBayesModel(dimensions, labels, logPriors, logLikelihoods, trainedAt, trainingLines, accuracy);
+    }
+
+    public void write(OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(gzip);
+        data.writeInt(MAGIC);
+        data.writeInt(dimensions);
+        data.writeLong(trainedAt);
+        data.writeLong(trainingLines);
+        data.writeDouble(holdoutAccuracy);
+        data.writeInt(labels.length);
+        for (int c = 0; c < labels.length; c++) {
+            data.writeUTF(labels[c]);
+            data.writeFloat(logPriors[c]);
+            for (float value : logLikelihoods[c]) {
+                data.writeFloat(value);
+            }
+        }
+        data.flush();
+        gzip.finish();
+    }
+
+    public static NaiveBayesModel read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new GZIPInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a line classifier model file");
+        }
+        int dimensions = data.readInt();
+        long trainedAt = data.readLong();
+        long trainingLines = data.readLong();
+        double holdoutAccuracy = data.readDouble();
+        int classes = data.readInt();
+
+        String[] labels = new String[classes];
+        float[] logPriors = new float[classes];
+        float[][] logLikelihoods = new float[classes][dimensions];
+        for (int c = 0; c < classes; c++) {
+            labels[c] = data.readUTF();
+            logPriors[c] = data.readFloat();
+            for (int f = 0; f < dimensions; f++) {
+                logLikelihoods[c][f] = data.readFloat();
+            }
+        }
+        return new NaiveBayesModel(dimensions, labels, logPriors, logLikelihoods, trainedAt, trainingLines, holdoutAccuracy);
+    }
+
+    /**
+     * Accumulates feature counts per label and turns them into a model.
+     */
+    static final class Trainer {
+
+        private final int dimensions;
+        private final double smoothing;
+        private final Map<String, double[]> featureCounts = new LinkedHashMap<>();
+        private final Map<String, long[]> documentCounts = new LinkedHashMap<>();
+        private long lines;
+
+        Trainer(int dimensions, double smoothing) {
+            this.dimensions = dimensions;
+            this.smoothing = smoothing;
+        }
+
+        void add(String label, int[] features) {
+            double[] counts = featureCounts.computeIfAbsent(label, key -> new double[dimensions]);
+            for (int feature : features) {
+                counts[feature]++;
+            }
+            documentCounts.computeIfAbsent(label, key -> new long[1])[0]++;
+            lines++;
+        }
+
+        long getLines() {
+            return lines;
+        }
+
+        NaiveBayesModel build() {
+            List<String> labels = new ArrayList<>(featureCounts.keySet());
+            float[] logPriors = new float[labels.size()];
+            float[][] logLikelihoods = new float[labels.size()][dimensions];
+
+            for (int c = 0; c < labels.size(); c++) {
+                String label = labels.get(c);
+                logPriors[c] = (float) Math.log((double) documentCounts.get(label)[0] / lines);
+
+                double[] counts = featureCounts.get(label);
+                double total = 0;
+                for (double count : counts) {
+                    total += count;
+                }
+                double denominator = Math.log(total + smoothing * dimensions);
+                for (int f = 0; f < dimensions; f++) {
+                    logLikelihoods[c][f] = (float) (Math.log(counts[f] + smoothing) - denominator);
+                }
+            }
+
+            return new NaiveBayesModel(dimensions, labels.toArray(new String[0]), logPriors, logLikelihoods,
+                System.currentTimeMillis(), lines, Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.resumebuddy.service.dedup;
+
+import com.resumebuddy.model.dto.LineAnalysisDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Line labels copied from the closest already analyzed near-duplicate of a resume.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AnalysisSeed {
+
+    private final String sourceResumeId;
+    private final double similarity;
+
+    // Line number in the new resume -> labels of the identical line in the source resume
+    private final Map<Integer, LineAnalysisDto> presetLines;
+
+    // True when every non-empty line matched and the source has no extra lines,
+    // so the source's structured analysis can be reused as is
+    private final boolean fullMatch;
+}
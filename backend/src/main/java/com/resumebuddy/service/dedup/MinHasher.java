@@ -0,0 +1,130 @@
+package com.resumebuddy.service.dedup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over word shingles of a resume's lines.
+ * The fraction of equal positions in two signatures estimates the Jaccard
+ * similarity of their shingle sets.
+ */
+public final class MinHasher {
+
+    private final int numHashes;
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHasher(int numHashes, int shingleSize) {
+        this.numHashes = numHashes;
+        this.shingleSize = shingleSize;
+        // Fixed seed so signatures stay comparable across restarts
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        this.seeds = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Signature of the given lines in order, or null when they contain no words.
+     */
+    public int[] signature(List<String> lines) {
+        long[] shingles = shingles(lines);
+        if (shingles.length == 0) {
+            return null;
+        }
+
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < numHashes; i++) {
+                int value = (int) (mix(shingle ^ seeds[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * Lower-case, drop punctuation and collapse whitespace so cosmetic edits do not change a line.
+     */
+    public static String normalizeLine(String line) {
+        if (line == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(line.length());
+        boolean space = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    // Distinct hashes of every run of shingleSize consecutive words across all lines
+    private long[] shingles(List<String> lines) {
+        List<Long> words = new ArrayList<>();
+        for (String line : lines) {
+            String normalized = normalizeLine(line);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            for (String word : normalized.split(" ")) {
+                words.add(hash(word));
+            }
+        }
+        if (words.isEmpty()) {
+            return new long[0];
+        }
+
+        int count = Math.max(1, words.size() - shingleSize + 1);
+        long[] shingles = new long[count];
+        for (int start = 0; start < count; start++) {
+            long hash = 0;
+            for (int i = start; i < Math.min(start + shingleSize, words.size()); i++) {
+                hash = mix(hash * 31 + words.get(i));
+            }
+            shingles[start] = hash;
+        }
+        return Arrays.stream(shingles).distinct().toArray();
+    }
+
+    // 64-bit FNV-1a
+    private static long hash(String word) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= word.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
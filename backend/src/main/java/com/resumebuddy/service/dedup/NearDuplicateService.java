@@ -0,0 +1,411 @@
+package com.resumebuddy.service.dedup;
+
+import com.resumebuddy.model.ResumeLine;
+import com.resumebuddy.model.dto.DuplicateClusterDto;
+import com.resumebuddy.model.dto.DuplicateMatchDto;
+import com.resumebuddy.model.dto.LineAnalysisDto;
+import com.resumebuddy.repository.ResumeAnalysisRepository;
+import com.resumebuddy.repository.ResumeLineRepository;
+import com.resumebuddy.service.event.ResumeDeletedEvent;
+import com.resumebuddy.service.event.ResumeLinesChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds near-duplicate resumes with MinHash signatures and a banded LSH index.
+ * Signatures are computed when lines are created or edited; resumes whose signatures
+ * collide in any band are verified against the similarity threshold.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearDuplicateService {
+
+    public static final String SOURCE_NEAR_DUPLICATE = "NEAR_DUPLICATE";
+
+    // Analyzed near-duplicates inspected when seeding an analysis
+    private static final int MAX_SEED_CANDIDATES = 3;
+
+    private final ResumeLineRepository resumeLineRepository;
+    private final ResumeAnalysisRepository resumeAnalysisRepository;
+
+    @Value("${app.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.dedup.num-hashes:128}")
+    private int numHashes;
+
+    // bands x rows must equal num-hashes; more bands finds less similar pairs
+    @Value("${app.dedup.bands:16}")
+    private int bands;
+
+    @Value("${app.dedup.shingle-size:3}")
+    private int shingleSize;
+
+    @Value("${app.dedup.similarity-threshold:0.8}")
+    private double similarityThreshold;
+
+    private MinHasher minHasher;
+    private int rows;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, int[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<String>>> buckets = new ArrayList<>();
+
+    private volatile boolean ready;
+
+    @PostConstruct
+    public void init() {
+        if (bands < 1 || numHashes % bands != 0) {
+            throw new IllegalStateException("app.dedup.num-hashes must be a multiple of app.dedup.bands");
+        }
+        rows = numHashes / bands;
+        minHasher = new MinHasher(numHashes, shingleSize);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.forEach(Map::clear);
+
+            // Rows arrive grouped by resume, so only one resume's lines are held at a time
+            String[] currentResume = {null};
+            List<String> currentLines = new ArrayList<>();
+            try (Stream<Object[]> rows = resumeLineRepository.streamAllContentOrdered()) {
+                rows.forEach(row -> {
+                    String resumeId = (String) row[0];
+                    if (!resumeId.equals(currentResume[0])) {
+                        if (currentResume[0] != null) {
+                            put(currentResume[0], minHasher.signature(currentLines));
+                        }
+                        currentResume[0] = resumeId;
+                        currentLines.clear();
+                    }
+                    currentLines.add((String) row[1]);
+                });
+            }
+            if (currentResume[0] != null) {
+                put(currentResume[0], minHasher.signature(currentLines));
+            }
+
+            ready = true;
+            log.info("Built near-duplicate index: {} resumes in {} ms",
+                signatures.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLinesChanged(ResumeLinesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        List<ResumeLine> lines = event.isFullReplace()
+            ? event.getLines().stream().sorted(Comparator.comparing(ResumeLine::getLineNumber)).toList()
+            : resumeLineRepository.findByResumeIdOrderByLineNumber(event.getResumeId());
+        int[] signature = minHasher.signature(lines.stream().map(ResumeLine::getContent).toList());
+
+        lock.writeLock().lock();
+        try {
+            remove(event.getResumeId());
+            put(event.getResumeId(), signature);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<DuplicateMatchDto> duplicates = findNearDuplicates(event.getResumeId());
+        if (!duplicates.isEmpty()) {
+            log.info("Resume ID: {} is a near-duplicate of {} resume(s), closest {} ({})",
+                event.getResumeId(), duplicates.size(), duplicates.get(0).getResumeId(),
+                String.format("%.2f", duplicates.get(0).getSimilarity()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeDeleted(ResumeDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getResumeId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resumes at or above the similarity threshold, most similar first.
+     */
+    public List<DuplicateMatchDto> findNearDuplicates(String resumeId) {
+        lock.readLock().lock();
+        try {
+            int[] signature = signatures.get(resumeId);
+            if (signature == null) {
+                return List.of();
+            }
+
+            List<DuplicateMatchDto> matches = new ArrayList<>();
+            for (String candidate : candidates(resumeId, signature)) {
+                double similarity = MinHasher.similarity(signature, signatures.get(candidate));
+                if (similarity >= similarityThreshold) {
+                    matches.add(new DuplicateMatchDto(candidate, similarity));
+                }
+            }
+            matches.sort(Comparator.comparingDouble(DuplicateMatchDto::getSimilarity).reversed());
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups of two or more resumes connected by verified near-duplicate pairs, largest first.
+     */
+    public List<DuplicateClusterDto> getClusters() {
+        lock.readLock().lock();
+        try {
+            Map<String, String> parents = new HashMap<>();
+            Map<String, double[]> similarityRanges = new HashMap<>();
+            Set<String> compared = new HashSet<>();
+
+            for (Map<Long, Set<String>> band : buckets) {
+                for (Set<String> bucket : band.values()) {
+                    if (bucket.size() < 2) {
+                        continue;
+                    }
+                    List<String> members = new ArrayList<>(bucket);
+                    for (int i = 0; i < members.size(); i++) {
+                        for (int j = i + 1; j < members.size(); j++) {
+                            String a = members.get(i);
+                            String b = members.get(j);
+                            String pair = a.compareTo(b) < 0 ? a + "|" + b : b + "|" + a;
+                            if (!compared.add(pair)) {
+                                continue;
+                            }
+                            double similarity = MinHasher.similarity(signatures.get(a), signatures.get(b));
+                            if (similarity >= similarityThreshold) {
+                                union(parents, a, b, similarity, similarityRanges);
+                            }
+                        }
+                    }
+                }
+            }
+
+            Map<String, List<String>> clusters = new LinkedHashMap<>();
+            for (String resumeId : parents.keySet()) {
+                clusters.computeIfAbsent(find(parents, resumeId), root -> new ArrayList<>()).add(resumeId);
+            }
+
+            return clusters.entrySet().stream()
+                .map(cluster -> {
+                    double[] range = similarityRanges.get(find(parents, cluster.getKey()));
+                    List<String> ids = cluster.getValue().stream().sorted().collect(Collectors.toList());
+                    return new DuplicateClusterDto(ids, range[0], range[1]);
+                })
+                .sorted(Comparator.comparingInt((DuplicateClusterDto cluster) -> cluster.getResumeIds().size()).reversed())
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy line labels from the closest analyzed near-duplicate. Lines are matched on
+     * normalized content, so only lines that changed still need the LLM.
+     * Returns null when no analyzed near-duplicate shares any line.
+     */
+    public AnalysisSeed findAnalysisSeed(String resumeId, List<ResumeLine> lines) {
+        if (!enabled) {
+            return null;
+        }
+
+        List<DuplicateMatchDto> matches = findNearDuplicates(resumeId);
+        if (matches.isEmpty()) {
+            return null;
+        }
+        Set<String> analyzed = resumeAnalysisRepository.findAnalyzedResumeIds(
+            matches.stream().map(DuplicateMatchDto::getResumeId).collect(Collectors.toList()));
+
+        int inspected = 0;
+        for (DuplicateMatchDto match : matches) {
+            if (inspected >= MAX_SEED_CANDIDATES) {
+                break;
+            }
+            if (!analyzed.contains(match.getResumeId())) {
+                continue;
+            }
+            inspected++;
+
+            Map<String, Deque<ResumeLine>> analyzedByContent = new HashMap<>();
+            for (ResumeLine prior : resumeLineRepository.findByResumeIdOrderByLineNumber(match.getResumeId())) {
+                String normalized = MinHasher.normalizeLine(prior.getContent());
+                if (prior.getAnalyzedAt() != null && prior.getSectionType() != null && !normalized.isEmpty()) {
+                    analyzedByContent.computeIfAbsent(normalized, key -> new ArrayDeque<>()).add(prior);
+                }
+            }
+
+            Map<Integer, LineAnalysisDto> presetLines = new LinkedHashMap<>();
+            int nonEmptyLines = 0;
+            for (ResumeLine line : lines) {
+                String normalized = MinHasher.normalizeLine(line.getContent());
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                nonEmptyLines++;
+                Deque<ResumeLine> priors = analyzedByContent.get(normalized);
+                ResumeLine prior = priors != null ? priors.poll() : null;
+                if (prior != null) {
+                    presetLines.put(line.getLineNumber(), new LineAnalysisDto(
+                        line.getLineNumber(),
+                        prior.getSectionType(),
+                        prior.getGroupId(),
+                        prior.getGroupType(),
+                        prior.getAnalysisNotes(),
+                        SOURCE_NEAR_DUPLICATE
+                    ));
+                }
+            }
+
+            if (presetLines.isEmpty()) {
+                continue;
+            }
+            boolean fullMatch = presetLines.size() == nonEmptyLines
+                && analyzedByContent.values().stream().allMatch(Deque::isEmpty);
+            return new AnalysisSeed(match.getResumeId(), match.getSimilarity(), presetLines, fullMatch);
+        }
+        return null;
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("enabled", enabled);
+            stats.put("ready", ready);
+            stats.put("resumes", signatures.size());
+            stats.put("numHashes", numHashes);
+            stats.put("bands", bands);
+            stats.put("rows", rows);
+            stats.put("similarityThreshold", similarityThreshold);
+            stats.put("buckets", buckets.stream().mapToInt(Map::size).sum());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<String> candidates(String resumeId, int[] signature) {
+        Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            Set<String> bucket = buckets.get(band).get(bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(resumeId);
+        return candidates;
+    }
+
+    private void put(String resumeId, int[] signature) {
+        if (signature == null) {
+            return;
+        }
+        signatures.put(resumeId, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(resumeId);
+        }
+    }
+
+    private void remove(String resumeId) {
+        int[] signature = signatures.remove(resumeId);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(signature, band);
+            Set<String> bucket = buckets.get(band).get(key);
+            if (bucket != null) {
+                bucket.remove(resumeId);
+                if (bucket.isEmpty()) {
+                    buckets.get(band).remove(key);
+                }
+            }
+        }
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = MinHasher.mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+
+    private static String find(Map<String, String> parents, String id) {
+        String root = id;
+        while (!parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+        // Path compression
+        while (!parents.get(id).equals(root)) {
+            String next = parents.get(id);
+            parents.put(id, root);
+            id = next;
+        }
+        return root;
+    }
+
+    private static void union(Map<String, String> parents, String a, String b, double similarity,
+                              Map<String, double[]> similarityRanges) {
+        parents.putIfAbsent(a, a);
+        parents.putIfAbsent(b, b);
+        String rootA = find(parents, a);
+        String rootB = find(parents, b);
+
+        double[] rangeA = similarityRanges.getOrDefault(rootA, new double[] {similarity, similarity});
+        double[] rangeB = similarityRanges.getOrDefault(rootB, new double[] {similarity, similarity});
+        double[] merged = {
+            Math.min(similarity, Math.min(rangeA[0], rangeB[0])),
+            Math.max(similarity, Math.max(rangeA[1], rangeB[1]))
+        };
+
+        if (!rootA.equals(rootB)) {
+            parents.put(rootB, rootA);
+            similarityRanges.remove(rootB);
+        }
+        similarityRanges.put(rootA, merged);
+    }
+}
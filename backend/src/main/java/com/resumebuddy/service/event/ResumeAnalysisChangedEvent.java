@@ -0,0 +1,22 @@
+package com.resumebuddy.service.event;
+
+import com.resumebuddy.model.ResumeAnalysis;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a resume's structured analysis is written or replaced.
+ * In-memory indexes listen for it after commit to update incrementally.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ResumeAnalysisChangedEvent {
+
+    private final String resumeId;
+
+    // Analysis that was replaced, null if there was none
+    private final String previousAnalysisId;
+
+    // New analysis with its child collections populated
+    private final ResumeAnalysis analysis;
+}
@@ -0,0 +1,15 @@
+package com.resumebuddy.service.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a resume is deleted, together with its lines and analysis.
+ * In-memory indexes listen for it after commit to drop everything they hold for the resume.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ResumeDeletedEvent {
+
+    private final String resumeId;
+}
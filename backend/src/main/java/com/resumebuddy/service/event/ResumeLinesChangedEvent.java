@@ -0,0 +1,23 @@
+package com.resumebuddy.service.event;
+
+import com.resumebuddy.model.ResumeLine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Published when lines of a resume are created, edited or re-labelled by analysis.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ResumeLinesChangedEvent {
+
+    private final String resumeId;
+
+    // Current state of the changed lines
+    private final List<ResumeLine> lines;
+
+    // True when lines holds every line of the resume and replaces what was there before
+    private final boolean fullReplace;
+}
@@ -0,0 +1,20 @@
+package com.resumebuddy.service.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a resume is created, changes status or is deleted.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ResumeStatusChangedEvent {
+
+    private final String resumeId;
+
+    // Null when the resume was just created
+    private final String previousStatus;
+
+    // Null when the resume was deleted
+    private final String status;
+}
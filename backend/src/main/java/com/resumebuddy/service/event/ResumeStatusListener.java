@@ -0,0 +1,43 @@
+package com.resumebuddy.service.event;
+
+import com.resumebuddy.model.Resume;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * JPA entity listener that turns every resume status write into a {@link ResumeStatusChangedEvent},
+ * wherever in the code the status was set. Hibernate obtains it from the Spring context.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResumeStatusListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Resume resume) {
+        resume.setPersistedStatus(resume.getStatus());
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Resume resume) {
+        if (!Objects.equals(resume.getPersistedStatus(), resume.getStatus())) {
+            eventPublisher.publishEvent(new ResumeStatusChangedEvent(
+                resume.getId(), resume.getPersistedStatus(), resume.getStatus()));
+        }
+        resume.setPersistedStatus(resume.getStatus());
+    }
+
+    @PostRemove
+    public void onRemove(Resume resume) {
+        eventPublisher.publishEvent(new ResumeStatusChangedEvent(resume.getId(), resume.getPersistedStatus(), null));
+    }
+}
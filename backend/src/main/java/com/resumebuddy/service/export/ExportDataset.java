@@ -0,0 +1,77 @@
+package com.resumebuddy.service.export;
+
+import java.util.Locale;
+
+/**
+ * Tables that can be exported. Analysis child rows are rewritten together with their
+ * analysis, so incremental pulls filter them on the parent's updated_at.
+ */
+public enum ExportDataset {
+
+    RESUMES(
+        "SELECT r.id, r.filename, r.content_type, r.file_size, r.status, r.created_at, r.updated_at FROM resumes r",
+        "r.updated_at"),
+    LINES(
+        "SELECT l.id, l.resume_id, l.line_number, l.content, l.layout_label, l.section_type, l.group_id, l.group_type, " +
+        "l.analysis_notes, l.analyzed_at, l.created_at, l.updated_at FROM resume_lines l",
+        "l.updated_at"),
+    ANALYSES(
+        "SELECT a.id, a.resume_id, a.name, a.email, a.phone, a.linkedin_url, a.github_url, a.website_url, a.summary, " +
+        "a.created_at, a.updated_at FROM resume_analysis a",
+        "a.updated_at"),
+    EXPERIENCES(
+        "SELECT e.id, e.analysis_id, a.resume_id, e.job_title, e.company_name, e.start_date, e.end_date, e.start_month, " +
+        "e.end_month, e.is_current, e.description, a.updated_at AS analysis_updated_at " +
+        "FROM resume_analysis_experience e JOIN resume_analysis a ON a.id = e.analysis_id",
+        "a.updated_at"),
+    SKILLS(
+        "SELECT s.id, s.analysis_id, a.resume_id, s.skill_name, s.category, a.updated_at AS analysis_updated_at " +
+        "FROM resume_analysis_skill s JOIN resume_analysis a ON a.id = s.analysis_id",
+        "a.updated_at"),
+    EDUCATIONS(
+        "SELECT e.id, e.analysis_id, a.resume_id, e.degree, e.institution, e.graduation_date, e.graduation_month, " +
+        "e.description, a.updated_at AS analysis_updated_at " +
+        "FROM resume_analysis_education e JOIN resume_analysis a ON a.id = e.analysis_id",
+        "a.updated_at"),
+    CERTIFICATIONS(
+        "SELECT c.id, c.analysis_id, a.resume_id, c.certification_name, c.issuing_organization, c.issue_date, " +
+        "c.issue_month, c.credential_id, a.updated_at AS analysis_updated_at " +
+        "FROM resume_analysis_certification c JOIN resume_analysis a ON a.id = c.analysis_id",
+        "a.updated_at"),
+    PROJECTS(
+        "SELECT p.id, p.analysis_id, a.resume_id, p.project_name, p.description, p.technologies_used, p.project_url, " +
+        "a.updated_at AS analysis_updated_at " +
+        "FROM resume_analysis_project p JOIN resume_analysis a ON a.id = p.analysis_id",
+        "a.updated_at");
+
+    private final String selectSql;
+    private final String updatedAtColumn;
+
+    ExportDataset(String selectSql, String updatedAtColumn) {
+        this.selectSql = selectSql;
+        this.updatedAtColumn = updatedAtColumn;
+    }
+
+    /**
+     * Rows updated in [since, until); since is optional.
+     */
+    String sql(boolean incremental) {
+        return selectSql + " WHERE " + (incremental ? updatedAtColumn + " >= ? AND " : "") + updatedAtColumn + " < ?";
+    }
+
+    public String fileName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Dataset for a path segment such as "lines", or null when unknown.
+     */
+    public static ExportDataset fromName(String name) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.fileName().equalsIgnoreCase(name)) {
+                return dataset;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.resumebuddy.service.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    ExportWriter newWriter(Writer out) throws IOException {
+        return this == NDJSON ? new NdjsonExportWriter(out) : new CsvExportWriter(out);
+    }
+
+    /**
+     * Format for a request parameter such as "csv", or null when unknown.
+     */
+    public static ExportFormat fromName(String name) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name) || format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
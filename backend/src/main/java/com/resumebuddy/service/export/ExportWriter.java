@@ -0,0 +1,15 @@
+package com.resumebuddy.service.export;
+
+import java.io.IOException;
+
+/**
+ * Writes exported rows one at a time; values are String, Number, Boolean or null.
+ */
+interface ExportWriter {
+
+    void writeHeader(String[] columns) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+
+    void finish() throws IOException;
+}
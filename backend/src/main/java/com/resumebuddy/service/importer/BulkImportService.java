@@ -0,0 +1,424 @@
+package com.resumebuddy.service.importer;
+
+import com.resumebuddy.model.ImportJob;
+import com.resumebuddy.model.ImportJobEntry;
+import com.resumebuddy.model.ImportStatus;
+import com.resumebuddy.model.Resume;
+import com.resumebuddy.model.dto.ImportEntryDto;
+import com.resumebuddy.model.dto.ImportJobDto;
+import com.resumebuddy.repository.ImportJobEntryRepository;
+import com.resumebuddy.repository.ImportJobRepository;
+import com.resumebuddy.repository.ResumeRepository;
+import com.resumebuddy.service.FileStorageService;
+import com.resumebuddy.service.ResumeIngestionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Imports a ZIP archive of resumes. The upload is stored as a single archive file and read
+ * back with a {@link ZipInputStream}, one entry at a time; entries are uploaded, parsed and
+ * split into lines by a bounded worker pool. Every entry gets a manifest row before it is
+ * processed, so a job interrupted by a restart resumes where it stopped.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        ".pdf", "application/pdf",
+        ".docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+        ".txt", "text/plain",
+        ".md", "text/markdown",
+        ".markdown", "text/markdown"
+    );
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobEntryRepository importJobEntryRepository;
+    private final ResumeRepository resumeRepository;
+    private final FileStorageService fileStorageService;
+    private final ResumeIngestionService resumeIngestionService;
+    private final PlatformTransactionManager transactionManager;
+
+    // Entries uploaded and parsed concurrently
+    @Value("${app.import.parallelism:4}")
+    private int parallelism;
+
+    // Same limit as a single multipart upload
+    @Value("${app.import.max-entry-size:10485760}")
+    private int maxEntrySize;
+
+    // Larger archives are rejected while the request body is copied
+    @Value("${app.import.max-archive-size:524288000}")
+    private long maxArchiveSize;
+
+    @Value("${app.import.delete-archive-on-completion:true}")
+    private boolean deleteArchiveOnCompletion;
+
+    // Jobs run one at a time; their entries fan out to the workers
+    private ExecutorService coordinator;
+    private ExecutorService workers;
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    public void init() {
+        coordinator = Executors.newSingleThreadExecutor(namedThreads("import-coordinator"));
+        workers = Executors.newFixedThreadPool(parallelism, namedThreads("import-worker"));
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted jobs stay PROCESSING and are resumed on the next start
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<ImportJob> unfinished = importJobRepository.findByStatusInOrderByCreatedAtAsc(
+            List.of(ImportStatus.QUEUED.name(), ImportStatus.PROCESSING.name()));
+        for (ImportJob job : unfinished) {
+            log.info("Resuming import job {} ({})", job.getId(), job.getFilename());
+            coordinator.execute(() -> runJob(job.getId()));
+        }
+    }
+
+    /**
+     * Store the archive and queue it for import.
+     */
+    public ImportJobDto submit(InputStream archive, String filename) throws IOException {
+        String archivePath = fileStorageService.storeImportArchive(archive, UUID.randomUUID().toString(), maxArchiveSize);
+
+        ImportJob job = new ImportJob();
+        job.setFilename(filename);
+        job.setArchivePath(archivePath);
+        job.setStatus(ImportStatus.QUEUED.name());
+        job = importJobRepository.save(job);
+
+        String jobId = job.getId();
+        coordinator.execute(() -> runJob(jobId));
+        log.info("Queued import job {} for archive {}", jobId, filename);
+        return toDto(job);
+    }
+
+    public Optional<ImportJobDto> getJob(String jobId) {
+        return importJobRepository.findById(jobId).map(this::toDto);
+    }
+
+    public List<ImportJobDto> listJobs() {
+        List<ImportJob> jobs = importJobRepository.findAllByOrderByCreatedAtDesc();
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+
+        // Entry counts of every listed job in one query
+        Map<String, Map<String, Long>> countsByJob = new HashMap<>();
+        List<String> jobIds = jobs.stream().map(ImportJob::getId).collect(Collectors.toList());
+        for (Object[] row : importJobEntryRepository.countByJobAndStatus(jobIds)) {
+            countsByJob.computeIfAbsent((String) row[0], id -> new HashMap<>()).put((String) row[1], (Long) row[2]);
+        }
+        return jobs.stream()
+            .map(job -> toDto(job, countsByJob.getOrDefault(job.getId(), Map.of())))
+            .collect(Collectors.toList());
+    }
+
+    public List<ImportEntryDto> getManifest(String jobId) {
+        return importJobEntryRepository.findByJobIdOrderByEntryIndexAsc(jobId).stream()
+            .map(entry -> new ImportEntryDto(entry.getEntryIndex(), entry.getEntryName(), entry.getStatus(),
+                entry.getResumeId(), entry.getMessage()))
+            .collect(Collectors.toList());
+    }
+
+    private void runJob(String jobId) {
+        ImportJob job = importJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Path archive = fileStorageService.getFilePath(job.getArchivePath());
+        job.setStatus(ImportStatus.PROCESSING.name());
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(LocalDateTime.now());
+        }
+        job = importJobRepository.save(job);
+
+        try {
+            if (job.getTotalEntries() == null) {
+                job.setTotalEntries(countFileEntries(archive));
+                job = importJobRepository.save(job);
+            }
+
+            Map<Integer, ImportJobEntry> manifest = new HashMap<>();
+            for (ImportJobEntry entry : importJobEntryRepository.findByJobIdOrderByEntryIndexAsc(jobId)) {
+                manifest.put(entry.getEntryIndex(), entry);
+            }
+
+            importEntries(job, archive, manifest);
+
+            job.setStatus(ImportStatus.COMPLETED.name());
+            job.setCompletedAt(LocalDateTime.now());
+            job = importJobRepository.save(job);
+            log.info("Import job {} completed: {} entries in {} ms", jobId, job.getTotalEntries(),
+                System.currentTimeMillis() - startTime);
+
+            if (deleteArchiveOnCompletion) {
+                fileStorageService.deleteFile(job.getArchivePath());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Import job {} interrupted, it will resume on next start", jobId);
+        } catch (Exception e) {
+            if (coordinator.isShutdown()) {
+                log.warn("Import job {} stopped by shutdown, it will resume on next start: {}", jobId, e.getMessage());
+                return;
+            }
+            log.error("Import job {} failed", jobId, e);
+            job.setStatus(ImportStatus.FAILED.name());
+            job.setMessage(e.getMessage());
+            job.setCompletedAt(LocalDateTime.now());
+            importJobRepository.save(job);
+        }
+    }
+
+    /**
+     * Read the archive entry by entry and hand each unfinished one to the workers.
+     * At most parallelism * 2 entries are held in memory at once.
+     */
+    private void importEntries(ImportJob job, Path archive, Map<Integer, ImportJobEntry> manifest)
+            throws IOException, InterruptedException {
+        int maxInFlight = parallelism * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(archive)))) {
+            int index = -1;
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                if (zipEntry.isDirectory()) {
+                    continue;
+                }
+                index++;
+
+                ImportJobEntry existing = manifest.get(index);
+                if (existing != null && !ImportStatus.PROCESSING.name().equals(existing.getStatus())) {
+                    continue;
+                }
+
+                String name = zipEntry.getName();
+                String contentType = contentTypeFor(name);
+                if (contentType == null) {
+                    saveEntry(job, existing, index, name, ImportStatus.SKIPPED, null,
+                        isMetadataEntry(name) ? "Archive metadata" : "Unsupported file type");
+                    continue;
+                }
+
+                byte[] content = zip.readNBytes(maxEntrySize + 1);
+                if (content.length > maxEntrySize) {
+                    saveEntry(job, existing, index, name, ImportStatus.FAILED, null,
+                        "File exceeds the maximum size of " + maxEntrySize + " bytes");
+                    continue;
+                }
+
+                inFlight.acquire();
+                int entryIndex = index;
+                try {
+                    workers.execute(() -> {
+                        try {
+                            importEntry(job, existing, entryIndex, name, contentType, content);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    if (workers.isShutdown()) {
+                        // Shutting down: the job stays PROCESSING, like an interrupted one
+                        throw new InterruptedException("Import workers shut down");
+                    }
+                    throw e;
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+        } finally {
+            // Wait for the entries still being processed
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        }
+    }
+
+    private void importEntry(ImportJob job, ImportJobEntry existing, int index, String name,
+                             String contentType, byte[] content) {
+        ImportJobEntry entry = existing != null
+            ? existing
+            : saveEntry(job, null, index, name, ImportStatus.PROCESSING, null, null);
+
+        try {
+            // An entry interrupted after its resume was created parses that resume again
+            Resume resume = entry.getResumeId() != null
+                ? resumeRepository.findById(entry.getResumeId()).orElse(null)
+                : null;
+            if (resume == null) {
+                resume = createResume(entry, name, contentType, content);
+                entry.setResumeId(resume.getId());
+            }
+
+            resumeIngestionService.parse(resume);
+            saveEntry(job, entry, index, name, ImportStatus.COMPLETED, resume.getId(), null);
+        } catch (Exception e) {
+            if (isShutdownInterruption(e)) {
+                // Left PROCESSING so the next start imports the entry again
+                log.warn("Import job {} entry {} interrupted, it will resume on next start", job.getId(), name);
+                return;
+            }
+            log.warn("Import job {} entry {} failed: {}", job.getId(), name, e.getMessage());
+            saveEntry(job, entry, index, name, ImportStatus.FAILED, entry.getResumeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Create the resume of an entry and record its id on the manifest row in one transaction,
+     * so a restart never finds a created resume its entry does not know about.
+     */
+    private Resume createResume(ImportJobEntry entry, String name, String contentType, byte[] content) {
+        return transaction.execute(status -> {
+            Resume resume;
+            try {
+                resume = resumeIngestionService.createResume(
+                    baseName(name), contentType, content.length, new ByteArrayInputStream(content));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+            ImportJobEntry current = importJobEntryRepository.findById(entry.getId())
+                .orElseThrow(() -> new IllegalStateException("Manifest entry " + entry.getId() + " not found"));
+            current.setResumeId(resume.getId());
+            return resume;
+        });
+    }
+
+    /**
+     * Whether an entry failed because the workers were stopped rather than because of the entry itself.
+     */
+    private boolean isShutdownInterruption(Exception e) {
+        if (Thread.currentThread().isInterrupted() || workers.isShutdown()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof InterruptedIOException
+                    || cause instanceof ClosedByInterruptException || cause instanceof CancellationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ImportJobEntry saveEntry(ImportJob job, ImportJobEntry entry, int index, String name,
+                                     ImportStatus status, String resumeId, String message) {
+        if (entry == null) {
+            entry = new ImportJobEntry();
+            entry.setJob(job);
+            entry.setEntryIndex(index);
+            entry.setEntryName(name);
+        }
+        entry.setStatus(status.name());
+        entry.setResumeId(resumeId);
+        entry.setMessage(message);
+        return importJobEntryRepository.save(entry);
+    }
+
+    private static int countFileEntries(Path archive) throws IOException {
+        int count = 0;
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(archive)))) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                if (!zipEntry.isDirectory()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private ImportJobDto toDto(ImportJob job) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : importJobEntryRepository.countByStatus(job.getId())) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return toDto(job, counts);
+    }
+
+    private static ImportJobDto toDto(ImportJob job, Map<String, Long> counts) {
+        long completed = counts.getOrDefault(ImportStatus.COMPLETED.name(), 0L);
+        long failed = counts.getOrDefault(ImportStatus.FAILED.name(), 0L);
+        long skipped = counts.getOrDefault(ImportStatus.SKIPPED.name(), 0L);
+
+        return new ImportJobDto(job.getId(), job.getFilename(), job.getStatus(), job.getTotalEntries(),
+            completed + failed + skipped, completed, failed, skipped, job.getMessage(),
+            job.getCreatedAt(), job.getStartedAt(), job.getCompletedAt());
+    }
+
+    private static String contentTypeFor(String name) {
+        if (isMetadataEntry(name)) {
+            return null;
+        }
+        String lower = name.toLowerCase(Locale.ROOT);
+        int dot = lower.lastIndexOf('.');
+        return dot >= 0 ? CONTENT_TYPES.get(lower.substring(dot)) : null;
+    }
+
+    // macOS resource forks and dot files that archivers add next to the real files
+    private static boolean isMetadataEntry(String name) {
+        return name.startsWith("__MACOSX/") || baseName(name).startsWith(".");
+    }
+
+    private static String baseName(String name) {
+        int slash = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+        return name.substring(slash + 1);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
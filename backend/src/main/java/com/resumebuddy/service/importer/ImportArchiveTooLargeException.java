@@ -0,0 +1,16 @@
+package com.resumebuddy.service.importer;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+@Getter
+public class ImportArchiveTooLargeException extends IOException {
+
+    private final long maxSize;
+
+    public ImportArchiveTooLargeException(long maxSize) {
+        super("Import archive exceeds the maximum size of " + maxSize + " bytes");
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,178 @@
+package com.resumebuddy.service.ledger;
+
+import com.resumebuddy.model.LlmCall;
+import com.resumebuddy.model.dto.LlmModelStatsDto;
+import com.resumebuddy.model.dto.LlmUsageReportDto;
+import com.resumebuddy.repository.LlmCallRepository;
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+
+/**
+ * Ledger of every LLM call: tokens, latency, finish reason and cache hits.
+ * Calls are queued in memory and inserted in batches by a scheduled flush, so recording
+ * never waits on the database. When the queue is full new rows are dropped and counted.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmCallLedger {
+
+    private final LlmCallRepository llmCallRepository;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Value("${app.llm-ledger.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.llm-ledger.batch-size:200}")
+    private int batchSize;
+
+    // Comma separated model=promptPrice:completionPrice, in USD per million tokens
+    @Value("${app.llm-ledger.pricing:}")
+    private String pricing;
+
+    private BlockingQueue<LlmCall> pending;
+    private final Map<String, double[]> pricesPerMillion = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        pending = new ArrayBlockingQueue<>(queueCapacity);
+        pipelineMetrics.registerLedgerQueue(pending);
+
+        for (String entry : pricing.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            try {
+                String[] modelAndPrices = entry.trim().split("=", 2);
+                String[] prices = modelAndPrices[1].split(":");
+                pricesPerMillion.put(modelAndPrices[0].trim(),
+                    new double[] {Double.parseDouble(prices[0]), Double.parseDouble(prices[1])});
+            } catch (RuntimeException e) {
+                log.warn("Ignoring invalid LLM price entry '{}', expected model=prompt:completion", entry);
+            }
+        }
+    }
+
+    /**
+     * Queue a call for writing. Never blocks.
+     */
+    public void record(LlmCall call) {
+        if (call.getCalledAt() == null) {
+            call.setCalledAt(LocalDateTime.now());
+        }
+        if (!pending.offer(call)) {
+            pipelineMetrics.countLedgerDrops(1);
+            log.warn("LLM call ledger queue full, dropping call for resume ID: {}", call.getResumeId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.llm-ledger.flush-interval-ms:2000}")
+    public void flush() {
+        List<LlmCall> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            try {
+                llmCallRepository.saveAll(batch);
+                log.debug("Wrote {} LLM call ledger rows", batch.size());
+            } catch (Exception e) {
+                // Usage data is not worth retrying against a failing database
+                pipelineMetrics.countLedgerDrops(batch.size());
+                log.error("Failed to write {} LLM call ledger rows", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    public List<LlmCall> getCallsForResume(String resumeId, int limit) {
+        return llmCallRepository.findByResumeIdOrderByCalledAtDesc(resumeId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Latency percentiles, token usage and estimated cost per model for calls in [from, to).
+     */
+    @Transactional(readOnly = true)
+    public LlmUsageReportDto getUsageReport(LocalDateTime from, LocalDateTime to) {
+        Map<String, LlmModelStatsDto> byModel = new HashMap<>();
+        List<LlmModelStatsDto> models = new ArrayList<>();
+        Map<String, Long> linesByModel = new HashMap<>();
+        for (Object[] row : llmCallRepository.summarizeByModel(from, to)) {
+            LlmModelStatsDto stats = new LlmModelStatsDto();
+            stats.setModel((String) row[0]);
+            stats.setCalls(((Number) row[1]).longValue());
+            stats.setCacheHits(((Number) row[2]).longValue());
+            stats.setErrors(((Number) row[3]).longValue());
+            stats.setPromptTokens(((Number) row[4]).longValue());
+            stats.setCompletionTokens(((Number) row[5]).longValue());
+            linesByModel.put(stats.getModel(), ((Number) row[6]).longValue());
+            byModel.put(stats.getModel(), stats);
+            models.add(stats);
+        }
+
+        // Rows arrive sorted by model then latency, one model's latencies are collected at a time
+        try (Stream<Object[]> rows = llmCallRepository.streamLatencies(from, to)) {
+            String[] currentModel = {null};
+            List<Long> latencies = new ArrayList<>();
+            rows.forEach(row -> {
+                String model = (String) row[0];
+                if (!Objects.equals(model, currentModel[0])) {
+                    applyPercentiles(byModel.get(currentModel[0]), latencies);
+                    latencies.clear();
+                    currentModel[0] = model;
+                }
+                latencies.add(((Number) row[1]).longValue());
+            });
+            applyPercentiles(byModel.get(currentModel[0]), latencies);
+        }
+
+        for (LlmModelStatsDto stats : models) {
+            long tokens = stats.getPromptTokens() + stats.getCompletionTokens();
+            long lines = linesByModel.get(stats.getModel());
+            stats.setTokensPerLine(lines > 0 ? (double) tokens / lines : null);
+
+            double[] prices = pricesPerMillion.get(stats.getModel());
+            if (prices != null) {
+                stats.setEstimatedCostUsd(
+                    (stats.getPromptTokens() * prices[0] + stats.getCompletionTokens() * prices[1]) / 1_000_000);
+            }
+        }
+
+        return new LlmUsageReportDto(from, to, models, pending.size());
+    }
+
+    private static void applyPercentiles(LlmModelStatsDto stats, List<Long> sortedLatencies) {
+        if (stats == null || sortedLatencies.isEmpty()) {
+            return;
+        }
+        stats.setP50LatencyMs(percentile(sortedLatencies, 50));
+        stats.setP95LatencyMs(percentile(sortedLatencies, 95));
+        stats.setP99LatencyMs(percentile(sortedLatencies, 99));
+    }
+
+    // Nearest-rank percentile of an ascending list
+    private static long percentile(List<Long> sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.resumebuddy.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Raises log levels for a single request, driven by the MDC key set by {@code LogEscalationFilter}.
+ * In "sql" mode (sampled requests) the SQL and bind loggers log everything; in "debug" mode
+ * (escalated requests) the escalated loggers additionally log at DEBUG. Requests without the
+ * key fall through to the configured levels, so the cost outside those requests is one MDC lookup.
+ */
+public class RequestLogTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "requestLogMode";
+    public static final String MODE_SQL = "sql";
+    public static final String MODE_DEBUG = "debug";
+
+    private final List<String> sqlLoggers = new ArrayList<>();
+    private final List<String> escalatedLoggers = new ArrayList<>();
+
+    public void addSqlLogger(String name) {
+        sqlLoggers.add(name);
+    }
+
+    public void addEscalatedLogger(String name) {
+        escalatedLoggers.add(name);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        String mode = MDC.get(MDC_KEY);
+        if (mode == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String name = logger.getName();
+        if (matches(sqlLoggers, name)) {
+            return FilterReply.ACCEPT;
+        }
+        if (MODE_DEBUG.equals(mode) && level.isGreaterOrEqual(Level.DEBUG) && matches(escalatedLoggers, name)) {
+            return FilterReply.ACCEPT;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private static boolean matches(List<String> prefixes, String name) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)
+                && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,420 @@
+package com.resumebuddy.service.matching;
+
+import com.resumebuddy.model.ResumeAnalysis;
+import com.resumebuddy.model.ResumeAnalysisExperience;
+import com.resumebuddy.model.ResumeAnalysisProject;
+import com.resumebuddy.model.ResumeAnalysisSkill;
+import com.resumebuddy.model.dto.JobMatchResultDto;
+import com.resumebuddy.repository.ResumeAnalysisExperienceRepository;
+import com.resumebuddy.repository.ResumeAnalysisProjectRepository;
+import com.resumebuddy.repository.ResumeAnalysisRepository;
+import com.resumebuddy.repository.ResumeAnalysisSkillRepository;
+import com.resumebuddy.service.event.ResumeAnalysisChangedEvent;
+import com.resumebuddy.service.event.ResumeDeletedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Ranks analyzed resumes against a job description without calling the LLM.
+ * Each resume is cached as BM25 term vectors over its skills, experience and project
+ * technologies; vectors are rebuilt from {@link ResumeAnalysisChangedEvent}s after each
+ * analysis commit. Queries score the whole corpus on a fork-join pool and keep only the
+ * top k candidates per task.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobMatchService {
+
+    private static final int FIELDS = MatchField.values().length;
+    private static final int SKILLS = MatchField.SKILLS.ordinal();
+    private static final int EXPERIENCE = MatchField.EXPERIENCE.ordinal();
+    private static final int PROJECTS = MatchField.PROJECTS.ordinal();
+    private static final int MAX_MATCHED_TERMS = 20;
+
+    private final ResumeAnalysisRepository resumeAnalysisRepository;
+    private final ResumeAnalysisSkillRepository resumeAnalysisSkillRepository;
+    private final ResumeAnalysisExperienceRepository resumeAnalysisExperienceRepository;
+    private final ResumeAnalysisProjectRepository resumeAnalysisProjectRepository;
+
+    @Value("${app.matching.parallelism:0}")
+    private int parallelism;
+
+    // Resumes scored sequentially by one fork-join leaf
+    @Value("${app.matching.leaf-size:1024}")
+    private int leafSize;
+
+    @Value("${app.matching.k1:1.2}")
+    private double k1;
+
+    @Value("${app.matching.b:0.75}")
+    private double b;
+
+    @Value("${app.matching.skills-weight:0.5}")
+    private double skillsWeight;
+
+    @Value("${app.matching.experience-weight:0.35}")
+    private double experienceWeight;
+
+    @Value("${app.matching.projects-weight:0.15}")
+    private double projectsWeight;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Term dictionary; ids are never reused so cached vectors stay valid
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int[][] documentFrequencies = new int[FIELDS][1024];
+    private final long[] totalFieldLengths = new long[FIELDS];
+
+    private final Map<String, ResumeFeatureVector> vectorsByResumeId = new HashMap<>();
+
+    // Array view of the vectors for scoring, dropped whenever the cache changes
+    private volatile ResumeFeatureVector[] corpus;
+
+    private ForkJoinPool pool;
+    private volatile boolean ready;
+
+    @PostConstruct
+    public void init() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        log.info("Job matching uses {} fork-join worker(s)", threads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildVectors() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            clear();
+
+            Map<String, VectorBuilder> builders = new HashMap<>();
+            try (Stream<Object[]> rows = resumeAnalysisRepository.streamAllHeaders()) {
+                rows.forEach(row -> builders.put((String) row[1],
+                    new VectorBuilder((String) row[1], (String) row[0], (String) row[2])));
+            }
+            try (Stream<Object[]> rows = resumeAnalysisSkillRepository.streamAllSkillPostings()) {
+                rows.forEach(row -> {
+                    VectorBuilder builder = builders.get((String) row[1]);
+                    if (builder != null) {
+                        builder.addPhrase(SKILLS, (String) row[2]);
+                    }
+                });
+            }
+            try (Stream<Object[]> rows = resumeAnalysisExperienceRepository.streamAllForMatching()) {
+                rows.forEach(row -> {
+                    VectorBuilder builder = builders.get((String) row[1]);
+                    if (builder != null) {
+                        builder.addText(EXPERIENCE, (String) row[2]);
+                        builder.addText(EXPERIENCE, (String) row[3]);
+                    }
+                });
+            }
+            try (Stream<Object[]> rows = resumeAnalysisProjectRepository.streamAllForMatching()) {
+                rows.forEach(row -> {
+                    VectorBuilder builder = builders.get((String) row[1]);
+                    if (builder != null) {
+                        builder.addList(PROJECTS, (String) row[2]);
+                    }
+                });
+            }
+
+            builders.values().forEach(builder -> put(builder.build()));
+
+            ready = true;
+            log.info("Built job match vectors: {} resumes, {} terms in {} ms",
+                vectorsByResumeId.size(), termIds.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalysisChanged(ResumeAnalysisChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            ResumeAnalysis analysis = event.getAnalysis();
+            VectorBuilder builder = new VectorBuilder(event.getResumeId(), analysis.getId(), analysis.getName());
+            for (ResumeAnalysisSkill skill : analysis.getSkills()) {
+                builder.addPhrase(SKILLS, skill.getSkillName());
+            }
+            for (ResumeAnalysisExperience experience : analysis.getExperiences()) {
+                builder.addText(EXPERIENCE, experience.getJobTitle());
+                builder.addText(EXPERIENCE, experience.getDescription());
+            }
+            for (ResumeAnalysisProject project : analysis.getProjects()) {
+                builder.addList(PROJECTS, project.getTechnologiesUsed());
+            }
+            put(builder.build());
+            log.debug("Rebuilt job match vector for resume ID: {}", event.getResumeId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeDeleted(ResumeDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getResumeId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public JobMatchResultDto match(String jobDescription, int limit) {
+        long start = System.nanoTime();
+
+        MatchQuery query;
+        ResumeFeatureVector[] snapshot;
+        lock.readLock().lock();
+        try {
+            query = compile(jobDescription);
+            snapshot = corpusSnapshot();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Vectors and the compiled query are immutable, so scoring runs without the lock
+        List<TopKScoringTask.Candidate> ranked = new ArrayList<>();
+        if (query.size() > 0 && snapshot.length > 0) {
+            PriorityQueue<TopKScoringTask.Candidate> heap =
+                pool.invoke(new TopKScoringTask(snapshot, 0, snapshot.length, query, limit, Math.max(1, leafSize)));
+            ranked.addAll(heap);
+            ranked.sort(TopKScoringTask.BY_SCORE.reversed());
+        }
+
+        List<JobMatchResultDto.Match> results = new ArrayList<>(ranked.size());
+        for (TopKScoringTask.Candidate candidate : ranked) {
+            ResumeFeatureVector vector = candidate.vector();
+            results.add(new JobMatchResultDto.Match(
+                vector.getResumeId(),
+                vector.getAnalysisId(),
+                vector.getName(),
+                candidate.score(),
+                skillsWeight * query.fieldScore(vector, SKILLS),
+                experienceWeight * query.fieldScore(vector, EXPERIENCE),
+                projectsWeight * query.fieldScore(vector, PROJECTS),
+                query.matchedTerms(vector, MAX_MATCHED_TERMS)
+            ));
+        }
+
+        JobMatchResultDto result = new JobMatchResultDto();
+        result.setCandidates(snapshot.length);
+        result.setQueryTerms(query.size());
+        result.setLimit(limit);
+        result.setTookMs((System.nanoTime() - start) / 1_000_000.0);
+        result.setResults(results);
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ready", ready);
+            stats.put("resumes", vectorsByResumeId.size());
+            stats.put("terms", termIds.size());
+            stats.put("parallelism", pool.getParallelism());
+            for (MatchField field : MatchField.values()) {
+                stats.put("averageLength." + field.name().toLowerCase(), averageFieldLength(field.ordinal()));
+            }
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolve job description terms against the dictionary and precompute their BM25 idf.
+     * Terms no resume contains are dropped since they cannot affect ranking.
+     * Must hold the read lock.
+     */
+    private MatchQuery compile(String jobDescription) {
+        // Repeated terms count, but sub-linearly, so keyword stuffing does not dominate
+        Map<Integer, Integer> queryCounts = new TreeMap<>();
+        Map<Integer, String> termById = new HashMap<>();
+        for (String token : MatchTokenizer.tokenizeWithBigrams(jobDescription)) {
+            Integer id = termIds.get(token);
+            if (id != null) {
+                queryCounts.merge(id, 1, Integer::sum);
+                termById.putIfAbsent(id, token);
+            }
+        }
+
+        int size = queryCounts.size();
+        String[] terms = new String[size];
+        int[] ids = new int[size];
+        double[][] weights = new double[FIELDS][size];
+        double documents = vectorsByResumeId.size();
+
+        int j = 0;
+        for (Map.Entry<Integer, Integer> entry : queryCounts.entrySet()) {
+            int id = entry.getKey();
+            ids[j] = id;
+            terms[j] = termById.get(id);
+            double queryWeight = 1 + Math.log(entry.getValue());
+            for (int field = 0; field < FIELDS; field++) {
+                int df = documentFrequencies[field][id];
+                weights[field][j] = df == 0 ? 0 : queryWeight * Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+            }
+            j++;
+        }
+
+        double[] averageLengths = new double[FIELDS];
+        for (int field = 0; field < FIELDS; field++) {
+            averageLengths[field] = Math.max(1, averageFieldLength(field));
+        }
+        double[] fieldWeights = new double[FIELDS];
+        fieldWeights[SKILLS] = skillsWeight;
+        fieldWeights[EXPERIENCE] = experienceWeight;
+        fieldWeights[PROJECTS] = projectsWeight;
+
+        return new MatchQuery(terms, ids, weights, averageLengths, fieldWeights, k1, b);
+    }
+
+    private ResumeFeatureVector[] corpusSnapshot() {
+        ResumeFeatureVector[] snapshot = corpus;
+        if (snapshot == null) {
+            // Concurrent readers may both rebuild; the result is identical either way
+            snapshot = vectorsByResumeId.values().toArray(new ResumeFeatureVector[0]);
+            corpus = snapshot;
+        }
+        return snapshot;
+    }
+
+    private double averageFieldLength(int field) {
+        return vectorsByResumeId.isEmpty() ? 0 : (double) totalFieldLengths[field] / vectorsByResumeId.size();
+    }
+
+    private void put(ResumeFeatureVector vector) {
+        remove(vector.getResumeId());
+        vectorsByResumeId.put(vector.getResumeId(), vector);
+        updateStatistics(vector, 1);
+        corpus = null;
+    }
+
+    private void remove(String resumeId) {
+        ResumeFeatureVector previous = vectorsByResumeId.remove(resumeId);
+        if (previous != null) {
+            updateStatistics(previous, -1);
+            corpus = null;
+        }
+    }
+
+    private void updateStatistics(ResumeFeatureVector vector, int delta) {
+        for (int field = 0; field < FIELDS; field++) {
+            for (int id : vector.getTermIds()[field]) {
+                documentFrequencies[field][id] += delta;
+            }
+            totalFieldLengths[field] += (long) delta * vector.getFieldLengths()[field];
+        }
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id == null) {
+            id = termIds.size();
+            termIds.put(term, id);
+            if (id >= documentFrequencies[0].length) {
+                int capacity = documentFrequencies[0].length * 2;
+                for (int field = 0; field < FIELDS; field++) {
+                    documentFrequencies[field] = Arrays.copyOf(documentFrequencies[field], capacity);
+                }
+            }
+        }
+        return id;
+    }
+
+    private void clear() {
+        termIds.clear();
+        documentFrequencies = new int[FIELDS][1024];
+        Arrays.fill(totalFieldLengths, 0);
+        vectorsByResumeId.clear();
+        corpus = null;
+    }
+
+    /**
+     * Accumulates term counts per field for one resume. Must be used under the write lock
+     * since it assigns term ids.
+     */
+    private final class VectorBuilder {
+
+        private final String resumeId;
+        private final String analysisId;
+        private final String name;
+        @SuppressWarnings("unchecked")
+        private final Map<Integer, Integer>[] counts = new Map[FIELDS];
+
+        VectorBuilder(String resumeId, String analysisId, String name) {
+            this.resumeId = resumeId;
+            this.analysisId = analysisId;
+            this.name = name;
+            for (int field = 0; field < FIELDS; field++) {
+                counts[field] = new HashMap<>();
+            }
+        }
+
+        void addText(int field, String text) {
+            for (String token : MatchTokenizer.tokenize(text)) {
+                counts[field].merge(termId(token), 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Index a multi-word value such as "Spring Boot" as its words and as the whole phrase,
+         * so a bigram in the job description scores higher than the two words apart.
+         */
+        void addPhrase(int field, String phrase) {
+            List<String> tokens = MatchTokenizer.tokenize(phrase);
+            for (String token : tokens) {
+                counts[field].merge(termId(token), 1, Integer::sum);
+            }
+            if (tokens.size() == 2) {
+                counts[field].merge(termId(tokens.get(0) + " " + tokens.get(1)), 1, Integer::sum);
+            }
+        }
+
+        // Comma separated values such as "Java, Spring Boot, Kafka"
+        void addList(int field, String values) {
+            if (values == null) {
+                return;
+            }
+            for (String value : values.split("[,;/|]")) {
+                addPhrase(field, value);
+            }
+        }
+
+        ResumeFeatureVector build() {
+            return new ResumeFeatureVector(resumeId, analysisId, name, counts);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.resumebuddy.service.matching;
+
+/**
+ * Resume sections that contribute to a job match score.
+ */
+public enum MatchField {
+    SKILLS,
+    EXPERIENCE,
+    PROJECTS
+}
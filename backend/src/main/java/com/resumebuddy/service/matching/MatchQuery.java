@@ -0,0 +1,106 @@
+package com.resumebuddy.service.matching;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A job description compiled against the current term dictionary: sorted term ids with
+ * per-field BM25 idf weights and field length norms. Immutable, so it can be shared by
+ * all fork-join workers without locking.
+ */
+final class MatchQuery {
+
+    private static final int FIELDS = MatchField.values().length;
+
+    private final String[] terms;
+    private final int[] termIds;
+    // idf x query term weight, per field and term
+    private final double[][] termWeights;
+    private final double[] averageFieldLengths;
+    private final double[] fieldWeights;
+    private final double k1;
+    private final double b;
+
+    MatchQuery(String[] terms, int[] termIds, double[][] termWeights, double[] averageFieldLengths,
+               double[] fieldWeights, double k1, double b) {
+        this.terms = terms;
+        this.termIds = termIds;
+        this.termWeights = termWeights;
+        this.averageFieldLengths = averageFieldLengths;
+        this.fieldWeights = fieldWeights;
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    int size() {
+        return termIds.length;
+    }
+
+    double score(ResumeFeatureVector vector) {
+        double score = 0;
+        for (int field = 0; field < FIELDS; field++) {
+            if (fieldWeights[field] != 0) {
+                score += fieldWeights[field] * fieldScore(vector, field);
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Unweighted BM25 score of one field, merge-joining the sorted document and query term ids.
+     */
+    double fieldScore(ResumeFeatureVector vector, int field) {
+        int[] documentTerms = vector.getTermIds()[field];
+        int[] frequencies = vector.getTermFrequencies()[field];
+        if (documentTerms.length == 0) {
+            return 0;
+        }
+
+        double norm = k1 * (1 - b + b * vector.getFieldLengths()[field] / averageFieldLengths[field]);
+        double[] weights = termWeights[field];
+        double score = 0;
+        int i = 0;
+        int j = 0;
+        while (i < documentTerms.length && j < termIds.length) {
+            int documentTerm = documentTerms[i];
+            int queryTerm = termIds[j];
+            if (documentTerm < queryTerm) {
+                i++;
+            } else if (documentTerm > queryTerm) {
+                j++;
+            } else {
+                double tf = frequencies[i];
+                score += weights[j] * tf * (k1 + 1) / (tf + norm);
+                i++;
+                j++;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Query terms present in any field of the vector, highest weighted contribution first.
+     */
+    List<String> matchedTerms(ResumeFeatureVector vector, int max) {
+        List<double[]> matched = new ArrayList<>();
+        for (int j = 0; j < termIds.length; j++) {
+            double contribution = 0;
+            for (int field = 0; field < FIELDS; field++) {
+                if (vector.termFrequency(field, termIds[j]) > 0) {
+                    contribution += fieldWeights[field] * termWeights[field][j];
+                }
+            }
+            if (contribution > 0) {
+                matched.add(new double[] {j, contribution});
+            }
+        }
+        matched.sort(Comparator.comparingDouble((double[] entry) -> entry[1]).reversed());
+
+        List<String> result = new ArrayList<>(Math.min(max, matched.size()));
+        for (int k = 0; k < matched.size() && k < max; k++) {
+            result.add(terms[(int) matched.get(k)[0]]);
+        }
+        return result;
+    }
+}
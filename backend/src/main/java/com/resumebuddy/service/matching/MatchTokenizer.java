@@ -0,0 +1,86 @@
+package com.resumebuddy.service.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lower-cases and splits text into matching terms. Keeps tech tokens such as
+ * {@code c++}, {@code c#} and {@code node.js} intact and drops common stopwords.
+ */
+public final class MatchTokenizer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+        "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will", "with", "you",
+        "your", "who", "what", "etc", "e.g", "i.e"
+    );
+
+    private MatchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !isTokenStart(lower.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && isTokenPart(lower.charAt(i))) {
+                i++;
+            }
+            if (start < i) {
+                String token = trimPunctuation(lower.substring(start, i));
+                if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                    tokens.add(token);
+                }
+            }
+            if (i == start) {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Unigrams plus adjacent bigrams, so multi-word skills like "spring boot" can match as a phrase.
+     */
+    public static List<String> tokenizeWithBigrams(String text) {
+        List<String> unigrams = tokenize(text);
+        List<String> tokens = new ArrayList<>(unigrams.size() * 2);
+        tokens.addAll(unigrams);
+        for (int i = 0; i + 1 < unigrams.size(); i++) {
+            tokens.add(unigrams.get(i) + " " + unigrams.get(i + 1));
+        }
+        return tokens;
+    }
+
+    private static boolean isTokenStart(char c) {
+        return Character.isLetterOrDigit(c) || c == '.' || c == '#';
+    }
+
+    private static boolean isTokenPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.';
+    }
+
+    private static String trimPunctuation(String token) {
+        int end = token.length();
+        while (end > 0 && token.charAt(end - 1) == '.') {
+            end--;
+        }
+        int start = 0;
+        // Keep a leading dot for ".net"
+        while (start < end - 1 && token.charAt(start) == '.' && !Character.isLetter(token.charAt(start + 1))) {
+            start++;
+        }
+        return token.substring(start, end);
+    }
+}
@@ -0,0 +1,51 @@
+package com.resumebuddy.service.matching;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable sparse term-frequency vectors for one analyzed resume, one per {@link MatchField}.
+ * Term ids are sorted so scoring can merge-join them against the query terms.
+ */
+@Getter
+public final class ResumeFeatureVector {
+
+    private final String resumeId;
+    private final String analysisId;
+    private final String name;
+    private final int[][] termIds;
+    private final int[][] termFrequencies;
+    private final int[] fieldLengths;
+
+    ResumeFeatureVector(String resumeId, String analysisId, String name, Map<Integer, Integer>[] countsByField) {
+        this.resumeId = resumeId;
+        this.analysisId = analysisId;
+        this.name = name;
+
+        int fields = MatchField.values().length;
+        this.termIds = new int[fields][];
+        this.termFrequencies = new int[fields][];
+        this.fieldLengths = new int[fields];
+
+        for (int field = 0; field < fields; field++) {
+            Map<Integer, Integer> counts = countsByField[field];
+            int[] ids = counts.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int[] frequencies = new int[ids.length];
+            int length = 0;
+            for (int i = 0; i < ids.length; i++) {
+                frequencies[i] = counts.get(ids[i]);
+                length += frequencies[i];
+            }
+            termIds[field] = ids;
+            termFrequencies[field] = frequencies;
+            fieldLengths[field] = length;
+        }
+    }
+
+    int termFrequency(int field, int termId) {
+        int index = Arrays.binarySearch(termIds[field], termId);
+        return index >= 0 ? termFrequencies[field][index] : 0;
+    }
+}
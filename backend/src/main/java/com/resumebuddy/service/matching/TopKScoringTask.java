@@ -0,0 +1,73 @@
+package com.resumebuddy.service.matching;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores a slice of the corpus, splitting in half until slices are small enough.
+ * Each leaf keeps a bounded min-heap of its best k candidates and parents merge
+ * the children's heaps, so memory stays O(k) per task regardless of corpus size.
+ */
+final class TopKScoringTask extends RecursiveTask<PriorityQueue<TopKScoringTask.Candidate>> {
+
+    record Candidate(ResumeFeatureVector vector, double score) {
+    }
+
+    static final Comparator<Candidate> BY_SCORE = Comparator.comparingDouble(Candidate::score);
+
+    private final ResumeFeatureVector[] corpus;
+    private final int from;
+    private final int to;
+    private final MatchQuery query;
+    private final int k;
+    private final int leafSize;
+
+    TopKScoringTask(ResumeFeatureVector[] corpus, int from, int to, MatchQuery query, int k, int leafSize) {
+        this.corpus = corpus;
+        this.from = from;
+        this.to = to;
+        this.query = query;
+        this.k = k;
+        this.leafSize = leafSize;
+    }
+
+    @Override
+    protected PriorityQueue<Candidate> compute() {
+        if (to - from <= leafSize) {
+            return scoreLeaf();
+        }
+
+        int middle = (from + to) >>> 1;
+        TopKScoringTask left = new TopKScoringTask(corpus, from, middle, query, k, leafSize);
+        TopKScoringTask right = new TopKScoringTask(corpus, middle, to, query, k, leafSize);
+        left.fork();
+        PriorityQueue<Candidate> heap = right.compute();
+        for (Candidate candidate : left.join()) {
+            offer(heap, candidate);
+        }
+        return heap;
+    }
+
+    private PriorityQueue<Candidate> scoreLeaf() {
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(k + 1, BY_SCORE);
+        for (int i = from; i < to; i++) {
+            ResumeFeatureVector vector = corpus[i];
+            double score = query.score(vector);
+            // Skip allocation for candidates that cannot enter a full heap
+            if (score > 0 && (heap.size() < k || score > heap.peek().score())) {
+                offer(heap, new Candidate(vector, score));
+            }
+        }
+        return heap;
+    }
+
+    private void offer(PriorityQueue<Candidate> heap, Candidate candidate) {
+        if (heap.size() < k) {
+            heap.add(candidate);
+        } else if (candidate.score() > heap.peek().score()) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.resumebuddy.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Timers and counters for the parse and analysis pipeline, with a shared tag vocabulary:
+ * size (small/medium/large/xlarge), model and outcome. Controller endpoints and repository
+ * calls are timed by Spring Boot as http.server.requests and spring.data.repository.invocations.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_HTTP_ERROR = "http_error";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_UNAVAILABLE = "unavailable";
+    public static final String OUTCOME_TRUNCATED = "truncated";
+    public static final String OUTCOME_INVALID_JSON = "invalid_json";
+    public static final String OUTCOME_CANCELLED = "cancelled";  // Caller went away before the response
+
+    private final MeterRegistry registry;
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * One HTTP request to a Docling instance; operation is "parse" or "parse-url".
+     */
+    public void recordDoclingRequest(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("resumebuddy.docling.requests")
+            .description("Docling HTTP requests")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(registry));
+    }
+
+    /**
+     * Turning an uploaded file into text, by whichever parser handled it.
+     */
+    public void recordDocumentParse(Timer.Sample sample, String parser, long fileSize, String outcome) {
+        sample.stop(Timer.builder("resumebuddy.document.parse")
+            .description("Document parsing by parser")
+            .tag("parser", parser)
+            .tag("size", sizeBucketForBytes(fileSize))
+            .tag("outcome", outcome)
+            .register(registry));
+    }
+
+    public void recordPromptBuild(Timer.Sample sample, int lineCount) {
+        sample.stop(Timer.builder("resumebuddy.llm.prompt.build")
+            .description("Analysis prompt construction")
+            .tag("size", sizeBucketForLines(lineCount))
+            .register(registry));
+    }
+
+    /**
+     * @return the measured duration in nanoseconds, so callers can reuse it
+     */
+    public long recordLlmRequest(Timer.Sample sample, String model, int lineCount, String outcome) {
+        return sample.stop(Timer.builder("resumebuddy.llm.requests")
+            .description("Chat completion requests")
+            .tag("model", model)
+            .tag("size", sizeBucketForLines(lineCount))
+            .tag("outcome", outcome)
+            .register(registry));
+    }
+
+    public void recordResponseParse(Timer.Sample sample, String model, int lineCount, String outcome) {
+        sample.stop(Timer.builder("resumebuddy.llm.response.parse")
+            .description("Parsing of chat completion responses")
+            .tag("model", model)
+            .tag("size", sizeBucketForLines(lineCount))
+            .tag("outcome", outcome)
+            .register(registry));
+    }
+
+    public void countTokens(String model, long promptTokens, long completionTokens) {
+        tokenCounter(model, "prompt").increment(promptTokens);
+        tokenCounter(model, "completion").increment(completionTokens);
+    }
+
+    /**
+     * A completion cut off by max_tokens (finish_reason=length).
+     */
+    public void countTruncation(String model) {
+        Counter.builder("resumebuddy.llm.truncations")
+            .description("Completions stopped by the max_tokens limit")
+            .tag("model", model)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * A response that could not be parsed, so the analysis fell back to an empty result.
+     */
+    public void countFallbackParse(String model, String reason) {
+        Counter.builder("resumebuddy.llm.fallback.parses")
+            .description("LLM responses that fell back to an empty analysis")
+            .tag("model", model)
+            .tag("reason", reason)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Ledger rows waiting for the next batched write.
+     */
+    public void registerLedgerQueue(Collection<?> queue) {
+        Gauge.builder("resumebuddy.llm.ledger.pending", queue, Collection::size)
+            .description("LLM call ledger rows not yet written")
+            .register(registry);
+    }
+
+    /**
+     * Ledger rows discarded because the write queue was full or the batch insert failed.
+     */
+    public void countLedgerDrops(int rows) {
+        Counter.builder("resumebuddy.llm.ledger.dropped")
+            .description("LLM call ledger rows that were never written")
+            .register(registry)
+            .increment(rows);
+    }
+
+    /**
+     * SQL statements prepared while handling one API request, by endpoint pattern.
+     */
+    public void recordRequestStatements(String method, String uri, long statements) {
+        DistributionSummary.builder("resumebuddy.db.statements.request")
+            .description("SQL statements per API request")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(registry)
+            .record(statements);
+    }
+
+    /**
+     * SQL statements prepared by one call of a method with a statement budget, queries and
+     * batched writes recorded under their own kind tag.
+     */
+    public void recordBudgetedStatements(String method, long queries, long writes, boolean exceeded) {
+        String outcome = exceeded ? "over_budget" : "within_budget";
+        budgetedStatements(method, "query", outcome).record(queries);
+        budgetedStatements(method, "write", outcome).record(writes);
+    }
+
+    private DistributionSummary budgetedStatements(String method, String kind, String outcome) {
+        return DistributionSummary.builder("resumebuddy.db.statements.budgeted")
+            .description("SQL statements per call of budgeted methods; queries are budgeted, batched writes are not")
+            .tag("method", method)
+            .tag("kind", kind)
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    /**
+     * A statement repeated often enough within one request to suggest an N+1 lazy load.
+     */
+    public void countRepeatedStatement(String method, String uri) {
+        Counter.builder("resumebuddy.db.statements.repeated")
+            .description("Statements repeated within a request past the N+1 threshold")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(registry)
+            .increment();
+    }
+
+    public static String sizeBucketForLines(int lineCount) {
+        if (lineCount < 40) {
+            return "small";
+        }
+        if (lineCount < 80) {
+            return "medium";
+        }
+        return lineCount < 160 ? "large" : "xlarge";
+    }
+
+    public static String sizeBucketForBytes(long bytes) {
+        if (bytes < 64 * 1024) {
+            return "small";
+        }
+        if (bytes < 256 * 1024) {
+            return "medium";
+        }
+        return bytes < 1024 * 1024 ? "large" : "xlarge";
+    }
+
+    private Counter tokenCounter(String model, String type) {
+        return Counter.builder("resumebuddy.llm.tokens")
+            .description("Tokens reported in chat completion usage")
+            .tag("model", model)
+            .tag("type", type)
+            .register(registry);
+    }
+}
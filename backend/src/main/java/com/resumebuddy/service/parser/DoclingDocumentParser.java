@@ -0,0 +1,48 @@
+package com.resumebuddy.service.parser;
+
+import com.resumebuddy.model.dto.ParsedResume;
+import com.resumebuddy.service.DoclingHttpService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fallback parser delegating to the Docling service, used for PDF, DOCX and anything
+ * the in-JVM parsers do not handle.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DoclingDocumentParser implements DocumentParser {
+
+    private final DoclingHttpService doclingHttpService;
+
+    // Base URL Docling uses to fetch the stored file back from this API
+    @Value("${app.docling.callback-base-url:http://localhost:8080}")
+    private String callbackBaseUrl;
+
+    @Override
+    public String getName() {
+        return "docling";
+    }
+
+    @Override
+    public boolean supports(String contentType, byte[] header) {
+        return true;
+    }
+
+    @Override
+    public ParsedResume parse(DocumentSource source) {
+        return parseAsync(source).block();
+    }
+
+    @Override
+    public Mono<ParsedResume> parseAsync(DocumentSource source) {
+        // Create file URL for Docling service to fetch
+        String fileUrl = callbackBaseUrl + "/api/resumes/" + source.getResumeId() + "/file";
+        return doclingHttpService.parseResumeFromUrl(fileUrl, source.getResumeId());
+    }
+}
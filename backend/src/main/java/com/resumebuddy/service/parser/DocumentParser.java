@@ -0,0 +1,35 @@
+package com.resumebuddy.service.parser;
+
+import com.resumebuddy.model.dto.ParsedResume;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Extracts text from an uploaded resume file.
+ * Implementations are Spring beans ordered with {@link org.springframework.core.annotation.Order};
+ * the first parser that supports a document wins, so cheap in-JVM parsers should
+ * run before the Docling fallback.
+ */
+public interface DocumentParser {
+
+    /**
+     * Name used in logs and parse metadata.
+     */
+    String getName();
+
+    /**
+     * @param contentType content type declared at upload time, may be null
+     * @param header      first bytes of the stored file, used to sniff the real format
+     */
+    boolean supports(String contentType, byte[] header);
+
+    ParsedResume parse(DocumentSource source) throws Exception;
+
+    /**
+     * Parse without blocking the caller. In-JVM parsers run {@link #parse} on a worker thread;
+     * parsers that call out over the network override this to wait on the response without a thread.
+     */
+    default Mono<ParsedResume> parseAsync(DocumentSource source) {
+        return Mono.fromCallable(() -> parse(source)).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,80 @@
+package com.resumebuddy.service.parser;
+
+import com.resumebuddy.model.Resume;
+import com.resumebuddy.model.dto.ParsedResume;
+import com.resumebuddy.service.FileStorageService;
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import com.resumebuddy.service.tracing.PipelineTracing;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Picks a {@link DocumentParser} by declared content type and sniffed magic bytes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentParserRegistry {
+
+    // Injected in @Order order, Docling fallback last
+    private final List<DocumentParser> parsers;
+    private final FileStorageService fileStorageService;
+    private final PipelineMetrics pipelineMetrics;
+    private final PipelineTracing pipelineTracing;
+
+    /**
+     * Parse with the selected parser. Picking the parser reads the file header, so subscribe
+     * on a thread that may block.
+     */
+    public Mono<ParsedResume> parseAsync(Resume resume) {
+        return Mono.defer(() -> {
+            DocumentSource source = new DocumentSource(
+                resume.getId(),
+                resume.getFilename(),
+                resume.getContentType(),
+                resume.getFilePath()
+            );
+
+            DocumentParser parser;
+            try {
+                parser = selectParser(source);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            long fileSize = resume.getFileSize() != null ? resume.getFileSize() : 0;
+            Timer.Sample sample = pipelineMetrics.start();
+            long start = System.nanoTime();
+            return pipelineTracing.inSpanAsync("document.parse", span -> {
+                    span.tag(PipelineTracing.TAG_RESUME_ID, source.getResumeId());
+                    span.tag("document.parser", parser.getName());
+                    return parser.parseAsync(source);
+                })
+                .doOnSuccess(parsedResume -> {
+                    pipelineMetrics.recordDocumentParse(sample, parser.getName(), fileSize, PipelineMetrics.OUTCOME_SUCCESS);
+                    log.info("Parsed resume {} with {} parser in {} us",
+                        resume.getId(), parser.getName(), (System.nanoTime() - start) / 1_000);
+                })
+                .doOnError(e -> pipelineMetrics.recordDocumentParse(
+                    sample, parser.getName(), fileSize, PipelineMetrics.OUTCOME_ERROR))
+                .doOnCancel(() -> pipelineMetrics.recordDocumentParse(
+                    sample, parser.getName(), fileSize, PipelineMetrics.OUTCOME_CANCELLED));
+        });
+    }
+
+    DocumentParser selectParser(DocumentSource source) throws IOException {
+        byte[] header = fileStorageService.readHeader(source.getFilePath(), DocumentSniffer.HEADER_LENGTH);
+
+        for (DocumentParser parser : parsers) {
+            if (parser.supports(source.getContentType(), header)) {
+                return parser;
+            }
+        }
+        throw new IllegalStateException("No document parser available for content type: " + source.getContentType());
+    }
+}
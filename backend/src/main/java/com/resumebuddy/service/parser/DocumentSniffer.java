@@ -0,0 +1,68 @@
+package com.resumebuddy.service.parser;
+
+/**
+ * Magic byte checks used to pick a parser independently of the declared content type.
+ */
+public final class DocumentSniffer {
+
+    public static final int HEADER_LENGTH = 512;
+
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F'};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 0x03, 0x04};
+
+    private DocumentSniffer() {
+    }
+
+    public static boolean isPdf(byte[] header) {
+        return startsWith(header, PDF_MAGIC);
+    }
+
+    /**
+     * DOCX files are ZIP containers.
+     */
+    public static boolean isZip(byte[] header) {
+        return startsWith(header, ZIP_MAGIC);
+    }
+
+    /**
+     * True when the header is free of binary markers. UTF-16 is recognised by its BOM,
+     * anything else containing NUL or non-whitespace control characters is treated as binary.
+     */
+    public static boolean looksLikeText(byte[] header) {
+        if (isPdf(header) || isZip(header)) {
+            return false;
+        }
+        if (hasUtf16Bom(header)) {
+            return true;
+        }
+        for (byte b : header) {
+            int c = b & 0xFF;
+            if (c == 0 || (c < 0x20 && c != '\n' && c != '\r' && c != '\t' && c != '\f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean hasUtf8Bom(byte[] bytes) {
+        return bytes.length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF;
+    }
+
+    static boolean hasUtf16Bom(byte[] bytes) {
+        return bytes.length >= 2
+            && (((bytes[0] & 0xFF) == 0xFE && (bytes[1] & 0xFF) == 0xFF)
+                || ((bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xFE));
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.resumebuddy.service.parser;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stored resume file handed to a {@link DocumentParser}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DocumentSource {
+    private final String resumeId;
+    private final String filename;
+    private final String contentType;
+    private final String filePath;
+}
@@ -0,0 +1,111 @@
+package com.resumebuddy.service.parser;
+
+import com.resumebuddy.model.dto.ParsedResume;
+import com.resumebuddy.service.FileStorageService;
+import com.resumebuddy.service.LinePreSegmenter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * In-JVM extractor for markdown uploads.
+ * Strips inline markup so the text matches what Docling would return for the same document.
+ */
+@Slf4j
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class MarkdownDocumentParser implements DocumentParser {
+
+    private static final Set<String> MARKDOWN_TYPES = Set.of("text/markdown", "text/x-markdown");
+
+    private static final Pattern HEADING = Pattern.compile("^\\s{0,3}#{1,6}\\s+");
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]+)]\\(([^)]*)\\)");
+    private static final Pattern EMPHASIS = Pattern.compile("(\\*\\*|\\*|~~|`)(\\S(?:.*?\\S)?)\\1");
+    // As in CommonMark, underscores only delimit emphasis at word boundaries, so snake_case and emails are kept
+    private static final Pattern UNDERSCORE_EMPHASIS = Pattern.compile("(?<![\\p{L}\\p{N}_])(__|_)(\\S(?:.*?\\S)?)\\1(?![\\p{L}\\p{N}_])");
+    private static final Pattern HORIZONTAL_RULE = Pattern.compile("^\\s{0,3}([-*_])(\\s*\\1){2,}\\s*$");
+    private static final Pattern BULLET = Pattern.compile("^(\\s*)[*+]\\s+");
+
+    private final FileStorageService fileStorageService;
+
+    @Override
+    public String getName() {
+        return "markdown";
+    }
+
+    @Override
+    public boolean supports(String contentType, byte[] header) {
+        return contentType != null && MARKDOWN_TYPES.contains(contentType) && DocumentSniffer.looksLikeText(header);
+    }
+
+    @Override
+    public ParsedResume parse(DocumentSource source) throws Exception {
+        byte[] bytes = fileStorageService.loadFileAsBytes(source.getFilePath());
+
+        ParsedResume parsedResume = new ParsedResume();
+        parsedResume.setId(source.getResumeId());
+        parsedResume.setFilename(source.getFilename());
+        parsedResume.setContentType(source.getContentType());
+        parsedResume.setCreatedAt(LocalDateTime.now());
+        parsedResume.setUpdatedAt(LocalDateTime.now());
+        Map<String, String> layoutLabels = new HashMap<>();
+        parsedResume.setOriginalText(toPlainText(PlainTextDocumentParser.decode(bytes), layoutLabels));
+        parsedResume.setLayoutLabels(layoutLabels);
+
+        log.debug("Extracted {} bytes of markdown for resume {}", bytes.length, source.getResumeId());
+        return parsedResume;
+    }
+
+    static String toPlainText(String markdown) {
+        return toPlainText(markdown, new HashMap<>());
+    }
+
+    /**
+     * Same as {@link #toPlainText(String)}, also recording headings and list items the way
+     * Docling labels them so line pre-segmentation works for markdown uploads too.
+     */
+    static String toPlainText(String markdown, Map<String, String> layoutLabels) {
+        StringBuilder text = new StringBuilder(markdown.length());
+        boolean inCodeFence = false;
+
+        for (String line : markdown.split("\r?\n", -1)) {
+            if (line.stripLeading().startsWith("```")) {
+                inCodeFence = !inCodeFence;
+                continue;
+            }
+            if (!inCodeFence) {
+                if (HORIZONTAL_RULE.matcher(line).matches()) {
+                    continue;
+                }
+                boolean heading = HEADING.matcher(line).find();
+                boolean listItem = !heading && (BULLET.matcher(line).find() || line.stripLeading().startsWith("- "));
+                line = HEADING.matcher(line).replaceFirst("");
+                // Docling renders list items with a dash regardless of the source marker
+                line = BULLET.matcher(line).replaceFirst("$1- ");
+                line = IMAGE.matcher(line).replaceAll("$1");
+                line = LINK.matcher(line).replaceAll("$1 ($2)");
+                line = EMPHASIS.matcher(line).replaceAll("$2");
+                line = UNDERSCORE_EMPHASIS.matcher(line).replaceAll("$2");
+                if (heading || listItem) {
+                    layoutLabels.putIfAbsent(LinePreSegmenter.layoutKey(line), heading ? "section_header" : "list_item");
+                }
+            }
+            text.append(line).append('\n');
+        }
+
+        // Drop the trailing newline added after the last line
+        if (text.length() > 0) {
+            text.setLength(text.length() - 1);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.resumebuddy.service.parser;
+
+import com.resumebuddy.model.dto.ParsedResume;
+import com.resumebuddy.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * In-JVM extractor for plain text uploads, avoiding the Docling round trip.
+ */
+@Slf4j
+@Component
+@Order(10)
+@RequiredArgsConstructor
+public class PlainTextDocumentParser implements DocumentParser {
+
+    private final FileStorageService fileStorageService;
+
+    @Override
+    public String getName() {
+        return "plain-text";
+    }
+
+    @Override
+    public boolean supports(String contentType, byte[] header) {
+        return "text/plain".equals(contentType) && DocumentSniffer.looksLikeText(header);
+    }
+
+    @Override
+    public ParsedResume parse(DocumentSource source) throws Exception {
+        byte[] bytes = fileStorageService.loadFileAsBytes(source.getFilePath());
+
+        ParsedResume parsedResume = new ParsedResume();
+        parsedResume.setId(source.getResumeId());
+        parsedResume.setFilename(source.getFilename());
+        parsedResume.setContentType(source.getContentType());
+        parsedResume.setCreatedAt(LocalDateTime.now());
+        parsedResume.setUpdatedAt(LocalDateTime.now());
+        parsedResume.setOriginalText(decode(bytes));
+
+        log.debug("Extracted {} bytes of plain text for resume {}", bytes.length, source.getResumeId());
+        return parsedResume;
+    }
+
+    /**
+     * Decode honouring a UTF-8 or UTF-16 byte order mark, defaulting to UTF-8.
+     * Malformed sequences are replaced rather than failing the parse.
+     */
+    static String decode(byte[] bytes) {
+        if (DocumentSniffer.hasUtf8Bom(bytes)) {
+            return new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        }
+        if (DocumentSniffer.hasUtf16Bom(bytes)) {
+            return new String(bytes, StandardCharsets.UTF_16);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
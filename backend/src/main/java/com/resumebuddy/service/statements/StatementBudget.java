@@ -0,0 +1,22 @@
+package com.resumebuddy.service.statements;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL queries one call of the annotated method may prepare, including lazy
+ * loads. Inserts, updates and deletes are counted but not budgeted: they are written in JDBC
+ * batches, so a method that flushes per batch prepares more of them for longer resumes.
+ * Calls over budget are logged and counted, or rejected with {@link StatementBudgetExceededException}
+ * when app.statements.budget-mode is "fail". Only statements run on the calling thread are counted.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+}
@@ -0,0 +1,18 @@
+package com.resumebuddy.service.statements;
+
+import lombok.Getter;
+
+@Getter
+public class StatementBudgetExceededException extends RuntimeException {
+
+    private final String method;
+    private final int budget;
+    private final long statements;
+
+    public StatementBudgetExceededException(String method, int budget, long statements) {
+        super(method + " prepared " + statements + " SQL queries, budget is " + budget);
+        this.method = method;
+        this.budget = budget;
+        this.statements = statements;
+    }
+}
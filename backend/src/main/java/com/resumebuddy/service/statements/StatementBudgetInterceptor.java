@@ -0,0 +1,52 @@
+package com.resumebuddy.service.statements;
+
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Enforces {@link StatementBudget} on annotated methods. Ordered outside the transaction
+ * interceptor, so statements flushed at commit are counted; in fail mode the exception is
+ * therefore thrown after the call's transaction committed, which is why fail mode is meant
+ * for test runs only.
+ */
+@Slf4j
+public class StatementBudgetInterceptor implements MethodInterceptor {
+
+    // Resolved per call: advisors are created before the meter registry is fully configured
+    private final ObjectProvider<PipelineMetrics> pipelineMetrics;
+    private final boolean failOnExceeded;
+
+    public StatementBudgetInterceptor(ObjectProvider<PipelineMetrics> pipelineMetrics, boolean failOnExceeded) {
+        this.pipelineMetrics = pipelineMetrics;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        StatementBudget budget = invocation.getMethod().getAnnotation(StatementBudget.class);
+        if (budget == null) {
+            return invocation.proceed();
+        }
+
+        long start = StatementCounter.current();
+        long startWrites = StatementCounter.currentWrites();
+        Object result = invocation.proceed();
+        long writes = StatementCounter.currentWrites() - startWrites;
+        long queries = StatementCounter.current() - start - writes;
+
+        String method = invocation.getMethod().getDeclaringClass().getSimpleName() + "." + invocation.getMethod().getName();
+        boolean exceeded = queries > budget.value();
+        pipelineMetrics.getObject().recordBudgetedStatements(method, queries, writes, exceeded);
+        if (exceeded) {
+            if (failOnExceeded) {
+                throw new StatementBudgetExceededException(method, budget.value(), queries);
+            }
+            log.warn("{} prepared {} SQL queries, over its budget of {} ({} batched writes)",
+                method, queries, budget.value(), writes);
+        }
+        return result;
+    }
+}
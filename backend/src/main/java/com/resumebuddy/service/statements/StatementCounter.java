@@ -0,0 +1,94 @@
+package com.resumebuddy.service.statements;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts SQL statements prepared by Hibernate on the current thread. Registered as the
+ * session factory's statement inspector; a JDBC batch counts once, as it is one round trip.
+ * Inserts, updates and deletes are also counted on their own: a method that flushes per batch
+ * prepares them once per batch, so their number can grow with the rows written while queries
+ * should not.
+ * While a request is tracked, statements are also tallied by SQL text to spot N+1 loads.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Tally> TALLY = ThreadLocal.withInitial(Tally::new);
+
+    @Override
+    public String inspect(String sql) {
+        Tally tally = TALLY.get();
+        tally.total++;
+        if (isWrite(sql)) {
+            tally.writes++;
+        }
+        if (tally.bySql != null) {
+            tally.bySql.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * Statements prepared on this thread so far; callers diff two readings.
+     */
+    public static long current() {
+        return TALLY.get().total;
+    }
+
+    /**
+     * Inserts, updates and deletes prepared on this thread so far, included in {@link #current()}.
+     */
+    public static long currentWrites() {
+        return TALLY.get().writes;
+    }
+
+    /**
+     * Start tallying statements by SQL text on this thread, replacing any previous tally.
+     */
+    public static void startTracking() {
+        TALLY.get().bySql = new HashMap<>();
+    }
+
+    /**
+     * Stop tallying and return the statement counts by SQL text since {@link #startTracking()}.
+     */
+    public static Map<String, Integer> stopTracking() {
+        Tally tally = TALLY.get();
+        Map<String, Integer> bySql = tally.bySql;
+        tally.bySql = null;
+        return bySql != null ? bySql : Map.of();
+    }
+
+    // Skips the comment Hibernate prepends with hibernate.use_sql_comments
+    static boolean isWrite(String sql) {
+        int start = 0;
+        while (true) {
+            while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+                start++;
+            }
+            if (!sql.startsWith("/*", start)) {
+                break;
+            }
+            int end = sql.indexOf("*/", start + 2);
+            if (end < 0) {
+                return false;
+            }
+            start = end + 2;
+        }
+        return startsWithKeyword(sql, start, "insert")
+            || startsWithKeyword(sql, start, "update")
+            || startsWithKeyword(sql, start, "delete");
+    }
+
+    private static boolean startsWithKeyword(String sql, int start, String keyword) {
+        return sql.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+
+    private static class Tally {
+        long total;
+        long writes;
+        Map<String, Integer> bySql;
+    }
+}
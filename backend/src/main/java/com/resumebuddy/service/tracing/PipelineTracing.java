@@ -0,0 +1,82 @@
+package com.resumebuddy.service.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.function.Function;
+
+/**
+ * Spans for pipeline steps that are not HTTP or repository calls: document parsing, prompt
+ * building, LLM exchanges and response parsing. Falls back to a no-op tracer when tracing is disabled.
+ */
+@Component
+public class PipelineTracing {
+
+    public static final String TAG_RESUME_ID = "resume.id";
+
+    private final Tracer tracer;
+
+    public PipelineTracing(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    /**
+     * Run work in a child span of the current one; the span is passed in for tagging.
+     */
+    public <T, E extends Exception> T inSpan(String name, SpanWork<T, E> work) throws E {
+        Span span = tracer.nextSpan().name(name).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return work.apply(span);
+        } catch (Exception | Error e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Reactive variant of {@link #inSpan}: the span starts on subscription and ends when the
+     * returned Mono completes, fails or is cancelled.
+     */
+    public <T> Mono<T> inSpanAsync(String name, Function<Span, Mono<T>> work) {
+        return Mono.defer(() -> {
+            Span span = tracer.nextSpan().name(name).start();
+            Mono<T> result;
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                result = work.apply(span);
+            } catch (RuntimeException | Error e) {
+                span.error(e);
+                span.end();
+                throw e;
+            }
+            return result
+                .doOnError(span::error)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        span.event("cancelled");
+                    }
+                    span.end();
+                });
+        });
+    }
+
+    /**
+     * Tag the active span, typically the HTTP request span, so a resume's traces can be found by id.
+     */
+    public void tagCurrent(String key, String value) {
+        Span span = tracer.currentSpan();
+        if (span != null && value != null) {
+            span.tag(key, value);
+        }
+    }
+
+    @FunctionalInterface
+    public interface SpanWork<T, E extends Exception> {
+        T apply(Span span) throws E;
+    }
+}
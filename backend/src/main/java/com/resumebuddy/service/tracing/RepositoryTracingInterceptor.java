@@ -0,0 +1,50 @@
+package com.resumebuddy.service.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Wraps every Spring Data repository method in a span named Repository.method.
+ * Calls outside a trace (schedulers, startup backfills) are not traced, so they
+ * don't each start a trace of their own.
+ */
+public class RepositoryTracingInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+    private final ObjectProvider<Tracer> tracerProvider;
+    private volatile Tracer tracer;
+
+    public RepositoryTracingInterceptor(Class<?> repositoryInterface, ObjectProvider<Tracer> tracerProvider) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // Resolved on first use, repositories are created before the tracer
+        Tracer current = tracer;
+        if (current == null) {
+            current = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+            tracer = current;
+        }
+        if (current.currentSpan() == null) {
+            return invocation.proceed();
+        }
+
+        Span span = current.nextSpan()
+            .name(repositoryName + "." + invocation.getMethod().getName())
+            .tag("db.repository", repositoryName)
+            .start();
+        try (Tracer.SpanInScope ignored = current.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.resumebuddy.service.statements;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the SQL statements an action prepares on the calling thread, split the way
+ * {@link StatementBudget} counts them: queries, and batched inserts, updates and deletes.
+ */
+public final class StatementAssertions {
+
+    public record Counts(long queries, long writes) {
+    }
+
+    public record Counted<T>(T result, Counts counts) {
+    }
+
+    private StatementAssertions() {
+    }
+
+    public static Counts count(Runnable action) {
+        return count(() -> {
+            action.run();
+            return null;
+        }).counts();
+    }
+
+    public static <T> Counted<T> count(Supplier<T> action) {
+        long start = StatementCounter.current();
+        long startWrites = StatementCounter.currentWrites();
+        T result = action.get();
+        long writes = StatementCounter.currentWrites() - startWrites;
+        long queries = StatementCounter.current() - start - writes;
+        return new Counted<>(result, new Counts(queries, writes));
+    }
+
+    public static void assertQueries(long expected, Runnable action) {
+        assertEquals(expected, count(action).queries(), "SQL queries");
+    }
+
+    public static <T> T assertQueries(long expected, Supplier<T> action) {
+        Counted<T> counted = count(action);
+        assertEquals(expected, counted.counts().queries(), "SQL queries");
+        return counted.result();
+    }
+}
@@ -0,0 +1,213 @@
+package com.resumebuddy.service.statements;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuddy.controller.ResumeController;
+import com.resumebuddy.model.Resume;
+import com.resumebuddy.model.ResumeStatus;
+import com.resumebuddy.model.dto.LineAnalysisDto;
+import com.resumebuddy.model.dto.ResumeAnalysisDto;
+import com.resumebuddy.service.AIAnalysisService;
+import com.resumebuddy.service.AIAnalysisService.AnalysisInput;
+import com.resumebuddy.service.AIAnalysisService.AnalysisOutput;
+import com.resumebuddy.service.ResumeAnalysisService;
+import com.resumebuddy.service.ResumeLineService;
+import com.resumebuddy.service.statements.StatementAssertions.Counted;
+import com.resumebuddy.service.statements.StatementAssertions.Counts;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.resumebuddy.service.statements.StatementAssertions.assertQueries;
+import static com.resumebuddy.service.statements.StatementAssertions.count;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Pins the SQL statements of the budgeted methods at several resume sizes: neither queries nor
+ * writes may grow with the resume, as rows are loaded per list and written in JDBC batches.
+ * Runs with budget-mode "fail", so a call over its {@link StatementBudget} fails the test as well.
+ */
+@SpringBootTest(properties = {
+    "app.statements.budget-mode=fail",
+    "app.classifier.mode=off",
+    "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class StatementBudgetTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("app.file.upload-dir", Files.createTempDirectory("uploads")::toString);
+        registry.add("app.search.index-dir", Files.createTempDirectory("search-index")::toString);
+    }
+
+    @Autowired
+    private ResumeLineService resumeLineService;
+
+    @Autowired
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Autowired
+    private AIAnalysisService aiAnalysisService;
+
+    @Autowired
+    private ResumeController resumeController;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 200, 1000})
+    void getResumeLines(int lines) {
+        String resumeId = createResume(lines, UUID.randomUUID().toString());
+
+        List<?> resumeLines = assertQueries(1, () -> resumeLineService.getResumeLines(resumeId));
+
+        assertEquals(lines, resumeLines.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 200, 1000})
+    void analyzeResume(int lines) {
+        String resumeId = createResume(lines, UUID.randomUUID().toString());
+
+        // Resume with its analysis, lines; no near-duplicate to look up
+        AnalysisInput input = assertQueries(3, () -> aiAnalysisService.readAnalysisInput(resumeId));
+
+        int entries = lines / 10;
+        Counts counts = count(() -> aiAnalysisService.saveAnalysis(input, analysisOutput(input, entries)));
+
+        // Resume with its analysis, lines, previous analysis
+        assertEquals(4, counts.queries());
+        // Line updates, the resume's status, the analysis row and one insert per child list
+        assertEquals(1 + 1 + 1 + 5, counts.writes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 200, 1000})
+    void reanalyzeResume(int lines) {
+        String resumeId = createResume(lines, UUID.randomUUID().toString());
+        int entries = lines / 10;
+        analyze(resumeId, entries);
+
+        AnalysisInput input = aiAnalysisService.readAnalysisInput(resumeId);
+        Counts counts = count(() -> aiAnalysisService.saveAnalysis(input, analysisOutput(input, entries)));
+
+        // Resume with its analysis, lines, previous analysis, then its child lists as it is deleted
+        assertEquals(4 + 5, counts.queries());
+        // Line updates, then the previous analysis' rows deleted and the new ones inserted
+        assertEquals(1 + 2 * (1 + 5), counts.writes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 200, 1000})
+    void readAnalysisInputFromNearDuplicate(int lines) {
+        String content = UUID.randomUUID().toString();
+        analyze(createResume(lines, content), lines / 10);
+        String duplicateId = createResume(lines, content);
+
+        // Resume with its analysis, lines, analyzed candidates, the candidate's lines and its structured analysis
+        AnalysisInput input = assertQueries(5 + 6, () -> aiAnalysisService.readAnalysisInput(duplicateId));
+
+        assertNotNull(input.sourceAnalysis());
+        assertEquals(lines, input.presetLines().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 200, 1000})
+    void getStructuredAnalysis(int lines) {
+        String resumeId = createResume(lines, UUID.randomUUID().toString());
+        int entries = lines / 10;
+        analyze(resumeId, entries);
+
+        // The analysis row, then one select per child list
+        ResumeAnalysisDto analysis = assertQueries(6, () -> resumeAnalysisService.getStructuredAnalysis(resumeId));
+
+        assertEquals(entries, analysis.getExperiences().size());
+        assertEquals(entries, analysis.getSkills().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 200, 1000})
+    void deleteResume(int lines) {
+        String resumeId = createResume(lines, UUID.randomUUID().toString());
+        int entries = lines / 10;
+        analyze(resumeId, entries);
+
+        Counted<HttpStatus> deleted = count(() -> HttpStatus.valueOf(
+            resumeController.deleteResume(resumeId).getStatusCode().value()));
+
+        assertEquals(HttpStatus.OK, deleted.result());
+        // Resume with its analysis, then the cascade loads its collections and the analysis' child lists
+        assertEquals(11, deleted.counts().queries());
+        // Lines, the analysis and its child lists, the resume
+        assertEquals(1 + 1 + 5 + 1, deleted.counts().writes());
+    }
+
+    private String createResume(int lines, String content) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 1; i <= lines; i++) {
+            text.append("Line ").append(i).append(' ').append(content).append('\n');
+        }
+
+        Resume resume = new Resume();
+        resume.setFilename("resume.txt");
+        resume.setContentType("text/plain");
+        resume.setFilePath("resume.txt");
+        resume.setFileSize((long) text.length());
+        resume.setStatus(ResumeStatus.PARSED.name());
+        return resumeLineService.saveParsedResume(resume, text.toString(), Map.of()).getId();
+    }
+
+    private void analyze(String resumeId, int entries) {
+        AnalysisInput input = aiAnalysisService.readAnalysisInput(resumeId);
+        aiAnalysisService.saveAnalysis(input, analysisOutput(input, entries));
+    }
+
+    /**
+     * What the LLM would return: a label for every line and {@code entries} rows in each structured list.
+     */
+    private AnalysisOutput analysisOutput(AnalysisInput input, int entries) {
+        List<LineAnalysisDto> lineAnalyses = new ArrayList<>();
+        input.resumeLines().forEach(line -> lineAnalyses.add(new LineAnalysisDto(
+            line.getLineNumber(), "EXPERIENCE", 1, "JOB", null, AIAnalysisService.SOURCE_LLM)));
+
+        ObjectNode structuredData = objectMapper.createObjectNode();
+        structuredData.putObject("contact").put("name", "Jordan Example");
+        ArrayNode experiences = structuredData.putArray("experiences");
+        ArrayNode skills = structuredData.putArray("skills");
+        ArrayNode educations = structuredData.putArray("educations");
+        ArrayNode certifications = structuredData.putArray("certifications");
+        ArrayNode projects = structuredData.putArray("projects");
+        for (int i = 0; i < entries; i++) {
+            experiences.addObject().put("jobTitle", "Engineer " + i).put("startDate", "2020-01").put("endDate", "2021-06");
+            skills.addObject().put("skillName", "Skill " + i);
+            educations.addObject().put("degree", "Degree " + i);
+            certifications.addObject().put("certificationName", "Certification " + i);
+            projects.addObject().put("projectName", "Project " + i);
+        }
+        return new AnalysisOutput(lineAnalyses, structuredData);
+    }
+}
@@ -0,0 +1,34 @@
+package com.resumebuddy.service.statements;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementCounterTest {
+
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    @Test
+    void countsWritesSeparately() {
+        long start = StatementCounter.current();
+        long startWrites = StatementCounter.currentWrites();
+
+        statementCounter.inspect("select r1_0.id from resumes r1_0 where r1_0.id=?");
+        statementCounter.inspect("insert into resume_lines (content,id) values (?,?)");
+        statementCounter.inspect("/* delete com.resumebuddy.model.ResumeLine */ delete from resume_lines where id=?");
+
+        assertEquals(3, StatementCounter.current() - start);
+        assertEquals(2, StatementCounter.currentWrites() - startWrites);
+    }
+
+    @Test
+    void recognizesWritesBehindSqlComments() {
+        assertTrue(StatementCounter.isWrite("/* update for com.resumebuddy.model.Resume */update resumes set status=? where id=?"));
+        assertTrue(StatementCounter.isWrite("  INSERT INTO resumes (id) VALUES (?)"));
+        assertFalse(StatementCounter.isWrite("/* <criteria> */ select r1_0.id from resumes r1_0"));
+        assertFalse(StatementCounter.isWrite("select r1_0.updated_at from resumes r1_0"));
+        assertFalse(StatementCounter.isWrite("/* unterminated"));
+    }
+}
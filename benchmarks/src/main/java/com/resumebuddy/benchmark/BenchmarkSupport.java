@@ -0,0 +1,64 @@
+package com.resumebuddy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuddy.service.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Builds backend services outside Spring. Only the collaborators a pure-CPU path needs are
+ * supplied; every other constructor argument (repositories, HTTP clients) is left null.
+ */
+public final class BenchmarkSupport {
+
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkSupport() {
+    }
+
+    public static PipelineMetrics pipelineMetrics() {
+        return new PipelineMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Call the widest constructor, matching arguments by type so new dependencies don't break the benchmarks.
+     */
+    public static <T> T newService(Class<T> type, Object... collaborators) {
+        try {
+            Constructor<?> constructor = Arrays.stream(type.getDeclaredConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow();
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] args = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                for (Object collaborator : collaborators) {
+                    if (parameterTypes[i].isInstance(collaborator)) {
+                        args[i] = collaborator;
+                        break;
+                    }
+                }
+            }
+            constructor.setAccessible(true);
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Set a field Spring would normally inject from configuration.
+     */
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.resumebuddy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic resume fixtures of a given line count, shaped like real uploads: contact block,
+ * summary, one job group per few lines, then skills, education and certifications.
+ * The same line count always yields the same text, LLM response and structured data.
+ */
+public final class ResumeFixtures {
+
+    public static final long SEED = 20240101L;
+
+    private static final String[] TITLES = {
+        "Senior Software Engineer", "Software Engineer", "Staff Engineer", "Backend Developer",
+        "Full Stack Developer", "Technical Lead", "Platform Engineer", "Data Engineer"
+    };
+    private static final String[] COMPANIES = {
+        "Acme Corp", "Globex", "Initech", "Umbrella Labs", "Stark Industries", "Wayne Enterprises",
+        "Hooli", "Pied Piper", "Cyberdyne Systems", "Soylent Foods"
+    };
+    private static final String[] VERBS = {
+        "Led", "Built", "Designed", "Migrated", "Optimised", "Automated", "Introduced", "Scaled"
+    };
+    private static final String[] OBJECTS = {
+        "the payments API", "an event-driven order pipeline", "the search indexing service",
+        "CI/CD for 40 microservices", "the customer onboarding flow", "a reporting data warehouse",
+        "the mobile backend", "observability dashboards"
+    };
+    private static final String[] TECH = {
+        "Java", "Spring Boot", "Kafka", "Kubernetes", "PostgreSQL", "MySQL", "Redis", "React",
+        "TypeScript", "AWS", "Terraform", "Docker", "Elasticsearch", "gRPC", "Python", "GraphQL"
+    };
+    private static final String[] MONTHS = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+
+    private ResumeFixtures() {
+    }
+
+    public static Fixture generate(int lineCount, ObjectMapper objectMapper) {
+        return new Builder(lineCount, new Random(SEED), objectMapper).build();
+    }
+
+    /**
+     * One generated resume: raw text, the LLM response body an analysis of it would get back,
+     * and the structuredData part of that response.
+     */
+    public record Fixture(String text, String llmResponse, ObjectNode structuredData, int lineCount) {
+    }
+
+    private static final class Builder {
+
+        private final int lineCount;
+        private final Random random;
+        private final ObjectMapper objectMapper;
+        private final List<String> lines = new ArrayList<>();
+        private final ArrayNode lineAnalysis;
+        private final ObjectNode structuredData;
+        private int groupId;
+
+        Builder(int lineCount, Random random, ObjectMapper objectMapper) {
+            this.lineCount = lineCount;
+            this.random = random;
+            this.objectMapper = objectMapper;
+            this.lineAnalysis = objectMapper.createArrayNode();
+            this.structuredData = objectMapper.createObjectNode();
+        }
+
+        Fixture build() {
+            contact();
+            summary();
+            experience();
+            skills();
+            education();
+            certifications();
+
+            String text = String.join("\n", lines.subList(0, Math.min(lineCount, lines.size())));
+            return new Fixture(text, llmResponse(), structuredData, lineCount);
+        }
+
+        private void contact() {
+            groupId++;
+            line("Jordan Example", "CONTACT", null, "Full name");
+            line("jordan.example@example.com | +44 20 7946 0000", "CONTACT", null, "Email and phone");
+            line("linkedin.com/in/jordan-example | github.com/jexample", "CONTACT", null, "Profile links");
+            blank();
+
+            ObjectNode contact = structuredData.putObject("contact");
+            contact.put("name", "Jordan Example");
+            contact.put("email", "jordan.example@example.com");
+            contact.put("phone", "+44 20 7946 0000");
+            contact.put("linkedinUrl", "https://linkedin.com/in/jordan-example");
+            contact.put("githubUrl", "https://github.com/jexample");
+            contact.putNull("websiteUrl");
+        }
+
+        private void summary() {
+            groupId++;
+            line("PROFESSIONAL SUMMARY", "SUMMARY", null, "Section header");
+            String summary = "Engineer with a track record of shipping " + pick(TECH) + " and " + pick(TECH)
+                + " systems that handle millions of requests per day.";
+            line(summary, "SUMMARY", null, "Summary statement");
+            blank();
+            structuredData.put("summary", summary);
+        }
+
+        private void experience() {
+            line("EXPERIENCE", "EXPERIENCE", null, "Section header");
+            ArrayNode experiences = structuredData.putArray("experiences");
+
+            // Leave room for the trailing sections so every size has all of them
+            int tail = 16;
+            int year = 2024;
+            for (int job = 0; lines.size() < lineCount - tail || job == 0; job++) {
+                groupId++;
+                String title = pick(TITLES);
+                String company = pick(COMPANIES);
+                int years = 1 + random.nextInt(3);
+                String startDate = date(year - years, random.nextInt(12));
+                String endDate = job == 0 ? "Present" : date(year, random.nextInt(12));
+                year -= years;
+
+                line(title + " | " + company, "EXPERIENCE", "JOB", "Job title and company");
+                line(startDate + " – " + endDate, "EXPERIENCE", "JOB", "Employment dates");
+                StringBuilder description = new StringBuilder();
+                int bullets = 3 + random.nextInt(5);
+                for (int b = 0; b < bullets; b++) {
+                    String bullet = pick(VERBS) + " " + pick(OBJECTS) + " using " + pick(TECH) + " and "
+                        + pick(TECH) + ", cutting latency by " + (10 + random.nextInt(80)) + "%";
+                    line("• " + bullet, "EXPERIENCE", "JOB", "Achievement");
+                    description.append(bullet).append(". ");
+                }
+                blank();
+
+                ObjectNode experience = experiences.addObject();
+                experience.put("jobTitle", title);
+                experience.put("companyName", company);
+                experience.put("startDate", startDate);
+                experience.put("endDate", endDate);
+                experience.put("description", description.toString().trim());
+            }
+        }
+
+        private void skills() {
+            groupId++;
+            line("SKILLS", "SKILLS", null, "Section header");
+            ArrayNode skills = structuredData.putArray("skills");
+            String[] categories = {"Languages", "Frameworks", "Infrastructure"};
+            for (String category : categories) {
+                List<String> names = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    String name = pick(TECH);
+                    names.add(name);
+                    ObjectNode skill = skills.addObject();
+                    skill.put("skillName", name);
+                    skill.put("category", category);
+                }
+                line(category + ": " + String.join(", ", names), "SKILLS", "SKILL_CATEGORY", "Skill list");
+            }
+            blank();
+        }
+
+        private void education() {
+            line("EDUCATION", "EDUCATION", null, "Section header");
+            ArrayNode educations = structuredData.putArray("educations");
+            groupId++;
+            line("BSc Computer Science, University of Example", "EDUCATION", "EDUCATION_ITEM", "Degree");
+            line("Graduated June 2012", "EDUCATION", "EDUCATION_ITEM", "Graduation date");
+            ObjectNode education = educations.addObject();
+            education.put("degree", "BSc Computer Science");
+            education.put("institution", "University of Example");
+            education.put("graduationDate", "June 2012");
+            education.putNull("description");
+            blank();
+        }
+
+        private void certifications() {
+            line("CERTIFICATIONS", "CERTIFICATIONS", null, "Section header");
+            ArrayNode certifications = structuredData.putArray("certifications");
+            String[][] certs = {
+                {"AWS Certified Solutions Architect", "Amazon Web Services", "2021-03"},
+                {"Certified Kubernetes Administrator", "CNCF", "Q2 2022"}
+            };
+            for (String[] cert : certs) {
+                groupId++;
+                line(cert[0] + " - " + cert[1] + ", " + cert[2], "CERTIFICATIONS", "CERTIFICATION_ITEM", "Certification");
+                ObjectNode certification = certifications.addObject();
+                certification.put("certificationName", cert[0]);
+                certification.put("issuingOrganization", cert[1]);
+                certification.put("issueDate", cert[2]);
+                certification.putNull("credentialId");
+            }
+            structuredData.putArray("projects").addObject()
+                .put("projectName", "resume-buddy")
+                .put("description", "Resume parsing and analysis tool")
+                .put("technologiesUsed", "Java, Spring Boot, React")
+                .put("projectUrl", "https://github.com/jexample/resume-buddy");
+        }
+
+        private void line(String content, String sectionType, String groupType, String notes) {
+            lines.add(content);
+            if (lines.size() > lineCount) {
+                return;
+            }
+            ObjectNode entry = lineAnalysis.addObject();
+            entry.put("lineNumber", lines.size());
+            entry.put("sectionType", sectionType);
+            entry.put("groupId", groupId);
+            if (groupType == null) {
+                entry.putNull("groupType");
+            } else {
+                entry.put("groupType", groupType);
+            }
+            entry.put("analysisNotes", notes);
+        }
+
+        private void blank() {
+            lines.add("");
+        }
+
+        private String llmResponse() {
+            ObjectNode content = objectMapper.createObjectNode();
+            content.set("lineAnalysis", lineAnalysis);
+            content.set("structuredData", structuredData);
+
+            ObjectNode root = objectMapper.createObjectNode();
+            root.put("id", "chatcmpl-benchmark");
+            root.put("model", "gpt-4");
+            ObjectNode choice = root.putArray("choices").addObject();
+            choice.put("index", 0);
+            choice.put("finish_reason", "stop");
+            ObjectNode message = choice.putObject("message");
+            message.put("role", "assistant");
+            message.put("content", content.toString());
+            ObjectNode usage = root.putObject("usage");
+            usage.put("prompt_tokens", lineCount * 25);
+            usage.put("completion_tokens", lineAnalysis.size() * 30);
+            return root.toString();
+        }
+
+        private String date(int year, int month) {
+            // Mix the formats the LLM actually returns
+            return switch (random.nextInt(4)) {
+                case 0 -> MONTHS[month] + " " + year;
+                case 1 -> String.format("%d-%02d", year, month + 1);
+                case 2 -> String.format("%02d/%d", month + 1, year);
+                default -> String.valueOf(year);
+            };
+        }
+
+        private String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.resumebuddy.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backend started as a child JVM from its executable jar, wired to the stand-in servers
+ * through the same environment variables a deployment uses.
+ */
+public class BackendProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Process process;
+    private final String baseUrl;
+
+    private BackendProcess(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    public static BackendProcess start(Path jar, int port, String openaiUrl, String doclingUrl,
+                                       List<String> extraArgs, Path logFile) throws IOException, InterruptedException {
+        return start(jar, port, openaiUrl, doclingUrl, List.of(), extraArgs, logFile);
+    }
+
+    public static BackendProcess start(Path jar, int port, String openaiUrl, String doclingUrl, List<String> jvmArgs,
+                                       List<String> extraArgs, Path logFile) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Backend jar not found: " + jar
+                + " (build it with: cd backend && mvn package -DskipTests)");
+        }
+        String baseUrl = "http://127.0.0.1:" + port;
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(extraArgs);
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile());
+        Map<String, String> env = builder.environment();
+        env.put("OPENAI_BASE_URL", openaiUrl);
+        env.put("OPENAI_API_KEY", "loadtest");
+        env.put("DOCLING_SERVICE_URL", doclingUrl);
+        env.put("DOCLING_SERVICE_URLS", "");
+        env.put("DOCLING_CALLBACK_BASE_URL", baseUrl);
+
+        BackendProcess backend = new BackendProcess(builder.start(), baseUrl);
+        backend.awaitHealthy(logFile);
+        return backend;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    private void awaitHealthy(Path logFile) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/api/resumes/health"))
+            .timeout(Duration.ofSeconds(2))
+            .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        close();
+        throw new IllegalStateException("Backend did not become healthy within " + STARTUP_TIMEOUT + ", see " + logFile);
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.resumebuddy.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and status breakdown of one endpoint, safe to record from many threads.
+ */
+public class EndpointStats {
+
+    // Status bucket for requests that never got a response (connect failure, timeout)
+    public static final int NO_RESPONSE = 0;
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private Histogram interval;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long elapsedNanos, int status) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Drop everything recorded so far, used at the end of the warmup phase.
+     */
+    public void reset() {
+        recorder.reset();
+        statusCounts.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Freeze the recorded values for reporting.
+     */
+    public void finish() {
+        interval = recorder.getIntervalHistogram();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return interval.getTotalCount();
+    }
+
+    public double percentileMillis(double percentile) {
+        return interval.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return interval.getMaxValue() / 1000.0;
+    }
+
+    public double meanMillis() {
+        return interval.getMean() / 1000.0;
+    }
+
+    /**
+     * Requests by HTTP status, {@link #NO_RESPONSE} for transport failures.
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> {
+            if (count.sum() > 0) {
+                counts.put(status, count.sum());
+            }
+        });
+        return counts;
+    }
+
+    public long getErrorCount() {
+        return getStatusCounts().entrySet().stream()
+            .filter(entry -> entry.getKey() == NO_RESPONSE || entry.getKey() >= 400)
+            .mapToLong(Map.Entry::getValue)
+            .sum();
+    }
+}
@@ -0,0 +1,39 @@
+package com.resumebuddy.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Docling service stand-in: {@code /parse} and {@code /parse-url} replay recordings round-robin.
+ * {@code /health} is never delayed or failed, so the backend's endpoint pool keeps the
+ * instance in rotation and injected faults show up on parse requests only.
+ */
+public class FakeDoclingServer extends StandInServer {
+
+    private static final String HEALTHY = "{\"status\":\"healthy\",\"docling_available\":true}";
+
+    private final List<Recordings.Recording> recordings;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public FakeDoclingServer(StandInBehavior behavior, Recordings recordings) {
+        super("docling", behavior);
+        this.recordings = recordings.getDocling();
+    }
+
+    @Override
+    protected void registerRoutes(HttpServer server) {
+        server.createContext("/health", exchange -> {
+            try (exchange) {
+                send(exchange, 200, HEALTHY);
+            }
+        });
+        server.createContext("/parse", exchange -> respondWithFaults(exchange, this::nextBody));
+        server.createContext("/parse-url", exchange -> respondWithFaults(exchange, this::nextBody));
+    }
+
+    private String nextBody() {
+        return recordings.get(Math.floorMod(next.getAndIncrement(), recordings.size())).body();
+    }
+}
@@ -0,0 +1,59 @@
+package com.resumebuddy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * OpenAI-compatible {@code /chat/completions} stand-in. Replays the recording whose line count
+ * is closest to the number of lines in the prompt, so analyses stay roughly in step with the resume.
+ */
+public class FakeOpenAiServer extends StandInServer {
+
+    private final List<Recordings.Recording> recordings;
+    private final ObjectMapper objectMapper;
+
+    public FakeOpenAiServer(StandInBehavior behavior, Recordings recordings, ObjectMapper objectMapper) {
+        super("openai", behavior);
+        this.recordings = recordings.getOpenai();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void registerRoutes(HttpServer server) {
+        server.createContext("/chat/completions", exchange -> {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                try (exchange) {
+                    send(exchange, 405, "{}");
+                }
+                return;
+            }
+            // Read the prompt before the base class drains the body
+            byte[] request = exchange.getRequestBody().readAllBytes();
+            int promptLines = promptLineCount(request);
+            respondWithFaults(exchange, () -> closest(promptLines).body());
+        });
+    }
+
+    @Override
+    protected String throttledBody() {
+        return "{\"error\":{\"message\":\"Rate limit reached for requests\",\"type\":\"requests\","
+            + "\"code\":\"rate_limit_exceeded\"}}";
+    }
+
+    private int promptLineCount(byte[] request) throws IOException {
+        JsonNode messages = objectMapper.readTree(request).path("messages");
+        String prompt = messages.path(messages.size() - 1).path("content").asText("");
+        return (int) prompt.lines().filter(line -> line.startsWith("Line ")).count();
+    }
+
+    private Recordings.Recording closest(int lineCount) {
+        return recordings.stream()
+            .min(Comparator.comparingInt(recording -> Math.abs(recording.lineCount() - lineCount)))
+            .orElseThrow();
+    }
+}
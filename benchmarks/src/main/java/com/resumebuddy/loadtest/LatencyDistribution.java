@@ -0,0 +1,80 @@
+package com.resumebuddy.loadtest;
+
+import java.util.Random;
+
+/**
+ * Response delay of a stand-in server, parsed from a spec string:
+ * <ul>
+ *   <li>{@code fixed:200ms}</li>
+ *   <li>{@code uniform:100ms:400ms}</li>
+ *   <li>{@code lognormal:800ms:4s} - median and p99, the usual shape of LLM latencies</li>
+ * </ul>
+ */
+public abstract class LatencyDistribution {
+
+    // z-score of the 99th percentile of a standard normal distribution
+    private static final double Z_99 = 2.326;
+
+    public abstract long sampleMillis(Random random);
+
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        try {
+            switch (parts[0]) {
+                case "fixed" -> {
+                    long millis = millis(parts[1]);
+                    return of(spec, random -> millis);
+                }
+                case "uniform" -> {
+                    long min = millis(parts[1]);
+                    long max = millis(parts[2]);
+                    if (max < min) {
+                        throw new IllegalArgumentException("max below min");
+                    }
+                    return of(spec, random -> min + (long) (random.nextDouble() * (max - min)));
+                }
+                case "lognormal" -> {
+                    long median = millis(parts[1]);
+                    long p99 = millis(parts[2]);
+                    if (median <= 0 || p99 < median) {
+                        throw new IllegalArgumentException("p99 must be at least the median");
+                    }
+                    double sigma = Math.log((double) p99 / median) / Z_99;
+                    return of(spec, random -> Math.round(median * Math.exp(sigma * random.nextGaussian())));
+                }
+                default -> throw new IllegalArgumentException("unknown distribution " + parts[0]);
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid latency spec '" + spec
+                + "', expected fixed:<d>, uniform:<min>:<max> or lognormal:<median>:<p99>", e);
+        }
+    }
+
+    private static long millis(String value) {
+        if (value.endsWith("ms")) {
+            return Long.parseLong(value.substring(0, value.length() - 2));
+        }
+        if (value.endsWith("s")) {
+            return Math.round(Double.parseDouble(value.substring(0, value.length() - 1)) * 1000);
+        }
+        return Long.parseLong(value);
+    }
+
+    private static LatencyDistribution of(String spec, Sampler sampler) {
+        return new LatencyDistribution() {
+            @Override
+            public long sampleMillis(Random random) {
+                return Math.max(0, sampler.sample(random));
+            }
+
+            @Override
+            public String toString() {
+                return spec;
+            }
+        };
+    }
+
+    private interface Sampler {
+        long sample(Random random);
+    }
+}
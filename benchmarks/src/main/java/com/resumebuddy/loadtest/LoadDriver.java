@@ -0,0 +1,239 @@
+package com.resumebuddy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load driver. Each virtual user repeatedly walks a resume through its whole
+ * lifecycle (upload, parse, line editing, analysis, delete), touching every endpoint of
+ * ResumeController, ResumeLineController and ResumeAnalysisController.
+ */
+public class LoadDriver {
+
+    private static final String API = "/api/resumes";
+
+    // Content is never read, the Docling stand-in answers for it; only the magic bytes matter
+    private static final byte[] PDF = ("%PDF-1.4\n1 0 obj << /Type /Catalog >> endobj\n"
+        + "trailer << /Root 1 0 R >>\n%%EOF\n").getBytes(StandardCharsets.US_ASCII);
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int listEvery;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final AtomicLong sessions = new AtomicLong();
+
+    public LoadDriver(String baseUrl, int concurrency, Duration warmup, Duration duration, int listEvery,
+                      ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.listEvery = listEvery;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        // Fixed order so reports line up between runs
+        for (String endpoint : List.of(
+                "GET /api/resumes/health", "POST /api/resumes/upload", "POST /api/resumes/{id}/parse",
+                "GET /api/resumes/{id}", "GET /api/resumes/{id}/parsed", "GET /api/resumes/{id}/file",
+                "GET /api/resumes", "PUT /api/resumes/{id}/editor-state", "GET /api/resumes/{id}/editor-state",
+                "GET /api/resumes/{id}/lines", "GET /api/resumes/{id}/lines/count",
+                "PUT /api/resumes/{id}/lines/{lineNumber}", "POST /api/resumes/{id}/lines",
+                "PUT /api/resumes/{id}/lines/batch", "POST /api/resumes/{id}/process-lines",
+                "POST /api/resumes/{id}/analyze", "GET /api/resumes/{id}/structured-analysis",
+                "GET /api/resumes/{id}/analysis-exists", "DELETE /api/resumes/{id}")) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+    }
+
+    /**
+     * Run warmup then measurement, returning the stats of the measured phase only.
+     */
+    public List<EndpointStats> run() throws InterruptedException {
+        long deadline = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Thread user = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    session();
+                }
+            }, "load-user-" + i);
+            user.start();
+            users.add(user);
+        }
+
+        Thread.sleep(warmup.toMillis());
+        stats.values().forEach(EndpointStats::reset);
+        sessions.set(0);
+
+        for (Thread user : users) {
+            user.join();
+        }
+        stats.values().forEach(EndpointStats::finish);
+        return new ArrayList<>(stats.values());
+    }
+
+    public long getCompletedSessions() {
+        return sessions.get();
+    }
+
+    private void session() {
+        long sessionNumber = sessions.incrementAndGet();
+        call("GET /api/resumes/health", get(API + "/health"));
+
+        Response upload = call("POST /api/resumes/upload", upload());
+        String id = upload.ok() ? upload.json(objectMapper).path("id").asText(null) : null;
+        if (id == null) {
+            return;
+        }
+        String resume = API + "/" + id;
+
+        try {
+            if (!call("POST /api/resumes/{id}/parse", post(resume + "/parse", "")).ok()) {
+                return;
+            }
+            call("GET /api/resumes/{id}", get(resume));
+            call("GET /api/resumes/{id}/parsed", get(resume + "/parsed"));
+            call("GET /api/resumes/{id}/file", get(resume + "/file"));
+            // Listing returns every resume, so only some sessions do it
+            if (listEvery > 0 && sessionNumber % listEvery == 0) {
+                call("GET /api/resumes", get(API));
+            }
+
+            call("PUT /api/resumes/{id}/editor-state", put(resume + "/editor-state", "{\"root\":{\"children\":[]}}"));
+            call("GET /api/resumes/{id}/editor-state", get(resume + "/editor-state"));
+
+            Response lines = call("GET /api/resumes/{id}/lines", get(resume + "/lines"));
+            call("GET /api/resumes/{id}/lines/count", get(resume + "/lines/count"));
+            call("PUT /api/resumes/{id}/lines/{lineNumber}",
+                put(resume + "/lines/1", "{\"content\":\"Jordan Q. Example\"}"));
+            call("POST /api/resumes/{id}/lines",
+                post(resume + "/lines", "{\"lineNumber\":2,\"content\":\"Open to relocation\"}"));
+            if (lines.ok()) {
+                call("PUT /api/resumes/{id}/lines/batch", put(resume + "/lines/batch", batchUpdate(lines)));
+            }
+            call("POST /api/resumes/{id}/process-lines", post(resume + "/process-lines", ""));
+
+            if (call("POST /api/resumes/{id}/analyze", post(resume + "/analyze", "")).ok()) {
+                call("GET /api/resumes/{id}/structured-analysis", get(resume + "/structured-analysis"));
+            }
+            call("GET /api/resumes/{id}/analysis-exists", get(resume + "/analysis-exists"));
+        } finally {
+            call("DELETE /api/resumes/{id}", delete(resume));
+        }
+    }
+
+    private Response call(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        int status = EndpointStats.NO_RESPONSE;
+        byte[] body = null;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            body = response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Counted as NO_RESPONSE
+        }
+        stats.get(endpoint).record(System.nanoTime() - start, status);
+        return new Response(status, body);
+    }
+
+    private String batchUpdate(Response lines) {
+        // Send the lines back with the first one edited, as the editor's save does
+        JsonNode current = lines.json(objectMapper);
+        List<Map<String, Object>> updates = new ArrayList<>();
+        for (JsonNode line : current) {
+            String content = line.path("content").asText("");
+            updates.add(Map.of(
+                "lineNumber", updates.size() + 1,
+                "content", updates.isEmpty() ? content + " (edited)" : content));
+        }
+        try {
+            return objectMapper.writeValueAsString(updates);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest upload() {
+        return uploadRequest(request(API + "/upload"));
+    }
+
+    /**
+     * Multipart upload of a minimal PDF, completing the given request builder.
+     */
+    static HttpRequest uploadRequest(HttpRequest.Builder request) {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        String header = "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"loadtest-resume.pdf\"\r\n"
+            + "Content-Type: application/pdf\r\n\r\n";
+        body.writeBytes(header.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(PDF);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return request
+            .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+            .build();
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path).header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest put(String path, String json) {
+        return request(path).header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest delete(String path) {
+        return request(path).DELETE().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofMinutes(5));
+    }
+
+    private record Response(int status, byte[] body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode json(ObjectMapper objectMapper) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (Exception e) {
+                return objectMapper.missingNode();
+            }
+        }
+    }
+}
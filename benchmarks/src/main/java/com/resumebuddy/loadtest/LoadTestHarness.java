@@ -0,0 +1,193 @@
+package com.resumebuddy.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * End-to-end load test of upload → parse → analyze without the real LLM or Docling.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.resumebuddy.loadtest.LoadTestHarness \
+ *     --concurrency=16 --duration=2m --openai-latency=lognormal:1500ms:8s --openai-throttle-rate=0.05 \
+ *     --spring.datasource.url=jdbc:mysql://localhost:3306/resumebuddy_loadtest
+ * </pre>
+ *
+ * Options starting with {@code --spring.} or {@code --app.} are passed on to the backend.
+ */
+public final class LoadTestHarness {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+        Map.entry("backend-jar", "../backend/target/resume-buddy-api-0.0.1-SNAPSHOT-exec.jar"),
+        Map.entry("backend-port", "18080"),
+        Map.entry("concurrency", "8"),
+        Map.entry("warmup", "30s"),
+        Map.entry("duration", "2m"),
+        Map.entry("list-every", "20"),
+        Map.entry("openai-port", "0"),
+        Map.entry("openai-latency", "lognormal:1500ms:8s"),
+        Map.entry("openai-error-rate", "0.01"),
+        Map.entry("openai-throttle-rate", "0.02"),
+        Map.entry("docling-port", "0"),
+        Map.entry("docling-latency", "lognormal:400ms:2s"),
+        Map.entry("docling-error-rate", "0.01"),
+        Map.entry("docling-throttle-rate", "0"),
+        Map.entry("fixture-lines", "40,80,150"),
+        Map.entry("report", "loadtest-report.json")
+    );
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        List<String> backendArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.") || arg.startsWith("--app.")) {
+                backendArgs.add(arg);
+            } else if (arg.startsWith("--")) {
+                String[] keyValue = arg.substring(2).split("=", 2);
+                options.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "true");
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Recordings recordings = options.containsKey("recordings")
+            ? Recordings.load(Path.of(options.get("recordings")), objectMapper)
+            : Recordings.synthesize(Arrays.stream(options.get("fixture-lines").split(","))
+                .map(String::trim).map(Integer::valueOf).toList(), objectMapper);
+
+        try (FakeOpenAiServer openai = new FakeOpenAiServer(behavior(options, "openai"), recordings, objectMapper);
+             FakeDoclingServer docling = new FakeDoclingServer(behavior(options, "docling"), recordings)) {
+            openai.start(Integer.parseInt(options.get("openai-port")));
+            docling.start(Integer.parseInt(options.get("docling-port")));
+            System.out.printf("OpenAI stand-in  %s (%s)%n", openai.getBaseUrl(), openai.getBehavior());
+            System.out.printf("Docling stand-in %s (%s)%n", docling.getBaseUrl(), docling.getBehavior());
+
+            if (options.containsKey("stand-ins-only")) {
+                System.out.printf("Start the backend with OPENAI_BASE_URL=%s DOCLING_SERVICE_URL=%s, Ctrl-C to stop%n",
+                    openai.getBaseUrl(), docling.getBaseUrl());
+                new CountDownLatch(1).await();
+            }
+
+            BackendProcess backend = null;
+            try {
+                String target = options.get("target");
+                if (target == null) {
+                    Path log = Path.of("loadtest-backend.log");
+                    System.out.println("Starting backend, log in " + log.toAbsolutePath());
+                    backend = BackendProcess.start(Path.of(options.get("backend-jar")),
+                        Integer.parseInt(options.get("backend-port")),
+                        openai.getBaseUrl(), docling.getBaseUrl(), backendArgs, log);
+                    target = backend.getBaseUrl();
+                }
+
+                LoadDriver driver = new LoadDriver(target,
+                    Integer.parseInt(options.get("concurrency")),
+                    duration(options.get("warmup")), duration(options.get("duration")),
+                    Integer.parseInt(options.get("list-every")), objectMapper);
+                System.out.printf("Driving %s with %s users: %s warmup, %s measured%n", target,
+                    options.get("concurrency"), options.get("warmup"), options.get("duration"));
+
+                Instant started = Instant.now();
+                List<EndpointStats> results = driver.run();
+                double seconds = duration(options.get("duration")).toMillis() / 1000.0;
+
+                printTable(results, seconds, driver.getCompletedSessions());
+                Path report = Path.of(options.get("report"));
+                objectMapper.writeValue(report.toFile(),
+                    report(objectMapper, options, started, seconds, driver.getCompletedSessions(), results, openai, docling));
+                System.out.println("Report written to " + report.toAbsolutePath());
+            } finally {
+                if (backend != null) {
+                    backend.close();
+                }
+            }
+        }
+    }
+
+    private static StandInBehavior behavior(Map<String, String> options, String prefix) {
+        return new StandInBehavior(
+            LatencyDistribution.parse(options.get(prefix + "-latency")),
+            Double.parseDouble(options.get(prefix + "-error-rate")),
+            Double.parseDouble(options.get(prefix + "-throttle-rate")));
+    }
+
+    private static Duration duration(String value) {
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static void printTable(List<EndpointStats> results, double seconds, long sessions) {
+        System.out.printf("%n%-45s %8s %9s %9s %9s %9s %9s %7s%n",
+            "Endpoint", "Count", "Req/s", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Errors");
+        for (EndpointStats stats : results) {
+            if (stats.getCount() == 0) {
+                continue;
+            }
+            System.out.printf("%-45s %8d %9.2f %9.1f %9.1f %9.1f %9.1f %7d%n",
+                stats.getName(), stats.getCount(), stats.getCount() / seconds,
+                stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99),
+                stats.maxMillis(), stats.getErrorCount());
+        }
+        System.out.printf("%nSessions started: %d (%.2f/s)%n", sessions, sessions / seconds);
+    }
+
+    private static ObjectNode report(ObjectMapper objectMapper, Map<String, String> options, Instant started,
+                                     double seconds, long sessions, List<EndpointStats> results,
+                                     StandInServer... standIns) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("startedAt", started.toString());
+        root.put("measuredSeconds", seconds);
+        root.put("sessions", sessions);
+        root.put("sessionsPerSecond", sessions / seconds);
+        ObjectNode config = root.putObject("options");
+        options.entrySet().stream().sorted(Map.Entry.comparingByKey())
+            .forEach(option -> config.put(option.getKey(), option.getValue()));
+
+        ArrayNode endpoints = root.putArray("endpoints");
+        for (EndpointStats stats : results) {
+            ObjectNode endpoint = endpoints.addObject();
+            endpoint.put("endpoint", stats.getName());
+            endpoint.put("count", stats.getCount());
+            endpoint.put("throughputPerSecond", stats.getCount() / seconds);
+            if (stats.getCount() > 0) {
+                endpoint.put("meanMs", stats.meanMillis());
+                endpoint.put("p50Ms", stats.percentileMillis(50));
+                endpoint.put("p90Ms", stats.percentileMillis(90));
+                endpoint.put("p99Ms", stats.percentileMillis(99));
+                endpoint.put("maxMs", stats.maxMillis());
+            }
+            endpoint.put("errors", stats.getErrorCount());
+            ObjectNode statuses = endpoint.putObject("statusCounts");
+            stats.getStatusCounts().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+        }
+
+        ObjectNode standInsNode = root.putObject("standIns");
+        for (StandInServer standIn : standIns) {
+            ObjectNode node = standInsNode.putObject(standIn.getName());
+            node.put("behavior", standIn.getBehavior().toString());
+            ObjectNode statuses = node.putObject("statusCounts");
+            standIn.getStatusCounts().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+        }
+        return root;
+    }
+}
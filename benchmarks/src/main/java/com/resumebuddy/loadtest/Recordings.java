@@ -0,0 +1,113 @@
+package com.resumebuddy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resumebuddy.benchmark.ResumeFixtures;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Response bodies replayed by the stand-in servers.
+ * Loaded from {@code <dir>/openai/*.json} and {@code <dir>/docling/*.json} when a directory of
+ * captured responses is given, otherwise synthesized from {@link ResumeFixtures}.
+ */
+public final class Recordings {
+
+    /**
+     * One replayable body, tagged with the number of resume lines it describes.
+     */
+    public record Recording(String name, int lineCount, String body) {
+    }
+
+    private final List<Recording> openai;
+    private final List<Recording> docling;
+
+    private Recordings(List<Recording> openai, List<Recording> docling) {
+        if (openai.isEmpty() || docling.isEmpty()) {
+            throw new IllegalArgumentException("Need at least one OpenAI and one Docling recording");
+        }
+        this.openai = openai;
+        this.docling = docling;
+    }
+
+    public List<Recording> getOpenai() {
+        return openai;
+    }
+
+    public List<Recording> getDocling() {
+        return docling;
+    }
+
+    public static Recordings load(Path directory, ObjectMapper objectMapper) throws IOException {
+        List<Recording> openai = new ArrayList<>();
+        for (Path file : jsonFiles(directory.resolve("openai"))) {
+            String body = Files.readString(file);
+            openai.add(new Recording(file.getFileName().toString(), openaiLineCount(body, objectMapper), body));
+        }
+        List<Recording> docling = new ArrayList<>();
+        for (Path file : jsonFiles(directory.resolve("docling"))) {
+            String body = Files.readString(file);
+            String text = objectMapper.readTree(body).path("text").asText("");
+            docling.add(new Recording(file.getFileName().toString(), (int) text.lines().count(), body));
+        }
+        return new Recordings(openai, docling);
+    }
+
+    public static Recordings synthesize(List<Integer> lineCounts, ObjectMapper objectMapper) {
+        List<Recording> openai = new ArrayList<>();
+        List<Recording> docling = new ArrayList<>();
+        for (int lines : lineCounts) {
+            ResumeFixtures.Fixture fixture = ResumeFixtures.generate(lines, objectMapper);
+            openai.add(new Recording("fixture-" + lines, lines, fixture.llmResponse()));
+            docling.add(new Recording("fixture-" + lines, lines, doclingBody(fixture.text(), objectMapper)));
+        }
+        return new Recordings(openai, docling);
+    }
+
+    // Same shape as docling-service/app.py, including sections the backend skips while decoding
+    private static String doclingBody(String text, ObjectMapper objectMapper) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("success", true);
+        root.put("content_type", "application/pdf");
+        root.put("text", text);
+        root.put("markdown", text);
+        ArrayNode structure = root.putArray("structure");
+        text.lines().filter(line -> !line.isBlank()).forEach(line -> {
+            ObjectNode element = structure.addObject();
+            element.put("type", line.startsWith("•") ? "list_item"
+                : line.equals(line.toUpperCase()) ? "section_header" : "text");
+            element.put("text", line);
+        });
+        root.putObject("metadata").put("page_count", 1 + text.length() / 3000);
+        return root.toString();
+    }
+
+    private static int openaiLineCount(String body, ObjectMapper objectMapper) throws IOException {
+        JsonNode content = objectMapper.readTree(objectMapper.readTree(body)
+            .path("choices").path(0).path("message").path("content").asText("{}"));
+        int max = 0;
+        for (JsonNode line : content.path("lineAnalysis")) {
+            max = Math.max(max, line.path("lineNumber").asInt());
+        }
+        return max;
+    }
+
+    private static List<Path> jsonFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".json"))
+                .sorted(Comparator.naturalOrder())
+                .toList();
+        }
+    }
+}
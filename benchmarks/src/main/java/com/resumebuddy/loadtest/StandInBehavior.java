@@ -0,0 +1,18 @@
+package com.resumebuddy.loadtest;
+
+/**
+ * How a stand-in server misbehaves: response delay, share of 500s and share of 429s.
+ */
+public record StandInBehavior(LatencyDistribution latency, double errorRate, double throttleRate) {
+
+    public StandInBehavior {
+        if (errorRate < 0 || throttleRate < 0 || errorRate + throttleRate > 1) {
+            throw new IllegalArgumentException("Error and throttle rates must be between 0 and 1 combined");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latency + ", errorRate=" + errorRate + ", throttleRate=" + throttleRate;
+    }
+}
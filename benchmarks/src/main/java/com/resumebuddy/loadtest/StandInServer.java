@@ -0,0 +1,136 @@
+package com.resumebuddy.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded HTTP server standing in for an external dependency. Subclasses register their
+ * routes; every faultable request is delayed and may be answered with a 500 or 429 instead.
+ */
+public abstract class StandInServer implements AutoCloseable {
+
+    private final String name;
+    private final StandInBehavior behavior;
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    protected StandInServer(String name, StandInBehavior behavior) {
+        this.name = name;
+        this.behavior = behavior;
+    }
+
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 512);
+        // Handlers sleep to simulate latency, so every in-flight request needs its own thread; virtual
+        // threads keep hundreds of concurrent requests cheap, so the stand-ins are never the bottleneck
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-stand-in-", 0).factory());
+        server.setExecutor(executor);
+        registerRoutes(server);
+        server.start();
+    }
+
+    protected abstract void registerRoutes(HttpServer server);
+
+    /**
+     * Delay, then either inject a fault or send the body produced by the route.
+     */
+    protected void respondWithFaults(HttpExchange exchange, ResponseSupplier supplier) throws IOException {
+        try (exchange) {
+            drain(exchange.getRequestBody());
+            Random random = ThreadLocalRandom.current();
+            sleep(behavior.latency().sampleMillis(random));
+
+            double roll = random.nextDouble();
+            if (roll < behavior.throttleRate()) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                sendCounted(exchange, 429, throttledBody());
+            } else if (roll < behavior.throttleRate() + behavior.errorRate()) {
+                sendCounted(exchange, 500, "{\"error\":{\"message\":\"Injected failure\",\"type\":\"server_error\"}}");
+            } else {
+                sendCounted(exchange, 200, supplier.get());
+            }
+        }
+    }
+
+    protected String throttledBody() {
+        return "{\"error\":{\"message\":\"Rate limit reached\",\"type\":\"rate_limit_exceeded\"}}";
+    }
+
+    protected void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sendCounted(HttpExchange exchange, int status, String body) throws IOException {
+        send(exchange, status, body);
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public StandInBehavior getBehavior() {
+        return behavior;
+    }
+
+    /**
+     * Responses sent so far on faultable routes, by HTTP status.
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void drain(InputStream body) throws IOException {
+        body.transferTo(OutputStream.nullOutputStream());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    protected interface ResponseSupplier {
+        String get();
+    }
+}
@@ -0,0 +1,224 @@
+package com.resumebuddy.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup time and time to first request of the backend, per startup mode. Each run launches a
+ * fresh JVM and measures, from process launch: Spring's "process running for" time at startup,
+ * the first 200 from /api/resumes/health, and the first 200 from GET /api/resumes (controller,
+ * repository and connection pool all initialized).
+ *
+ * <pre>
+ * cd backend && mvn -Pfast-startup package -DskipTests
+ * java -cp target/benchmarks.jar com.resumebuddy.loadtest.StartupBenchmark --runs=5 \
+ *     --spring.datasource.url=jdbc:mysql://localhost:3306/resumebuddy_loadtest
+ * </pre>
+ *
+ * Options starting with {@code --spring.} or {@code --app.} are passed on to the backend.
+ */
+public final class StartupBenchmark {
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+        "backend-dir", "../backend/target",
+        "modes", "baseline,lazy,aot,aot-cds",
+        "runs", "5",
+        "backend-port", "18080",
+        "jvm-args", "",
+        "report", "startup-report.json"
+    );
+
+    private static final String PLAIN_JAR = "resume-buddy-api-0.0.1-SNAPSHOT.jar";
+    private static final String EXEC_JAR = "resume-buddy-api-0.0.1-SNAPSHOT-exec.jar";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern PROCESS_RUNNING_FOR = Pattern.compile("process running for ([0-9.]+)\\)");
+
+    /**
+     * How one mode launches the backend: from the executable or the plain jar, with extra JVM and app arguments.
+     */
+    record Mode(String name, boolean plainJar, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    record RunResult(double startedMillis, double firstResponseMillis, double firstQueryMillis) {
+    }
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        List<String> backendArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.") || arg.startsWith("--app.")) {
+                backendArgs.add(arg);
+            } else if (arg.startsWith("--")) {
+                String[] keyValue = arg.substring(2).split("=", 2);
+                options.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "true");
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+
+        Path backendDir = Path.of(options.get("backend-dir"));
+        int runs = Integer.parseInt(options.get("runs"));
+        int port = Integer.parseInt(options.get("backend-port"));
+        List<String> jvmArgs = options.get("jvm-args").isBlank()
+            ? List.of() : Arrays.asList(options.get("jvm-args").trim().split("\\s+"));
+
+        Map<String, List<RunResult>> results = new LinkedHashMap<>();
+        for (String name : options.get("modes").split(",")) {
+            Mode mode = mode(name.trim(), backendDir);
+            List<RunResult> modeResults = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                Path log = Path.of("startup-" + mode.name() + ".log");
+                RunResult result = measure(mode, backendDir, port, jvmArgs, backendArgs, log);
+                System.out.printf("%-10s run %d: started %6.0f ms, first response %6.0f ms, first query %6.0f ms%n",
+                    mode.name(), run, result.startedMillis(), result.firstResponseMillis(), result.firstQueryMillis());
+                modeResults.add(result);
+            }
+            results.put(mode.name(), modeResults);
+        }
+
+        printTable(results);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path report = Path.of(options.get("report"));
+        objectMapper.writeValue(report.toFile(), report(objectMapper, results));
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    static Mode mode(String name, Path backendDir) {
+        List<String> fastStartup = List.of("--spring.profiles.active=fast-startup");
+        return switch (name) {
+            case "baseline" -> new Mode(name, false, List.of(), List.of());
+            case "lazy" -> new Mode(name, false, List.of(), fastStartup);
+            case "aot" -> new Mode(name, true, List.of("-Dspring.aot.enabled=true"), fastStartup);
+            case "aot-cds" -> new Mode(name, true, List.of(
+                "-XX:SharedArchiveFile=" + backendDir.resolve("application.jsa"),
+                "-Dspring.aot.enabled=true"), fastStartup);
+            default -> throw new IllegalArgumentException("Unknown mode " + name + ", expected baseline, lazy, aot or aot-cds");
+        };
+    }
+
+    private static RunResult measure(Mode mode, Path backendDir, int port, List<String> jvmArgs,
+                                     List<String> backendArgs, Path log) throws IOException, InterruptedException {
+        Path jar = backendDir.resolve(mode.plainJar() ? PLAIN_JAR : EXEC_JAR);
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Backend jar not found: " + jar
+                + " (build it with: cd backend && mvn -Pfast-startup package -DskipTests)");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(mode.jvmArgs());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(mode.appArgs());
+        command.addAll(backendArgs);
+
+        String baseUrl = "http://127.0.0.1:" + port;
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        try {
+            double firstResponse = awaitOk(client, process, baseUrl + "/api/resumes/health", launched, log);
+            double firstQuery = awaitOk(client, process, baseUrl + "/api/resumes", launched, log);
+            return new RunResult(startedMillis(log), firstResponse, firstQuery);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static double awaitOk(HttpClient client, Process process, String url, long launched, Path log)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).build();
+        long deadline = launched + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + process.exitValue() + ", see " + log);
+            }
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    return (System.nanoTime() - launched) / 1_000_000.0;
+                }
+                if (status >= 500) {
+                    throw new IllegalStateException(url + " returned " + status + ", see " + log);
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException(url + " did not answer within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    // Spring logs "Started ... in X seconds (process running for Y)"; Y includes JVM startup
+    private static double startedMillis(Path log) throws IOException {
+        Matcher matcher = PROCESS_RUNNING_FOR.matcher(Files.readString(log));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) * 1000 : Double.NaN;
+    }
+
+    private static void printTable(Map<String, List<RunResult>> results) {
+        System.out.printf("%n%-10s %14s %14s %14s   (median of %d runs, ms)%n",
+            "mode", "started", "first response", "first query", results.values().iterator().next().size());
+        results.forEach((mode, runs) -> System.out.printf("%-10s %14.0f %14.0f %14.0f%n", mode,
+            median(runs, RunResult::startedMillis),
+            median(runs, RunResult::firstResponseMillis),
+            median(runs, RunResult::firstQueryMillis)));
+    }
+
+    private static ObjectNode report(ObjectMapper objectMapper, Map<String, List<RunResult>> results) {
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("java", System.getProperty("java.version"));
+        ObjectNode modes = report.putObject("modes");
+        results.forEach((mode, runs) -> {
+            ObjectNode node = modes.putObject(mode);
+            node.put("startedMedianMs", median(runs, RunResult::startedMillis));
+            node.put("firstResponseMedianMs", median(runs, RunResult::firstResponseMillis));
+            node.put("firstQueryMedianMs", median(runs, RunResult::firstQueryMillis));
+            ArrayNode runNodes = node.putArray("runs");
+            for (RunResult run : runs) {
+                runNodes.addObject()
+                    .put("startedMs", run.startedMillis())
+                    .put("firstResponseMs", run.firstResponseMillis())
+                    .put("firstQueryMs", run.firstQueryMillis());
+            }
+        });
+        return report;
+    }
+
+    private static double median(List<RunResult> runs, ToDoubleFunction<RunResult> metric) {
+        double[] values = runs.stream().mapToDouble(metric).sorted().toArray();
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+}
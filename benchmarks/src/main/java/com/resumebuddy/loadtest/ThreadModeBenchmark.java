@@ -0,0 +1,330 @@
+package com.resumebuddy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent analyses per backend instance with request handling on Tomcat's platform thread pool
+ * versus on virtual threads. For each thread mode the backend is started once; for each concurrency
+ * level that many users then upload, parse, analyze and delete a resume in a closed loop, while the
+ * OpenAI stand-in holds every chat completion for a fixed time.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.resumebuddy.loadtest.ThreadModeBenchmark \
+ *     --concurrency=50,200,400 --openai-latency=fixed:2s \
+ *     --spring.datasource.url=jdbc:mysql://localhost:3306/resumebuddy_loadtest
+ * </pre>
+ *
+ * In virtual mode the backend runs with -Djdk.tracePinnedThreads=short and the pinned call sites
+ * it reports are listed. Options starting with {@code --spring.} or {@code --app.} are passed on to the backend.
+ */
+public final class ThreadModeBenchmark {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+        Map.entry("backend-jar", "../backend/target/resume-buddy-api-0.0.1-SNAPSHOT-exec.jar"),
+        Map.entry("backend-port", "18080"),
+        Map.entry("modes", "platform,virtual"),
+        Map.entry("concurrency", "50,200,400"),
+        Map.entry("warmup", "15s"),
+        Map.entry("duration", "60s"),
+        Map.entry("openai-latency", "fixed:2s"),
+        Map.entry("docling-latency", "fixed:50ms"),
+        Map.entry("fixture-lines", "40"),
+        Map.entry("jvm-args", ""),
+        Map.entry("report", "thread-mode-report.json")
+    );
+
+    private static final String API = "/api/resumes";
+    private static final String ANALYZE = "POST /api/resumes/{id}/analyze";
+    private static final String PINNED_FRAME = "<== monitors";
+
+    record LevelResult(int concurrency, EndpointStats analyses, double seconds, int peakThreads) {
+
+        double analysesPerSecond() {
+            return (analyses.getCount() - analyses.getErrorCount()) / seconds;
+        }
+    }
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        List<String> backendArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.") || arg.startsWith("--app.")) {
+                backendArgs.add(arg);
+            } else if (arg.startsWith("--")) {
+                String[] keyValue = arg.substring(2).split("=", 2);
+                options.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "true");
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+
+        List<Integer> levels = Arrays.stream(options.get("concurrency").split(","))
+            .map(String::trim).map(Integer::valueOf).toList();
+        Duration warmup = duration(options.get("warmup"));
+        Duration measured = duration(options.get("duration"));
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Recordings recordings = Recordings.synthesize(Arrays.stream(options.get("fixture-lines").split(","))
+            .map(String::trim).map(Integer::valueOf).toList(), objectMapper);
+        // Only the thread model should limit concurrency: no injected faults, no admission limits, and every
+        // analysis goes to the LLM rather than reusing the identical fixture resume analyzed before
+        StandInBehavior openaiBehavior = new StandInBehavior(LatencyDistribution.parse(options.get("openai-latency")), 0, 0);
+        StandInBehavior doclingBehavior = new StandInBehavior(LatencyDistribution.parse(options.get("docling-latency")), 0, 0);
+        List<String> baseJvmArgs = options.get("jvm-args").isBlank()
+            ? List.of() : Arrays.asList(options.get("jvm-args").trim().split("\\s+"));
+        List<String> commonArgs = new ArrayList<>(List.of("--app.admission.enabled=false",
+            "--app.dedup.reuse-analysis=false"));
+        commonArgs.addAll(backendArgs);
+
+        Map<String, List<LevelResult>> results = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> pinnedSites = new LinkedHashMap<>();
+        try (FakeOpenAiServer openai = new FakeOpenAiServer(openaiBehavior, recordings, objectMapper);
+             FakeDoclingServer docling = new FakeDoclingServer(doclingBehavior, recordings)) {
+            openai.start(0);
+            docling.start(0);
+            System.out.printf("OpenAI stand-in %s, Docling stand-in %s%n", openai.getBehavior(), docling.getBehavior());
+
+            for (String mode : options.get("modes").split(",")) {
+                boolean virtual = switch (mode.trim()) {
+                    case "platform" -> false;
+                    case "virtual" -> true;
+                    default -> throw new IllegalArgumentException("Unknown mode " + mode + ", expected platform or virtual");
+                };
+                List<String> jvmArgs = new ArrayList<>(baseJvmArgs);
+                if (virtual) {
+                    jvmArgs.add("-Djdk.tracePinnedThreads=short");
+                }
+                List<String> modeArgs = new ArrayList<>(commonArgs);
+                modeArgs.add("--spring.threads.virtual.enabled=" + virtual);
+
+                Path log = Path.of("thread-mode-" + mode.trim() + ".log");
+                System.out.println("Starting backend with " + mode.trim() + " threads, log in " + log.toAbsolutePath());
+                try (BackendProcess backend = BackendProcess.start(Path.of(options.get("backend-jar")),
+                        Integer.parseInt(options.get("backend-port")), openai.getBaseUrl(), docling.getBaseUrl(),
+                        jvmArgs, modeArgs, log)) {
+                    Client client = new Client(backend.getBaseUrl(), objectMapper);
+                    List<LevelResult> modeResults = new ArrayList<>();
+                    for (int concurrency : levels) {
+                        LevelResult result = client.run(concurrency, warmup, measured);
+                        System.out.printf("%-8s %4d users: %8.2f analyses/s, p50 %8.1f ms, p99 %8.1f ms, %d errors, %d threads%n",
+                            mode.trim(), concurrency, result.analysesPerSecond(),
+                            result.analyses().percentileMillis(50), result.analyses().percentileMillis(99),
+                            result.analyses().getErrorCount(), result.peakThreads());
+                        modeResults.add(result);
+                    }
+                    results.put(mode.trim(), modeResults);
+                }
+                if (virtual) {
+                    pinnedSites.put(mode.trim(), pinnedSites(log));
+                }
+            }
+        }
+
+        printTable(results, pinnedSites);
+        Path report = Path.of(options.get("report"));
+        objectMapper.writeValue(report.toFile(), report(objectMapper, options, results, pinnedSites));
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    /**
+     * Frames holding a monitor in the pinned-thread stacks the JVM printed, with how many distinct stacks
+     * went through each. The JVM prints every distinct pinned stack once.
+     */
+    static Map<String, Long> pinnedSites(Path log) throws IOException {
+        Map<String, Long> sites = new LinkedHashMap<>();
+        try (Stream<String> lines = Files.lines(log)) {
+            lines.filter(line -> line.contains(PINNED_FRAME))
+                .map(line -> line.substring(0, line.indexOf(PINNED_FRAME)).trim())
+                .forEach(frame -> sites.merge(frame, 1L, Long::sum));
+        }
+        return sites;
+    }
+
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static void printTable(Map<String, List<LevelResult>> results, Map<String, Map<String, Long>> pinnedSites) {
+        System.out.printf("%n%-8s %6s %12s %9s %9s %9s %7s %8s%n",
+            "mode", "users", "analyses/s", "p50 ms", "p90 ms", "p99 ms", "errors", "threads");
+        results.forEach((mode, levels) -> {
+            for (LevelResult level : levels) {
+                EndpointStats analyses = level.analyses();
+                System.out.printf("%-8s %6d %12.2f %9.1f %9.1f %9.1f %7d %8d%n", mode, level.concurrency(),
+                    level.analysesPerSecond(), analyses.percentileMillis(50),
+                    analyses.percentileMillis(90), analyses.percentileMillis(99),
+                    analyses.getErrorCount(), level.peakThreads());
+            }
+        });
+        pinnedSites.forEach((mode, sites) -> {
+            System.out.printf("%nPinned call sites (%s, -Djdk.tracePinnedThreads=short): %s%n", mode,
+                sites.isEmpty() ? "none" : sites.size());
+            sites.forEach((frame, stacks) -> System.out.printf("  %4d  %s%n", stacks, frame));
+        });
+    }
+
+    private static ObjectNode report(ObjectMapper objectMapper, Map<String, String> options,
+                                     Map<String, List<LevelResult>> results, Map<String, Map<String, Long>> pinnedSites) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("java", System.getProperty("java.version"));
+        ObjectNode config = root.putObject("options");
+        options.entrySet().stream().sorted(Map.Entry.comparingByKey())
+            .forEach(option -> config.put(option.getKey(), option.getValue()));
+
+        ObjectNode modes = root.putObject("modes");
+        results.forEach((mode, levels) -> {
+            ObjectNode modeNode = modes.putObject(mode);
+            ArrayNode levelNodes = modeNode.putArray("levels");
+            for (LevelResult level : levels) {
+                EndpointStats analyses = level.analyses();
+                ObjectNode node = levelNodes.addObject();
+                node.put("concurrency", level.concurrency());
+                node.put("analyses", analyses.getCount());
+                node.put("analysesPerSecond", level.analysesPerSecond());
+                if (analyses.getCount() > 0) {
+                    node.put("p50Ms", analyses.percentileMillis(50));
+                    node.put("p90Ms", analyses.percentileMillis(90));
+                    node.put("p99Ms", analyses.percentileMillis(99));
+                    node.put("maxMs", analyses.maxMillis());
+                }
+                node.put("errors", analyses.getErrorCount());
+                node.put("peakLiveThreads", level.peakThreads());
+                ObjectNode statuses = node.putObject("statusCounts");
+                analyses.getStatusCounts().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+            }
+            if (pinnedSites.containsKey(mode)) {
+                ObjectNode sites = modeNode.putObject("pinnedSites");
+                pinnedSites.get(mode).forEach(sites::put);
+            }
+        });
+        return root;
+    }
+
+    /**
+     * HTTP calls against one running backend.
+     */
+    private static final class Client {
+
+        private final String baseUrl;
+        private final ObjectMapper objectMapper;
+        private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        Client(String baseUrl, ObjectMapper objectMapper) {
+            this.baseUrl = baseUrl;
+            this.objectMapper = objectMapper;
+        }
+
+        LevelResult run(int concurrency, Duration warmup, Duration measured) throws Exception {
+            EndpointStats analyses = new EndpointStats(ANALYZE);
+            long deadline = System.nanoTime() + warmup.toNanos() + measured.toNanos();
+            List<Thread> users = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                users.add(Thread.ofVirtual().name("analyze-user-" + i).start(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        session(analyses);
+                    }
+                }));
+            }
+
+            Thread.sleep(warmup.toMillis());
+            analyses.reset();
+            int peakThreads = 0;
+            while (System.nanoTime() < deadline) {
+                peakThreads = Math.max(peakThreads, liveThreads());
+                Thread.sleep(Math.min(1000, Math.max(1, (deadline - System.nanoTime()) / 1_000_000)));
+            }
+            for (Thread user : users) {
+                user.join();
+            }
+            analyses.finish();
+            return new LevelResult(concurrency, analyses, measured.toMillis() / 1000.0, peakThreads);
+        }
+
+        // Each analysis gets a fresh resume, so concurrent users never contend on one resume's rows
+        private void session(EndpointStats analyses) {
+            String id = null;
+            try {
+                HttpResponse<String> upload = send(LoadDriver.uploadRequest(request(API + "/upload")));
+                id = upload.statusCode() == 200 ? objectMapper.readTree(upload.body()).path("id").asText(null) : null;
+                if (id == null || send(post(API + "/" + id + "/parse")).statusCode() != 200) {
+                    return;
+                }
+                long start = System.nanoTime();
+                int status = EndpointStats.NO_RESPONSE;
+                try {
+                    status = send(post(API + "/" + id + "/analyze")).statusCode();
+                } catch (IOException e) {
+                    // Counted as NO_RESPONSE
+                }
+                analyses.record(System.nanoTime() - start, status);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // Upload or parse failed, try again with a new resume
+            } finally {
+                if (id != null) {
+                    try {
+                        send(request(API + "/" + id).DELETE().build());
+                    } catch (IOException | InterruptedException e) {
+                        // Left behind in the load-test database
+                    }
+                }
+            }
+        }
+
+        // Platform threads of the backend JVM; virtual threads are not counted by jvm.threads.live
+        private int liveThreads() {
+            try {
+                HttpResponse<String> response = send(request("/actuator/metrics/jvm.threads.live").GET().build());
+                JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+                return measurements.isEmpty() ? 0 : measurements.get(0).path("value").asInt();
+            } catch (Exception e) {
+                return 0;
+            }
+        }
+
+        private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+
+        private HttpRequest post(String path) {
+            return request(path).POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofMinutes(5));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.resumebuddy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.resumebuddy.benchmark.BenchmarkSupport;
+import com.resumebuddy.benchmark.ResumeFixtures;
+import com.resumebuddy.model.LlmCall;
+import com.resumebuddy.model.Resume;
+import com.resumebuddy.model.ResumeAnalysis;
+import com.resumebuddy.model.ResumeLine;
+import com.resumebuddy.model.dto.LineAnalysisDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prompt assembly, LLM response parsing and structured data mapping for one resume.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class AIAnalysisServiceBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int lines;
+
+    private AIAnalysisService service;
+    private Resume resume;
+    private List<ResumeLine> resumeLines;
+    private Map<Integer, LineAnalysisDto> presetLines;
+    private String llmResponse;
+    private JsonNode structuredData;
+
+    @Setup
+    public void setUp() {
+        service = BenchmarkSupport.newService(AIAnalysisService.class,
+            BenchmarkSupport.OBJECT_MAPPER, BenchmarkSupport.pipelineMetrics());
+        BenchmarkSupport.setField(service, "openaiModel", "gpt-4");
+        service.loadPromptTemplates();
+
+        ResumeFixtures.Fixture fixture = ResumeFixtures.generate(lines, BenchmarkSupport.OBJECT_MAPPER);
+        resume = new Resume();
+        resume.setId("benchmark-resume");
+        resumeLines = ResumeLineService.toResumeLines(resume, fixture.text(), Map.of());
+        llmResponse = fixture.llmResponse();
+        structuredData = fixture.structuredData();
+
+        // Roughly the share the rule-based pre-segmenter labels on a typical resume
+        presetLines = new TreeMap<>();
+        for (ResumeLine line : resumeLines) {
+            if (line.getLineNumber() % 4 == 1) {
+                presetLines.put(line.getLineNumber(),
+                    new LineAnalysisDto(line.getLineNumber(), "EXPERIENCE", line.getLineNumber() / 8, "JOB", null, "HEURISTIC"));
+            }
+        }
+    }
+
+    @Benchmark
+    public String buildAnalysisPrompt() {
+        return service.buildAnalysisPrompt(resumeLines, Map.of());
+    }
+
+    @Benchmark
+    public String buildAnalysisPromptWithPresetLines() {
+        return service.buildAnalysisPrompt(resumeLines, presetLines);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseOpenAIResponse() {
+        return service.parseOpenAIResponse(llmResponse, lines, new LlmCall());
+    }
+
+    @Benchmark
+    public ResumeAnalysis mapStructuredAnalysis() {
+        return service.mapStructuredAnalysis(resume, structuredData);
+    }
+}
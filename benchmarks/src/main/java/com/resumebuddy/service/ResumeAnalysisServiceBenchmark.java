@@ -0,0 +1,74 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.benchmark.BenchmarkSupport;
+import com.resumebuddy.benchmark.ResumeFixtures;
+import com.resumebuddy.model.Resume;
+import com.resumebuddy.model.ResumeAnalysis;
+import com.resumebuddy.model.ResumeAnalysisCertification;
+import com.resumebuddy.model.ResumeAnalysisEducation;
+import com.resumebuddy.model.ResumeAnalysisExperience;
+import com.resumebuddy.model.dto.ResumeAnalysisDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion and free-text date normalization of a mapped analysis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ResumeAnalysisServiceBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int lines;
+
+    private ResumeAnalysisService service;
+    private ResumeAnalysis analysis;
+    private List<String> dates;
+
+    @Setup
+    public void setUp() {
+        AIAnalysisService aiAnalysisService = BenchmarkSupport.newService(AIAnalysisService.class,
+            BenchmarkSupport.OBJECT_MAPPER, BenchmarkSupport.pipelineMetrics());
+        service = BenchmarkSupport.newService(ResumeAnalysisService.class);
+
+        ResumeFixtures.Fixture fixture = ResumeFixtures.generate(lines, BenchmarkSupport.OBJECT_MAPPER);
+        Resume resume = new Resume();
+        resume.setId("benchmark-resume");
+        analysis = aiAnalysisService.mapStructuredAnalysis(resume, fixture.structuredData());
+
+        // Normalized columns are filled on persist, do the same so sorting sees real values
+        analysis.getExperiences().forEach(ResumeAnalysisExperience::normalizeDates);
+        analysis.getEducations().forEach(ResumeAnalysisEducation::normalizeDates);
+        analysis.getCertifications().forEach(ResumeAnalysisCertification::normalizeDates);
+
+        dates = new ArrayList<>();
+        for (ResumeAnalysisExperience experience : analysis.getExperiences()) {
+            dates.add(experience.getStartDate());
+            dates.add(experience.getEndDate());
+            dates.add(experience.getStartDate() + " – " + experience.getEndDate());
+        }
+    }
+
+    @Benchmark
+    public ResumeAnalysisDto convertToDto() {
+        return service.convertToDto(analysis);
+    }
+
+    /**
+     * Replaces the old parseDate sort key, which was superseded by ResumeDateParser.
+     */
+    @Benchmark
+    public void parseDates(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(ResumeDateParser.parseRange(date));
+        }
+    }
+}
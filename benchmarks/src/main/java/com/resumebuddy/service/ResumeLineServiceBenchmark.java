@@ -0,0 +1,58 @@
+package com.resumebuddy.service;
+
+import com.resumebuddy.benchmark.BenchmarkSupport;
+import com.resumebuddy.benchmark.ResumeFixtures;
+import com.resumebuddy.model.Resume;
+import com.resumebuddy.model.ResumeLine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting parsed text into line entities, as done by processResumeLines and saveParsedResume.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ResumeLineServiceBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int lines;
+
+    private Resume resume;
+    private String text;
+    private Map<String, String> layoutLabels;
+
+    @Setup
+    public void setUp() {
+        text = ResumeFixtures.generate(lines, BenchmarkSupport.OBJECT_MAPPER).text();
+        resume = new Resume();
+        resume.setId("benchmark-resume");
+
+        // Docling labels headers and bullets, include them so the lookup path is exercised
+        layoutLabels = new HashMap<>();
+        for (String line : text.split("\n")) {
+            if (line.startsWith("•")) {
+                layoutLabels.put(LinePreSegmenter.layoutKey(line), "list_item");
+            } else if (!line.isEmpty() && line.equals(line.toUpperCase())) {
+                layoutLabels.put(LinePreSegmenter.layoutKey(line), "section_header");
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ResumeLine> toResumeLines() {
+        return ResumeLineService.toResumeLines(resume, text, Map.of());
+    }
+
+    @Benchmark
+    public List<ResumeLine> toResumeLinesWithLayoutLabels() {
+        return ResumeLineService.toResumeLines(resume, text, layoutLabels);
+    }
+}
@@ -0,0 +1,171 @@
+package com.resumebuddy.service.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost of one batch line update request (PUT /api/resumes/{id}/lines/batch with 20 lines)
+ * under the default configuration and the prod profile. The log calls mirror what Spring MVC,
+ * the controller, the service and Hibernate emit for that request; output goes to a temp file.
+ * "dev" is synchronous with DEBUG application logs, SQL at DEBUG and binds at TRACE;
+ * "prod" is asynchronous at INFO, with SQL and binds logged for 1 request in 100.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Threads(4)
+public class LoggingModeBenchmark {
+
+    private static final String PATTERN =
+        "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+    private static final int LINES = 20;
+    private static final int SQL_SAMPLE_EVERY = 100;
+    private static final String RESUME_ID = "6f1c2a9e-3b7d-4e55-9a0c-2d8e4b1f7a63";
+
+    @Param({"dev", "prod"})
+    public String mode;
+
+    private LoggerContext context;
+    private Path logFile;
+
+    private Logger dispatcher;
+    private Logger handlerMapping;
+    private Logger messageConverter;
+    private Logger controller;
+    private Logger service;
+    private Logger sql;
+    private Logger bind;
+
+    @State(Scope.Thread)
+    public static class RequestCounter {
+        int requests;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if ("prod".equals(mode)) {
+            // Same settings as logback-spring.xml
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC_FILE");
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+
+            RequestLogTurboFilter turboFilter = new RequestLogTurboFilter();
+            turboFilter.setContext(context);
+            turboFilter.addSqlLogger("org.hibernate.SQL");
+            turboFilter.addSqlLogger("org.hibernate.orm.jdbc.bind");
+            turboFilter.addEscalatedLogger("com.resumebuddy");
+            turboFilter.addEscalatedLogger("org.springframework.web");
+            turboFilter.start();
+            context.addTurboFilter(turboFilter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        boolean dev = "dev".equals(mode);
+        context.getLogger("com.resumebuddy").setLevel(dev ? Level.DEBUG : Level.INFO);
+        context.getLogger("org.springframework.web").setLevel(dev ? Level.DEBUG : Level.INFO);
+        context.getLogger("org.hibernate.SQL").setLevel(dev ? Level.DEBUG : Level.INFO);
+        context.getLogger("org.hibernate.orm.jdbc.bind").setLevel(dev ? Level.TRACE : Level.INFO);
+
+        dispatcher = context.getLogger("org.springframework.web.servlet.DispatcherServlet");
+        handlerMapping = context.getLogger("org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping");
+        messageConverter = context.getLogger("org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor");
+        controller = context.getLogger("com.resumebuddy.controller.ResumeLineController");
+        service = context.getLogger("com.resumebuddy.service.ResumeLineService");
+        sql = context.getLogger("org.hibernate.SQL");
+        bind = context.getLogger("org.hibernate.orm.jdbc.bind");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void batchUpdateRequest(RequestCounter counter) {
+        boolean sampled = "prod".equals(mode) && counter.requests++ % SQL_SAMPLE_EVERY == 0;
+        if (sampled) {
+            MDC.put(RequestLogTurboFilter.MDC_KEY, RequestLogTurboFilter.MODE_SQL);
+        }
+        try {
+            logRequest();
+        } finally {
+            if (sampled) {
+                MDC.remove(RequestLogTurboFilter.MDC_KEY);
+            }
+        }
+    }
+
+    private void logRequest() {
+        dispatcher.debug("PUT \"/api/resumes/{}/lines/batch\", parameters={}", RESUME_ID, "{}");
+        handlerMapping.debug("Mapped to com.resumebuddy.controller.ResumeLineController#updateMultipleLines(String, List)");
+        controller.info("Batch updating {} lines for resume ID: {}", LINES, RESUME_ID);
+        service.info("Updating {} lines for resume ID: {}", LINES, RESUME_ID);
+
+        statement("select r1_0.id,r1_0.content_type,r1_0.created_at,r1_0.file_path,r1_0.filename,r1_0.status from resumes r1_0 where r1_0.id=?",
+            RESUME_ID);
+        statement("delete from resume_lines where resume_id=?", RESUME_ID);
+        service.debug("Deleted all existing lines for resume ID: {}", RESUME_ID);
+        for (int line = 1; line <= LINES; line++) {
+            statement("insert into resume_lines (content,created_at,line_number,resume_id,section_type,id) values (?,?,?,?,?,?)",
+                "Led migration of the billing platform to event-driven services, cutting latency by 40%",
+                "2024-01-01T10:00:00", line, RESUME_ID, null, line);
+        }
+
+        service.info("Successfully replaced with {} lines for resume ID: {}", LINES, RESUME_ID);
+        messageConverter.debug("Using 'application/json', given [*/*] and supported [application/json]");
+        dispatcher.debug("Completed 200 OK");
+    }
+
+    // Hibernate checks the level before formatting statements and bind values
+    private void statement(String statement, Object... binds) {
+        if (sql.isDebugEnabled()) {
+            sql.debug(statement);
+        }
+        if (bind.isTraceEnabled()) {
+            for (int i = 0; i < binds.length; i++) {
+                bind.trace("binding parameter ({}:{}) <- [{}]", i + 1, "VARCHAR", binds[i]);
+            }
+        }
+    }
+}
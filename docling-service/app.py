@@ -7,7 +7,7 @@ FastAPI service that provides document parsing via HTTP
 import os
 os.environ["HF_HUB_DISABLE_SYMLINKS_WARNING"] = "1"
 
-from fastapi import FastAPI, File, UploadFile, HTTPException
+from fastapi import FastAPI, File, UploadFile, HTTPException, Query
 from fastapi.responses import JSONResponse
 from pydantic import BaseModel
 import tempfile
@@ -16,7 +16,7 @@ from pathlib import Path
 import json
 import requests
 import logging
-from typing import Dict, Any
+from typing import Dict, Any, List, Optional
 import html
 
 # Configure logging
@@ -31,6 +31,93 @@ app = FastAPI(title="Docling Resume Parser", version="1.0.0")
 # Initialize converter
 converter = DocumentConverter()
 
+# Optional OpenTelemetry tracing, joined to the backend's trace through the traceparent header.
+# Enabled by OTEL_EXPORTER_OTLP_ENDPOINT; also traces the loopback fetch in /parse-url.
+tracer = None
+if os.environ.get("OTEL_EXPORTER_OTLP_ENDPOINT"):
+    from opentelemetry import trace
+    from opentelemetry.sdk.resources import Resource
+    from opentelemetry.sdk.trace import TracerProvider
+    from opentelemetry.sdk.trace.export import BatchSpanProcessor
+    from opentelemetry.exporter.otlp.proto.http.trace_exporter import OTLPSpanExporter
+    from opentelemetry.instrumentation.fastapi import FastAPIInstrumentor
+    from opentelemetry.instrumentation.requests import RequestsInstrumentor
+
+    provider = TracerProvider(resource=Resource.create({
+        "service.name": os.environ.get("OTEL_SERVICE_NAME", "docling-service")
+    }))
+    provider.add_span_processor(BatchSpanProcessor(OTLPSpanExporter()))
+    trace.set_tracer_provider(provider)
+    FastAPIInstrumentor.instrument_app(app, excluded_urls="health")
+    RequestsInstrumentor().instrument()
+    tracer = trace.get_tracer("docling-service")
+    logger.info("OpenTelemetry tracing enabled")
+
+def convert_document(path: str):
+    """Run Docling conversion, in its own span when tracing is enabled"""
+    if tracer is None:
+        return converter.convert(path)
+    with tracer.start_as_current_span("docling.convert") as span:
+        span.set_attribute("docling.file_suffix", Path(path).suffix)
+        return converter.convert(path)
+
+# Response fields returned when the client does not ask for a subset
+ALL_FIELDS = {"text", "markdown", "metadata", "structure", "tables"}
+
+def parse_fields(fields) -> set:
+    """Normalize the requested field list; None or empty means everything"""
+    if not fields:
+        return ALL_FIELDS
+    if isinstance(fields, str):
+        fields = fields.split(",")
+    return {f.strip() for f in fields if f.strip()}
+
+def build_parsed_data(doc, fields: set, base: Dict[str, Any]) -> Dict[str, Any]:
+    """Build the parse response, only exporting the sections the client asked for"""
+    parsed_data = dict(base)
+    parsed_data["success"] = True
+
+    # Extract text and decode HTML entities (&amp; -> &, &lt; -> <, etc.)
+    decoded_text = ""
+    if "text" in fields or "metadata" in fields:
+        raw_text = doc.export_to_text()
+        decoded_text = html.unescape(raw_text) if raw_text else ""
+    if "text" in fields:
+        parsed_data["text"] = decoded_text
+
+    if "markdown" in fields:
+        raw_markdown = doc.export_to_markdown()
+        parsed_data["markdown"] = html.unescape(raw_markdown) if raw_markdown else ""
+
+    if "metadata" in fields:
+        parsed_data["metadata"] = {
+            "title": getattr(doc, 'title', ''),
+            "pages": len(doc.pages) if hasattr(doc, 'pages') else 1,
+            "word_count": len(decoded_text.split()) if decoded_text else 0
+        }
+
+    # Extract structural elements
+    if "structure" in fields:
+        parsed_data["structure"] = []
+        if hasattr(doc, 'texts'):
+            for element in doc.texts:
+                element_text = element.text if hasattr(element, 'text') else str(element)
+                parsed_data["structure"].append({
+                    "type": element.label if hasattr(element, 'label') else 'text',
+                    "text": html.unescape(element_text),
+                    "confidence": getattr(element, 'confidence', 1.0)
+                })
+
+    # Extract tables if available
+    if "tables" in fields and hasattr(doc, 'tables'):
+        parsed_data["tables"] = []
+        for table in doc.tables:
+            parsed_data["tables"].append({
+                "rows": table.export_to_dataframe().to_dict('records') if hasattr(table, 'export_to_dataframe') else []
+            })
+
+    return parsed_data
+
 @app.get("/health")
 async def health_check():
     return {
@@ -46,8 +133,9 @@ async def debug_url_request(request: dict):
     return {"received": request, "type": type(request).__name__}
 
 @app.post("/parse")
-async def parse_document(file: UploadFile = File(...)):
-    """Parse uploaded document and return structured content"""
+async def parse_document(file: UploadFile = File(...), fields: Optional[str] = Query(None)):
+    """Parse uploaded document and return structured content.
+    `fields` is a comma separated subset of text, markdown, metadata, structure, tables."""
 
 
     # Validate file type
@@ -66,49 +154,13 @@ async def parse_document(file: UploadFile = File(...)):
 
     try:
         # Parse with Docling
-        result = converter.convert(temp_file_path)
+        result = convert_document(temp_file_path)
         doc = result.document
 
-        # Extract text and decode HTML entities
-        raw_text = doc.export_to_text()
-        raw_markdown = doc.export_to_markdown()
-
-        # Decode HTML entities (&amp; -> &, &lt; -> <, etc.)
-        decoded_text = html.unescape(raw_text) if raw_text else ""
-        decoded_markdown = html.unescape(raw_markdown) if raw_markdown else ""
-
-        # Extract structured content
-        parsed_data = {
-            "success": True,
+        parsed_data = build_parsed_data(doc, parse_fields(fields), {
             "filename": file.filename,
-            "content_type": file.content_type,
-            "text": decoded_text,
-            "markdown": decoded_markdown,
-            "metadata": {
-                "title": getattr(doc, 'title', ''),
-                "pages": len(doc.pages) if hasattr(doc, 'pages') else 1,
-                "word_count": len(decoded_text.split()) if decoded_text else 0
-            },
-            "structure": []
-        }
-
-        # Extract structural elements
-        if hasattr(doc, 'texts'):
-            for element in doc.texts:
-                element_text = element.text if hasattr(element, 'text') else str(element)
-                parsed_data["structure"].append({
-                    "type": element.label if hasattr(element, 'label') else 'text',
-                    "text": html.unescape(element_text),
-                    "confidence": getattr(element, 'confidence', 1.0)
-                })
-
-        # Extract tables if available
-        if hasattr(doc, 'tables'):
-            parsed_data["tables"] = []
-            for table in doc.tables:
-                parsed_data["tables"].append({
-                    "rows": table.export_to_dataframe().to_dict('records') if hasattr(table, 'export_to_dataframe') else []
-                })
+            "content_type": file.content_type
+        })
 
         return JSONResponse(content=parsed_data)
 
@@ -136,7 +188,7 @@ async def parse_text_only(file: UploadFile = File(...)):
         temp_file_path = temp_file.name
 
     try:
-        result = converter.convert(temp_file_path)
+        result = convert_document(temp_file_path)
         doc = result.document
 
         # Decode HTML entities
@@ -160,6 +212,8 @@ async def parse_text_only(file: UploadFile = File(...)):
 
 class FileUrlRequest(BaseModel):
     file_url: str
+    # Subset of response sections to export; all of them when omitted
+    fields: Optional[List[str]] = None
 
 @app.post("/parse-url")
 async def parse_document_from_url(request: FileUrlRequest):
@@ -208,50 +262,14 @@ async def parse_document_from_url(request: FileUrlRequest):
 
         # Parse with Docling
         logger.info("Starting Docling conversion...")
-        result = converter.convert(temp_file_path)
+        result = convert_document(temp_file_path)
         doc = result.document
         logger.info("Docling conversion completed successfully")
 
-        # Extract text and decode HTML entities
-        raw_text = doc.export_to_text()
-        raw_markdown = doc.export_to_markdown()
-
-        # Decode HTML entities (&amp; -> &, &lt; -> <, etc.)
-        decoded_text = html.unescape(raw_text) if raw_text else ""
-        decoded_markdown = html.unescape(raw_markdown) if raw_markdown else ""
-
-        # Extract structured content (same as original parse endpoint)
-        parsed_data = {
-            "success": True,
+        parsed_data = build_parsed_data(doc, parse_fields(request.fields), {
             "file_url": file_url,
-            "content_type": content_type,
-            "text": decoded_text,
-            "markdown": decoded_markdown,
-            "metadata": {
-                "title": getattr(doc, 'title', ''),
-                "pages": len(doc.pages) if hasattr(doc, 'pages') else 1,
-                "word_count": len(decoded_text.split()) if decoded_text else 0
-            },
-            "structure": []
-        }
-
-        # Extract structural elements
-        if hasattr(doc, 'texts'):
-            for element in doc.texts:
-                element_text = element.text if hasattr(element, 'text') else str(element)
-                parsed_data["structure"].append({
-                    "type": element.label if hasattr(element, 'label') else 'text',
-                    "text": html.unescape(element_text),
-                    "confidence": getattr(element, 'confidence', 1.0)
-                })
-
-        # Extract tables if available
-        if hasattr(doc, 'tables'):
-            parsed_data["tables"] = []
-            for table in doc.tables:
-                parsed_data["tables"].append({
-                    "rows": table.export_to_dataframe().to_dict('records') if hasattr(table, 'export_to_dataframe') else []
-                })
+            "content_type": content_type
+        })
 
         logger.info("Successfully created parsed data response")
         return JSONResponse(content=parsed_data)
@@ -25,6 +25,7 @@ export default function FileUploader({ onFileSelect, disabled = false }: FileUpl
       'application/pdf': ['.pdf'],
       'application/vnd.openxmlformats-officedocument.wordprocessingml.document': ['.docx'],
       'text/plain': ['.txt'],
+      'text/markdown': ['.md'],
     },
     maxFiles: 1,
     disabled,
@@ -64,7 +65,7 @@ export default function FileUploader({ onFileSelect, disabled = false }: FileUpl
               Drag & drop your resume here, or click to select
             </p>
             <p className="text-sm text-gray-500">
-              Supports PDF, DOCX, and TXT files
+              Supports PDF, DOCX, TXT, and Markdown files
             </p>
           </>
         )}